@@ -0,0 +1,63 @@
+package edu.kit.ukzgk.exactDecimal;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link CharSequence} view of a range of ASCII encoded bytes in a {@link ByteBuffer}. It allows parsing numbers
+ * directly from byte data without decoding them into {@link String}s first.<br>
+ * The view uses absolute indices only, so the position and limit of the buffer are not changed.
+ * 
+ * @author Florian Gilges
+ * @version 201711090317
+ */
+final class AsciiCharSequence implements CharSequence {
+	private final ByteBuffer buffer;
+	private final int offset;
+	private final int length;
+	
+	/**
+	 * Creates a view of {@code length} bytes of {@code buffer}, starting at the absolute index {@code offset}.
+	 * 
+	 * @param buffer
+	 *            The buffer holding the bytes.
+	 * @param offset
+	 *            The absolute index of the first byte.
+	 * @param length
+	 *            The number of bytes.
+	 */
+	AsciiCharSequence (ByteBuffer buffer, int offset, int length) {
+		this.buffer = buffer;
+		this.offset = offset;
+		this.length = length;
+	}
+	
+	@Override
+	public int length () {
+		return this.length;
+	}
+	
+	@Override
+	public char charAt (int index) {
+		if (index < 0 || index >= this.length) {
+			throw new IndexOutOfBoundsException();
+		}
+		return (char) (this.buffer.get(this.offset + index) & 0xFF);
+	}
+	
+	@Override
+	public CharSequence subSequence (int start, int end) {
+		if (start < 0 || end > this.length || start > end) {
+			throw new IndexOutOfBoundsException();
+		}
+		return new AsciiCharSequence(this.buffer, this.offset + start, end - start);
+	}
+	
+	@Override
+	public String toString () {
+		StringBuilder builder = new StringBuilder(this.length);
+		for (int i = 0; i < this.length; i++) {
+			builder.append(this.charAt(i));
+		}
+		return builder.toString();
+	}
+}
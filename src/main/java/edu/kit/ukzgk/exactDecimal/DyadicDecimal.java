@@ -0,0 +1,710 @@
+package edu.kit.ukzgk.exactDecimal;
+
+import java.math.BigInteger;
+
+/**
+ * The {@link DyadicDecimal} class is a data type for dyadic rationals, numbers of the form
+ * <code>mantissa &times; 2<sup>exponent</sup></code>. Every finite {@code double} is such a number, as are all sums,
+ * differences and products of them. Therefore {@link #add(DyadicDecimal)}, {@link #subtract(DyadicDecimal)} and
+ * {@link #multiply(DyadicDecimal)} are exact without ever computing a greatest common divisor: the operands are only
+ * aligned by shifting. Quotients are generally not dyadic, so {@link #divide(DyadicDecimal)} returns an
+ * {@link ExactDecimal}, while {@link #divideDown(DyadicDecimal, int)} and {@link #divideUp(DyadicDecimal, int)} return
+ * enclosing bounds.<br>
+ * Instances are immutable. The mantissa is kept odd (or zero), so every value has exactly one representation. It is
+ * stored in a {@code long} if it fits and in a {@link BigInteger} otherwise. Special values (infinities and NaN) behave
+ * like in {@link ExactDecimal}.
+ * 
+ * @author Florian Gilges
+ * @version 201711090317
+ */
+public class DyadicDecimal implements Comparable<DyadicDecimal> {
+	/**
+	 * The exponent marking the special values. Finite values have smaller exponents.
+	 */
+	private static final int SPECIAL_EXPONENT = Integer.MAX_VALUE;
+	
+	/**
+	 * Zero constant. Equal to: {@code new DyadicDecimal(0)}
+	 */
+	public static final DyadicDecimal ZERO = new DyadicDecimal(0);
+	/**
+	 * One constant. Equal to: {@code new DyadicDecimal(1)}
+	 */
+	public static final DyadicDecimal ONE = new DyadicDecimal(1);
+	/**
+	 * Two constant. Equal to: {@code new DyadicDecimal(2)}
+	 */
+	public static final DyadicDecimal TWO = new DyadicDecimal(2);
+	/**
+	 * Eight constant. Equal to: {@code new DyadicDecimal(8)}
+	 */
+	public static final DyadicDecimal EIGHT = new DyadicDecimal(8);
+	/**
+	 * Ten constant. Equal to: {@code new DyadicDecimal(10)}
+	 */
+	public static final DyadicDecimal TEN = new DyadicDecimal(10);
+	/**
+	 * Sixteen constant. Equal to: {@code new DyadicDecimal(16)}
+	 */
+	public static final DyadicDecimal SIXTEEN = new DyadicDecimal(16);
+	/**
+	 * Positive infinity constant. Equal to: {@code new DyadicDecimal(Double.POSITIVE_INFINITY)}
+	 */
+	public static final DyadicDecimal POSITIVE_INFINITY = new DyadicDecimal(null, 1L, SPECIAL_EXPONENT);
+	/**
+	 * Negative infinity constant. Equal to: {@code new DyadicDecimal(Double.NEGATIVE_INFINITY)}
+	 */
+	public static final DyadicDecimal NEGATIVE_INFINITY = new DyadicDecimal(null, -1L, SPECIAL_EXPONENT);
+	/**
+	 * NaN (not a number) constant. Evaluates where no finite nor infinite value can be calculated, like in
+	 * {@link ExactDecimal#NOT_A_NUMBER}.
+	 */
+	public static final DyadicDecimal NOT_A_NUMBER = new DyadicDecimal(null, 0L, SPECIAL_EXPONENT);
+	
+	/**
+	 * The odd mantissa, if it does not fit into {@link #compactMantissa}. If this is {@code null}, the mantissa is
+	 * stored in compact form.
+	 */
+	private final BigInteger mantissa;
+	/**
+	 * The mantissa of the compact form. Only valid if {@link #mantissa} is {@code null}. It is odd, or {@code 0} for
+	 * zero. For special values it is the sign, where {@code 0} encodes NaN.
+	 */
+	private final long compactMantissa;
+	/**
+	 * The power of two, the mantissa is multiplied with. It is {@code 0} for zero and {@link #SPECIAL_EXPONENT} for
+	 * special values.
+	 */
+	private final int exponent;
+	/**
+	 * Cache for {@link #hashCode()}, {@code 0} if not computed yet. Races are harmless, because every thread computes
+	 * the same value.
+	 */
+	private int hash;
+	
+	/**
+	 * Constructor for creating the value {@code mantissa * 2^exponent}.
+	 * 
+	 * @param mantissa
+	 *            The mantissa, which does not need to be odd.
+	 * @param exponent
+	 *            The power of two.
+	 * @throws ArithmeticException
+	 *             If the normalised exponent does not fit into an {@code int}.
+	 */
+	public DyadicDecimal (long mantissa, int exponent) {
+		this(DyadicDecimal.of(mantissa, exponent));
+	}
+	
+	/**
+	 * Constructor for creating the value {@code mantissa * 2^exponent}.
+	 * 
+	 * @param mantissa
+	 *            The mantissa, which does not need to be odd.
+	 * @param exponent
+	 *            The power of two.
+	 * @throws ArithmeticException
+	 *             If the normalised exponent does not fit into an {@code int}.
+	 */
+	public DyadicDecimal (BigInteger mantissa, int exponent) {
+		this(DyadicDecimal.of(mantissa, exponent));
+	}
+	
+	/**
+	 * Simple constructor, creating a {@link DyadicDecimal} from a {@link Long}.
+	 * 
+	 * @param value
+	 *            The value of the new instance.
+	 */
+	public DyadicDecimal (long value) {
+		this(DyadicDecimal.of(value, 0));
+	}
+	
+	/**
+	 * Simple constructor, creating a {@link DyadicDecimal} with the exact value of a {@link Double}. The mantissa and
+	 * exponent are taken from the bits of the {@code double}.
+	 * 
+	 * @param value
+	 *            The value of the new instance.
+	 */
+	public DyadicDecimal (double value) {
+		this(DyadicDecimal.fromDouble(value));
+	}
+	
+	private DyadicDecimal (DyadicDecimal value) {
+		this(value.mantissa, value.compactMantissa, value.exponent);
+	}
+	
+	private DyadicDecimal (BigInteger mantissa, long compactMantissa, int exponent) {
+		this.mantissa = mantissa;
+		this.compactMantissa = compactMantissa;
+		this.exponent = exponent;
+	}
+	
+	/**
+	 * Converts an {@link ExactDecimal} into a {@link DyadicDecimal}.
+	 * 
+	 * @param value
+	 *            The value to convert.
+	 * @return The same value as {@link DyadicDecimal}.
+	 * @throws ArithmeticException
+	 *             If the denominator of the reduced value is not a power of two.
+	 */
+	public static DyadicDecimal valueOf (ExactDecimal value) {
+		if (value.isNaN()) {
+			return NOT_A_NUMBER;
+		} else if (value.isInfinite()) {
+			return value.signum() > 0 ? POSITIVE_INFINITY : NEGATIVE_INFINITY;
+		}
+		ExactDecimal reduced = value.eager();
+		if (reduced.isCompact()) {
+			long denominator = reduced.compactDenominator();
+			if ((denominator & (denominator - 1)) == 0) {
+				return of(reduced.compactNumerator(), -Long.numberOfTrailingZeros(denominator));
+			}
+		} else if (reduced.bigDenominator().bitCount() == 1) {
+			return of(reduced.bigNumerator(), -reduced.bigDenominator().getLowestSetBit());
+		}
+		throw new ArithmeticException("Not a dyadic rational: " + value);
+	}
+	
+	/**
+	 * Creates the value {@code mantissa * 2^exponent}, stripping the trailing zeros of the mantissa.
+	 * 
+	 * @param mantissa
+	 *            The mantissa.
+	 * @param exponent
+	 *            The power of two.
+	 * @return The normalised value.
+	 * @throws ArithmeticException
+	 *             If the normalised exponent does not fit into an {@code int}.
+	 */
+	private static DyadicDecimal of (long mantissa, long exponent) {
+		if (mantissa == 0) {
+			return new DyadicDecimal(null, 0L, 0);
+		}
+		int zeros = Long.numberOfTrailingZeros(mantissa);
+		return new DyadicDecimal(null, mantissa >> zeros, checkExponent(exponent + zeros));
+	}
+	
+	/**
+	 * Creates the value {@code mantissa * 2^exponent}, stripping the trailing zeros of the mantissa. The compact form
+	 * is used if possible.
+	 * 
+	 * @param mantissa
+	 *            The mantissa.
+	 * @param exponent
+	 *            The power of two.
+	 * @return The normalised value.
+	 * @throws ArithmeticException
+	 *             If the normalised exponent does not fit into an {@code int}.
+	 */
+	private static DyadicDecimal of (BigInteger mantissa, long exponent) {
+		if (mantissa.bitLength() < 64) {
+			return of(mantissa.longValue(), exponent);
+		}
+		int zeros = mantissa.getLowestSetBit();
+		mantissa = mantissa.shiftRight(zeros);
+		if (mantissa.bitLength() < 64) {
+			return new DyadicDecimal(null, mantissa.longValue(), checkExponent(exponent + zeros));
+		}
+		return new DyadicDecimal(mantissa, 0L, checkExponent(exponent + zeros));
+	}
+	
+	private static int checkExponent (long exponent) {
+		if (exponent < Integer.MIN_VALUE || exponent >= SPECIAL_EXPONENT) {
+			throw new ArithmeticException("Exponent out of range: " + exponent);
+		}
+		return (int) exponent;
+	}
+	
+	/**
+	 * Creates the exact value of a {@code double} from its bits.
+	 * 
+	 * @param value
+	 *            The {@code double} to convert.
+	 * @return The same value as {@link DyadicDecimal}.
+	 */
+	private static DyadicDecimal fromDouble (double value) {
+		if (Double.isNaN(value)) {
+			return NOT_A_NUMBER;
+		} else if (Double.isInfinite(value)) {
+			return value > 0 ? POSITIVE_INFINITY : NEGATIVE_INFINITY;
+		}
+		long valueBits = Double.doubleToRawLongBits(value);
+		int biasedExponent = (int) (valueBits >>> 52) & 0x7ff;
+		long significand = valueBits & 0xfffffffffffffL;
+		if (biasedExponent == 0) {
+			// subnormal, no implicit leading bit
+			biasedExponent = 1;
+		} else {
+			significand |= 1L << 52;
+		}
+		return of(valueBits < 0 ? -significand : significand, biasedExponent - 1075);
+	}
+	
+	/**
+	 * Returns whether the mantissa is stored in compact form.
+	 */
+	private boolean isCompact () {
+		return this.mantissa == null;
+	}
+	
+	private BigInteger bigMantissa () {
+		return this.isCompact() ? BigInteger.valueOf(this.compactMantissa) : this.mantissa;
+	}
+	
+	/**
+	 * Returns the odd mantissa of the value, {@code 0} for zero.
+	 * 
+	 * @return The mantissa.
+	 * @throws ArithmeticException
+	 *             If the value is infinite or NaN.
+	 */
+	public BigInteger getMantissa () {
+		if (!this.isFinite()) {
+			throw new ArithmeticException("No mantissa: " + this);
+		}
+		return this.bigMantissa();
+	}
+	
+	/**
+	 * Returns the power of two, the mantissa is multiplied with. It is {@code 0} for zero.
+	 * 
+	 * @return The exponent.
+	 * @throws ArithmeticException
+	 *             If the value is infinite or NaN.
+	 */
+	public int getExponent () {
+		if (!this.isFinite()) {
+			throw new ArithmeticException("No exponent: " + this);
+		}
+		return this.exponent;
+	}
+	
+	/**
+	 * Adds the given {@link DyadicDecimal} to this one. The operands are aligned by shifting the one with the larger
+	 * exponent, no greatest common divisor is needed.
+	 * 
+	 * @param a
+	 *            The {@link DyadicDecimal} to add.
+	 * @return A new instance containing the result.
+	 * @throws ArithmeticException
+	 *             If the exponent of the result does not fit into an {@code int}.
+	 */
+	public DyadicDecimal add (DyadicDecimal a) {
+		return this.sum(a, false);
+	}
+	
+	/**
+	 * Subtracts the given {@link DyadicDecimal} from this one, see {@link #add(DyadicDecimal)}.
+	 * 
+	 * @param a
+	 *            The {@link DyadicDecimal} to subtract.
+	 * @return A new instance containing the result.
+	 * @throws ArithmeticException
+	 *             If the exponent of the result does not fit into an {@code int}.
+	 */
+	public DyadicDecimal subtract (DyadicDecimal a) {
+		return this.sum(a, true);
+	}
+	
+	private DyadicDecimal sum (DyadicDecimal a, boolean subtract) {
+		if (this.isNaN() || a.isNaN()) {
+			return NOT_A_NUMBER;
+		}
+		int signA = subtract ? -a.signum() : a.signum();
+		if (this.isInfinite() || a.isInfinite()) {
+			if (this.isInfinite() && a.isInfinite() && this.signum() != signA) {
+				// +inf - inf
+				return NOT_A_NUMBER;
+			}
+			return (this.isInfinite() ? this.signum() : signA) > 0 ? POSITIVE_INFINITY : NEGATIVE_INFINITY;
+		}
+		if (signA == 0) {
+			return this;
+		} else if (this.signum() == 0) {
+			return subtract ? a.negate() : a;
+		}
+		
+		long exponent = Math.min(this.exponent, a.exponent);
+		long shiftThis = this.exponent - exponent;
+		long shiftA = a.exponent - exponent;
+		// overflow is ruled out by the bit lengths beforehand, as exceptions are too expensive for the common case
+		if (this.isCompact() && a.isCompact() && this.bitLength() + shiftThis < 63 && a.bitLength() + shiftA < 63) {
+			long mantissaThis = this.compactMantissa << shiftThis;
+			long mantissaA = a.compactMantissa << shiftA;
+			return of(subtract ? mantissaThis - mantissaA : mantissaThis + mantissaA, exponent);
+		}
+		BigInteger mantissaThis = this.bigMantissa().shiftLeft(Math.toIntExact(shiftThis));
+		BigInteger mantissaA = a.bigMantissa().shiftLeft(Math.toIntExact(shiftA));
+		return of(subtract ? mantissaThis.subtract(mantissaA) : mantissaThis.add(mantissaA), exponent);
+	}
+	
+	/**
+	 * Multiplies this {@link DyadicDecimal} with the given one. The mantissas are multiplied and the exponents added.
+	 * 
+	 * @param a
+	 *            The {@link DyadicDecimal} to multiply with.
+	 * @return A new instance containing the result.
+	 * @throws ArithmeticException
+	 *             If the exponent of the result does not fit into an {@code int}.
+	 */
+	public DyadicDecimal multiply (DyadicDecimal a) {
+		if (this.isNaN() || a.isNaN()) {
+			return NOT_A_NUMBER;
+		}
+		int sign = this.signum() * a.signum();
+		if (this.isInfinite() || a.isInfinite()) {
+			// 0 * inf
+			return sign == 0 ? NOT_A_NUMBER : sign > 0 ? POSITIVE_INFINITY : NEGATIVE_INFINITY;
+		}
+		if (sign == 0) {
+			return ZERO;
+		}
+		
+		long exponent = (long) this.exponent + a.exponent;
+		if (this.isCompact() && a.isCompact() && this.bitLength() + a.bitLength() < 64) {
+			return of(this.compactMantissa * a.compactMantissa, exponent);
+		}
+		return of(this.bigMantissa().multiply(a.bigMantissa()), exponent);
+	}
+	
+	/**
+	 * Multiplies the value with <code>2<sup>n</sup></code> by changing the exponent only.
+	 * 
+	 * @param n
+	 *            The power of two to multiply with, may be negative.
+	 * @return A new instance containing the result.
+	 * @throws ArithmeticException
+	 *             If the exponent of the result does not fit into an {@code int}.
+	 */
+	public DyadicDecimal scaleByPowerOfTwo (int n) {
+		if (!this.isFinite() || this.signum() == 0 || n == 0) {
+			return this;
+		}
+		return new DyadicDecimal(this.mantissa, this.compactMantissa, checkExponent((long) this.exponent + n));
+	}
+	
+	/**
+	 * Divides this {@link DyadicDecimal} by the given one. The quotient of dyadic rationals is in general not dyadic,
+	 * so the exact result is an {@link ExactDecimal}.
+	 * 
+	 * @param a
+	 *            The divisor.
+	 * @return The exact quotient.
+	 */
+	public ExactDecimal divide (DyadicDecimal a) {
+		return this.toExactDecimal().divide(a.toExactDecimal());
+	}
+	
+	/**
+	 * Divides this {@link DyadicDecimal} by the given one, rounding towards negative infinity. The result is the
+	 * largest {@link DyadicDecimal} with at most {@code precision} significant bits, that is not greater than the exact
+	 * quotient. Together with {@link #divideUp(DyadicDecimal, int)} it encloses the quotient.
+	 * 
+	 * @param a
+	 *            The divisor.
+	 * @param precision
+	 *            The maximum number of significant bits of the result.
+	 * @return The rounded quotient.
+	 * @throws IllegalArgumentException
+	 *             If {@code precision} is less than {@code 1}.
+	 */
+	public DyadicDecimal divideDown (DyadicDecimal a, int precision) {
+		return this.divide(a, precision, false);
+	}
+	
+	/**
+	 * Divides this {@link DyadicDecimal} by the given one, rounding towards positive infinity. The result is the
+	 * smallest {@link DyadicDecimal} with at most {@code precision} significant bits, that is not less than the exact
+	 * quotient.
+	 * 
+	 * @param a
+	 *            The divisor.
+	 * @param precision
+	 *            The maximum number of significant bits of the result.
+	 * @return The rounded quotient.
+	 * @throws IllegalArgumentException
+	 *             If {@code precision} is less than {@code 1}.
+	 * @see #divideDown(DyadicDecimal, int)
+	 */
+	public DyadicDecimal divideUp (DyadicDecimal a, int precision) {
+		return this.divide(a, precision, true);
+	}
+	
+	private DyadicDecimal divide (DyadicDecimal a, int precision, boolean up) {
+		if (precision < 1) {
+			throw new IllegalArgumentException("Precision must be positive: " + precision);
+		}
+		int sign = this.signum() * a.signum();
+		if (sign == 0 || !this.isFinite() || !a.isFinite()) {
+			// zero, infinities and NaN are exact
+			return valueOf(this.divide(a));
+		}
+		
+		BigInteger dividend = this.bigMantissa().abs();
+		BigInteger divisor = a.bigMantissa().abs();
+		// the quotient gets precision or precision + 1 bits
+		int shift = precision - dividend.bitLength() + divisor.bitLength();
+		if (shift > 0) {
+			dividend = dividend.shiftLeft(shift);
+		} else {
+			divisor = divisor.shiftLeft(-shift);
+		}
+		BigInteger[] division = dividend.divideAndRemainder(divisor);
+		BigInteger quotient = division[0];
+		boolean inexact = division[1].signum() != 0;
+		if (quotient.bitLength() > precision) {
+			inexact |= quotient.testBit(0);
+			quotient = quotient.shiftRight(1);
+			shift--;
+		}
+		// truncating rounds the magnitude down, which is only the requested direction for one sign
+		if (inexact && (up == sign > 0)) {
+			quotient = quotient.add(BigInteger.ONE);
+		}
+		return of(sign < 0 ? quotient.negate() : quotient, (long) this.exponent - a.exponent - shift);
+	}
+	
+	/**
+	 * Returns the absolute value of this number.
+	 * 
+	 * @return The absolute value.
+	 */
+	public DyadicDecimal abs () {
+		if (this.signum() >= 0) {
+			return this;
+		}
+		return this.negate();
+	}
+	
+	/**
+	 * Returns a {@link DyadicDecimal} whose value is {@code (-this)}.
+	 * 
+	 * @return {@code -this}
+	 */
+	public DyadicDecimal negate () {
+		if (this.isCompact()) {
+			// odd mantissas are never Long.MIN_VALUE
+			return new DyadicDecimal(null, -this.compactMantissa, this.exponent);
+		}
+		return of(this.mantissa.negate(), this.exponent);
+	}
+	
+	/**
+	 * Returns the value's sign: {@code 1} for positive, {@code -1} for negative values and {@code 0} for zero and NaN,
+	 * like {@link ExactDecimal#signum()}.
+	 * 
+	 * @return The sign.
+	 */
+	public int signum () {
+		if (this.isCompact()) {
+			return Long.signum(this.compactMantissa);
+		}
+		return this.mantissa.signum();
+	}
+	
+	/**
+	 * Returns the smaller value. Note that {@code NaN} is bigger than any value, including {@code Infinity}.
+	 * 
+	 * @param a
+	 *            The first value.
+	 * @param b
+	 *            The second value.
+	 * @return The smaller one of the two values.
+	 */
+	public static DyadicDecimal min (DyadicDecimal a, DyadicDecimal b) {
+		return a.compareTo(b) < 0 ? a : b;
+	}
+	
+	/**
+	 * Returns the bigger value. Note that {@code NaN} is bigger than any value, including {@code Infinity}.
+	 * 
+	 * @param a
+	 *            The first value.
+	 * @param b
+	 *            The second value.
+	 * @return The bigger one of the two values.
+	 */
+	public static DyadicDecimal max (DyadicDecimal a, DyadicDecimal b) {
+		return a.compareTo(b) > 0 ? a : b;
+	}
+	
+	/**
+	 * Returns whether {@code this} is NaN (not a number).
+	 * 
+	 * @return {@code true}, if {@code this} is NaN, {@code false} otherwise.
+	 */
+	public boolean isNaN () {
+		return this.exponent == SPECIAL_EXPONENT && this.compactMantissa == 0;
+	}
+	
+	/**
+	 * Returns whether {@code this} is a valid number (neither infinite, nor NaN).
+	 * 
+	 * @return {@code true}, if {@code this} is a valid number, {@code false} otherwise.
+	 */
+	public boolean isFinite () {
+		return this.exponent != SPECIAL_EXPONENT;
+	}
+	
+	/**
+	 * Returns whether {@code this} is value is infinite (positive or negative infinity).
+	 * 
+	 * @return {@code true}, if {@code this} is infinite, {@code false} otherwise.
+	 */
+	public boolean isInfinite () {
+		return this.exponent == SPECIAL_EXPONENT && this.compactMantissa != 0;
+	}
+	
+	/**
+	 * Converts the value into an {@link ExactDecimal}. The fraction <code>mantissa / 2<sup>-exponent</sup></code> is
+	 * already reduced, because the mantissa is odd, so no greatest common divisor is computed.
+	 * 
+	 * @return The same value as {@link ExactDecimal}.
+	 */
+	public ExactDecimal toExactDecimal () {
+		if (this.isNaN()) {
+			return ExactDecimal.NOT_A_NUMBER;
+		} else if (this.isInfinite()) {
+			return this.signum() > 0 ? ExactDecimal.POSITIVE_INFINITY : ExactDecimal.NEGATIVE_INFINITY;
+		}
+		if (this.exponent >= 0) {
+			if (this.isCompact() && this.exponent < Long.numberOfLeadingZeros(Math.abs(this.compactMantissa)) - 1) {
+				return ExactDecimal.ofReduced(this.compactMantissa << this.exponent, 1L);
+			}
+			return ExactDecimal.ofReduced(this.bigMantissa().shiftLeft(this.exponent), BigInteger.ONE);
+		}
+		if (this.isCompact() && this.exponent > -63) {
+			return ExactDecimal.ofReduced(this.compactMantissa, 1L << -this.exponent);
+		}
+		return ExactDecimal.ofReduced(this.bigMantissa(), BigInteger.ONE.shiftLeft(-this.exponent));
+	}
+	
+	/**
+	 * Converts the value to the nearest {@code double}, see {@link ExactDecimal#doubleValue()}. Mantissas of up to 53
+	 * bits, whose exponent is in the range of {@code double}, are converted exactly by scaling.
+	 * 
+	 * @return The correctly rounded {@code double} value.
+	 */
+	public double doubleValue () {
+		if (this.isNaN()) {
+			return Double.NaN;
+		} else if (this.isInfinite()) {
+			return this.signum() > 0 ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+		}
+		if (this.isCompact() && Math.abs(this.compactMantissa) <= 1L << 53 && this.exponent >= -1074
+				&& this.exponent <= 1023 - 53) {
+			return Math.scalb((double) this.compactMantissa, this.exponent);
+		}
+		return this.toExactDecimal().doubleValue();
+	}
+	
+	/**
+	 * Returns a Decimal-{@link String} representation of the value, with two decimals accuracy. The result is equal to
+	 * {@link DyadicDecimal#toStringAdvanced(int)} with parameter {@code 2}.
+	 */
+	@Override
+	public String toString () {
+		return this.toStringAdvanced(2);
+	}
+	
+	/**
+	 * Creates a string representation of the number in decimal format, see {@link ExactDecimal#toStringAdvanced(int)}.
+	 * 
+	 * @param decimals
+	 *            The number of decimal places to show.
+	 * @return The number as decimal string.
+	 */
+	public String toStringAdvanced (int decimals) {
+		return this.toExactDecimal().toStringAdvanced(decimals);
+	}
+	
+	/**
+	 * Compares two values mathematically, with the same handling of special values as
+	 * {@link ExactDecimal#compareTo(ExactDecimal)}. Values whose highest bits are at different positions are ordered
+	 * without looking at the mantissas.
+	 */
+	@Override
+	public int compareTo (DyadicDecimal a) {
+		if (a == null) {
+			throw new NullPointerException("Cannot compare to null");
+		}
+		
+		// similar to Double, NaN is greater than any value (including infinity)
+		if (this.isNaN() || a.isNaN()) {
+			return Boolean.compare(this.isNaN(), a.isNaN());
+		}
+		if (this.isInfinite() || a.isInfinite()) {
+			int infinityThis = this.isInfinite() ? this.signum() : 0;
+			int infinityA = a.isInfinite() ? a.signum() : 0;
+			return Integer.compare(infinityThis, infinityA);
+		}
+		int sign = this.signum();
+		if (sign != a.signum()) {
+			return Integer.compare(sign, a.signum());
+		} else if (sign == 0) {
+			return 0;
+		}
+		
+		// position of the highest bit of the magnitudes
+		long topThis = (long) this.bitLength() + this.exponent;
+		long topA = (long) a.bitLength() + a.exponent;
+		if (topThis != topA) {
+			return topThis > topA ? sign : -sign;
+		}
+		// equal top positions: shifting the smaller mantissa keeps it within the bit length of the larger one
+		int shift = this.exponent - a.exponent;
+		if (this.isCompact() && a.isCompact()) {
+			long mantissaThis = shift > 0 ? this.compactMantissa << shift : this.compactMantissa;
+			long mantissaA = shift < 0 ? a.compactMantissa << -shift : a.compactMantissa;
+			return Long.compare(mantissaThis, mantissaA);
+		}
+		BigInteger mantissaThis = shift > 0 ? this.bigMantissa().shiftLeft(shift) : this.bigMantissa();
+		BigInteger mantissaA = shift < 0 ? a.bigMantissa().shiftLeft(-shift) : a.bigMantissa();
+		return mantissaThis.compareTo(mantissaA);
+	}
+	
+	/**
+	 * Returns the bit length of the magnitude of the mantissa.
+	 */
+	private int bitLength () {
+		if (this.isCompact()) {
+			return 64 - Long.numberOfLeadingZeros(Math.abs(this.compactMantissa));
+		}
+		return this.mantissa.abs().bitLength();
+	}
+	
+	/**
+	 * Returns {@code true} if both values are equal in mantissa and exponent, {@code false} otherwise. Because the
+	 * mantissa is always odd, {@code true} means mathematically equal or the same special value (infinities and NaN).
+	 */
+	@Override
+	public boolean equals (Object o) {
+		if (o instanceof DyadicDecimal) {
+			DyadicDecimal other = (DyadicDecimal) o;
+			if (this.isCompact() || other.isCompact()) {
+				// the compact form is used whenever possible, so it cannot equal a non-compact mantissa
+				return this.isCompact() && other.isCompact() && this.compactMantissa == other.compactMantissa
+						&& this.exponent == other.exponent;
+			}
+			return this.exponent == other.exponent && this.mantissa.equals(other.mantissa);
+		}
+		return false;
+	}
+	
+	/**
+	 * Hashes the value by combining the hashes of mantissa and exponent.
+	 */
+	@Override
+	public int hashCode () {
+		int hash = this.hash;
+		if (hash == 0) {
+			int mantissaHash = this.isCompact() ? Long.hashCode(this.compactMantissa) : this.mantissa.hashCode();
+			hash = 31 * mantissaHash + this.exponent;
+			this.hash = hash;
+		}
+		return hash;
+	}
+}
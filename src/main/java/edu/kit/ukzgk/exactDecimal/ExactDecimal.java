@@ -1,17 +1,32 @@
 package edu.kit.ukzgk.exactDecimal;
 
+import java.io.IOException;
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import edu.kit.ukzgk.interval.number.Number;
 
 /**
  * The {@link ExactDecimal} class is a data type that stores floating point numbers as fractions of {@link BigInteger}s.
  * Therefore values stored in it are always as exact as their input was. Instances are immutable and behave as if they
  * were native floating point numbers. There is no math library though, because this would interfere with the exactness
- * of represented values.
+ * of represented values.<br>
+ * Fractions whose numerator and denominator both fit into a {@code long} are stored in a compact form. Operations on
+ * them use overflow-checked {@code long} arithmetic and only fall back to {@link BigInteger}s if a result overflows.
  * 
  * @author Florian Gilges
  * @version 201711090317
  */
-public class ExactDecimal implements Comparable<ExactDecimal> {
+public class ExactDecimal implements Number<ExactDecimal> {
 	/**
 	 * Zero constant. Equal to: {@code new ExactDecimal(0)}
 	 */
@@ -49,15 +64,86 @@ public class ExactDecimal implements Comparable<ExactDecimal> {
 	 * {@code ExactDecimal#POSITIVE_INFINITY#subtract(ExactDecimal#POSITIVE_INFINITY)} )
 	 */
 	public static final ExactDecimal NOT_A_NUMBER = new ExactDecimal(0, 0);
+	/**
+	 * Default bit length, at which fractions in lazy mode are reduced. See {@link #lazy(int)}.
+	 */
+	public static final int DEFAULT_REDUCTION_THRESHOLD = 4096;
+	
+	/**
+	 * The number of values, from which {@link #product(ExactDecimal...)} and {@link #sum(ExactDecimal...)} work in
+	 * parallel.
+	 */
+	private static final int PARALLEL_THRESHOLD = 1024;
+	
+	/**
+	 * The relative difference, above which the double approximations in {@link #compareTo(ExactDecimal)} decide the
+	 * comparison. Each approximation has a relative error of less than {@code 2^-50}.
+	 */
+	private static final double COMPARE_EPSILON = 0x1p-48;
+	/**
+	 * The maximum bit length of numerators and denominators, which are converted to {@code double} directly.
+	 */
+	private static final int APPROXIMATION_BITS = 960;
+	
+	/**
+	 * The number of decimal digits, that always fit into a {@code long}.
+	 */
+	private static final int LONG_DIGITS = 18;
+	/**
+	 * The powers of ten, that fit into a {@code long}.
+	 */
+	private static final long[] LONG_POWERS_OF_TEN = new long[LONG_DIGITS + 1];
+	/**
+	 * Cache of small powers of ten.
+	 */
+	private static final BigInteger[] POWERS_OF_TEN = new BigInteger[128];
+	
+	static {
+		LONG_POWERS_OF_TEN[0] = 1;
+		for (int i = 1; i < LONG_POWERS_OF_TEN.length; i++) {
+			LONG_POWERS_OF_TEN[i] = LONG_POWERS_OF_TEN[i - 1] * 10;
+		}
+		POWERS_OF_TEN[0] = BigInteger.ONE;
+		for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1].multiply(BigInteger.TEN);
+		}
+	}
 	
 	/**
-	 * The numerator of the fraction. Its sign is the sign of the fraction.
+	 * The numerator of the fraction, if it does not fit into {@link #compactNumerator}. Its sign is the sign of the
+	 * fraction. If this is {@code null}, the fraction is stored in compact form.
 	 */
 	private final BigInteger numerator;
 	/**
-	 * The denominator of the fraction. It is guaranteed to be positive.
+	 * The denominator of the fraction, if it does not fit into {@link #compactDenominator}. It is guaranteed to be
+	 * positive. If this is {@code null}, the fraction is stored in compact form.
 	 */
 	private final BigInteger denominator;
+	/**
+	 * The numerator of the compact form. Only valid if {@link #numerator} is {@code null}. Its sign is the sign of the
+	 * fraction.
+	 */
+	private final long compactNumerator;
+	/**
+	 * The denominator of the compact form. Only valid if {@link #denominator} is {@code null}. It is guaranteed to be
+	 * non-negative, where {@code 0} encodes the special values (infinities and NaN).
+	 */
+	private final long compactDenominator;
+	/**
+	 * The bit length, up to which results of operations stay unreduced. {@code 0} means the value is in eager mode and
+	 * always reduced.
+	 */
+	private final int reductionThreshold;
+	/**
+	 * Cache for the reduced form of a value in lazy mode. Races are harmless, because every thread computes the same
+	 * immutable value.
+	 */
+	private ExactDecimal reducedValue;
+	/**
+	 * Cache for {@link #hashCode()}, {@code 0} if not computed yet. Races are harmless like for
+	 * {@link #reducedValue}.
+	 */
+	private int hash;
 	
 	/**
 	 * Simple constructor for creating the fraction out of two signed integers. Their signs will work the way
@@ -69,22 +155,7 @@ public class ExactDecimal implements Comparable<ExactDecimal> {
 	 *            The denominator of the fraction.
 	 */
 	public ExactDecimal (long numerator, long denominator) {
-		boolean sign = false;
-		if (numerator < 0) {
-			numerator = Math.abs(numerator);
-			sign ^= true;
-		}
-		if (denominator < 0) {
-			denominator = Math.abs(denominator);
-			sign ^= true;
-		}
-		
-		BigInteger n = new BigInteger(ExactDecimal.longToBigIntegerByteArray(numerator));
-		BigInteger d = new BigInteger(ExactDecimal.longToBigIntegerByteArray(denominator));
-		
-		BigInteger[] fraction = cancelFraction(n, d);
-		this.numerator = sign ? fraction[0].negate() : fraction[0];
-		this.denominator = fraction[1];
+		this(ExactDecimal.fraction(numerator, denominator));
 	}
 	
 	/**
@@ -94,157 +165,279 @@ public class ExactDecimal implements Comparable<ExactDecimal> {
 	 *            The value of the new {@link ExactDecimal}
 	 */
 	public ExactDecimal (long value) {
-		this(ExactDecimal.longToBigIntegerByteArray(value));
+		this(null, null, value, 1L);
 	}
 	
 	/**
-	 * Simple constructor, creating an {@link ExactDecimal} from a {@link Double}.
+	 * Simple constructor, creating an {@link ExactDecimal} with the exact value of a {@link Double}.
 	 * 
 	 * @param value
 	 *            The value of the new {@link ExactDecimal}
 	 */
 	public ExactDecimal (double value) {
-		final long valueBits = Double.doubleToRawLongBits(value);
-		final boolean sign = (valueBits & 0x8000000000000000L) != 0;
-		
-		if (Double.isNaN(value)) {
-			this.numerator = ExactDecimal.NOT_A_NUMBER.numerator;
-			this.denominator = ExactDecimal.NOT_A_NUMBER.denominator;
-			return;
-		} else if (Double.isInfinite(value)) {
-			this.numerator = value < 0 ? ExactDecimal.NEGATIVE_INFINITY.numerator
-					: ExactDecimal.POSITIVE_INFINITY.numerator;
-			this.denominator = ExactDecimal.POSITIVE_INFINITY.denominator;
-			return;
-		}
-		
-		// mantissa bits from double value
-		final long mantissa = (valueBits & 0x000fffffffffffffL) | 0x0010000000000000L;
-		// exponent value = exponent bits - exponent bias - mantissa exponent
-		final int exponent = (int) ((valueBits & 0x7ff0000000000000L) >>> 52) - 0x03ff - 52;
-		
-		BigInteger numerator = new BigInteger(new byte[] { (byte) (mantissa >>> 48), (byte) (mantissa >>> 40),
-				(byte) (mantissa >>> 32), (byte) (mantissa >>> 24), (byte) (mantissa >>> 16), (byte) (mantissa >>> 8),
-				(byte) (mantissa) });
-		BigInteger denominator;
-		if (exponent < 0) {
-			denominator = exponentToNumber(-exponent);
-		} else {
-			numerator = numerator.multiply(exponentToNumber(exponent));
-			denominator = BigInteger.ONE;
-		}
-		
-		this.numerator = sign ? numerator.negate() : numerator;
-		this.denominator = denominator;
+		this(ExactDecimal.fromDouble(value));
 	}
 	
 	/**
-	 * Simple constructor, creating an {@link ExactDecimal} from a {@link Float}.
+	 * Simple constructor, creating an {@link ExactDecimal} with the exact value of a {@link Float}.
 	 * 
 	 * @param value
 	 *            The value of the new {@link ExactDecimal}
 	 */
 	public ExactDecimal (float value) {
-		final int valueBits = Float.floatToRawIntBits(value);
-		final boolean sign = (valueBits & 0x80000000) != 0;
-		
-		if (Float.isNaN(value)) {
-			this.numerator = ExactDecimal.NOT_A_NUMBER.numerator;
-			this.denominator = ExactDecimal.NOT_A_NUMBER.denominator;
-			return;
-		} else if (Float.isInfinite(value)) {
-			this.numerator = value < 0 ? ExactDecimal.NEGATIVE_INFINITY.numerator
-					: ExactDecimal.POSITIVE_INFINITY.numerator;
-			this.denominator = ExactDecimal.POSITIVE_INFINITY.denominator;
-			return;
-		}
-		
-		// mantissa bits from float value and putting back the cut off one (see IEEE754)
-		final int mantissa = ((valueBits & 0x007fffff) | 0x00800000);
-		// exponent value = exponent bits - exponent bias - mantissa exponent
-		final int exponent = ((valueBits & 0x7f800000) >>> 23) - 0x7f - 23;
-		
-		BigInteger numerator = new BigInteger(new byte[] { 0, (byte) (mantissa >>> 16), (byte) (mantissa >>> 8),
-				(byte) (mantissa) });
-		BigInteger denominator;
-		if (exponent < 0) {
-			denominator = exponentToNumber(-exponent);
-		} else {
-			numerator = numerator.multiply(exponentToNumber(exponent));
-			denominator = BigInteger.ONE;
-		}
-		
-		this.numerator = sign ? numerator.negate() : numerator;
-		this.denominator = denominator;
+		// widening to double is exact
+		this(ExactDecimal.fromDouble(value));
+	}
+	
+	/**
+	 * Returns an {@link ExactDecimal} with the value of a {@code long}. Small integers are taken from a shared cache
+	 * instead of creating a new instance, see {@link ValueCache}.
+	 * 
+	 * @param value
+	 *            The value.
+	 * @return An instance with the given value.
+	 */
+	public static ExactDecimal valueOf (long value) {
+		ExactDecimal cached = ValueCache.get(value, 1L);
+		return cached != null ? cached : new ExactDecimal(value);
+	}
+	
+	/**
+	 * Returns an {@link ExactDecimal} with the value of a fraction of two signed integers. Small integers and proper
+	 * fractions with small denominators are taken from a shared cache instead of creating a new instance, see
+	 * {@link ValueCache}.
+	 * 
+	 * @param numerator
+	 *            The numerator of the fraction.
+	 * @param denominator
+	 *            The denominator of the fraction.
+	 * @return An instance with the given value.
+	 */
+	public static ExactDecimal valueOf (long numerator, long denominator) {
+		return fraction(numerator, denominator);
 	}
 	
 	/**
 	 * Factory method for parsing a decimal floating point string in scientific notation. Values are handled as if their
-	 * decimals were finite.
+	 * decimals were finite.<br>
+	 * Accepted are {@code NaN}, {@code Infinity} with optional sign, and numbers matching
+	 * {@code [+\-]?[0-9]+(\.[0-9]+)?([eE][+\-]?[0-9]+)?}.
 	 * 
 	 * @param decimalString
 	 *            The decimal floating point number as string.
+	 * @throws NumberFormatException
+	 *             If the string is not a valid number.
 	 */
 	public static ExactDecimal stringToExactDecimal (String decimalString) {
-		if (decimalString.matches("(([+\\-]?Infinity)|NaN)")) {
-			if (decimalString.equals("NaN")) {
-				return NOT_A_NUMBER;
-			} else {
-				boolean sign;
-				switch (decimalString.charAt(0)) {
-					case '-':
-						sign = true;
-						break;
-					default:
-						sign = false;
-						break;
+		return parse(decimalString, 0, decimalString.length());
+	}
+	
+	/**
+	 * Factory method for parsing a decimal floating point number in scientific notation from any character sequence,
+	 * like a {@link StringBuilder} or a {@link CharBuffer}, without copying it into a {@link String}.
+	 * 
+	 * @param decimalString
+	 *            The decimal floating point number as character sequence.
+	 * @throws NumberFormatException
+	 *             If the characters are not a valid number.
+	 * @see #stringToExactDecimal(String)
+	 */
+	public static ExactDecimal stringToExactDecimal (CharSequence decimalString) {
+		return parse(decimalString, 0, decimalString.length());
+	}
+	
+	/**
+	 * Factory method for parsing a decimal floating point number in scientific notation from a range of characters.
+	 * 
+	 * @param chars
+	 *            The array containing the number.
+	 * @param offset
+	 *            The index of the first character.
+	 * @param length
+	 *            The number of characters.
+	 * @throws NumberFormatException
+	 *             If the characters are not a valid number.
+	 * @see #stringToExactDecimal(String)
+	 */
+	public static ExactDecimal stringToExactDecimal (char[] chars, int offset, int length) {
+		return parse(CharBuffer.wrap(chars, offset, length), 0, length);
+	}
+	
+	/**
+	 * Factory method for parsing a decimal floating point number in scientific notation from a range of ASCII encoded
+	 * bytes.
+	 * 
+	 * @param bytes
+	 *            The array containing the number.
+	 * @param offset
+	 *            The index of the first byte.
+	 * @param length
+	 *            The number of bytes.
+	 * @throws NumberFormatException
+	 *             If the bytes are not a valid number.
+	 * @see #stringToExactDecimal(String)
+	 */
+	public static ExactDecimal stringToExactDecimal (byte[] bytes, int offset, int length) {
+		if (offset < 0 || length < 0 || offset > bytes.length - length) {
+			throw new IndexOutOfBoundsException();
+		}
+		return parse(new AsciiCharSequence(ByteBuffer.wrap(bytes), offset, length), 0, length);
+	}
+	
+	/**
+	 * Parses a decimal floating point number in a single pass. Digits are collected in a {@code long} as long as they
+	 * fit, and only the rest is collected in a {@link BigInteger}, in chunks of {@link #LONG_DIGITS} digits.
+	 * 
+	 * @param chars
+	 *            The characters to parse.
+	 * @param start
+	 *            The index of the first character.
+	 * @param end
+	 *            The index after the last character.
+	 * @return The parsed number.
+	 * @throws NumberFormatException
+	 *             If the characters are not a valid number.
+	 */
+	static ExactDecimal parse (CharSequence chars, int start, int end) {
+		int i = start;
+		boolean sign = false;
+		if (i < end && (chars.charAt(i) == '+' || chars.charAt(i) == '-')) {
+			sign = chars.charAt(i++) == '-';
+		}
+		if (i < end && chars.charAt(i) == 'I' && matches(chars, i, end, "Infinity")) {
+			return sign ? NEGATIVE_INFINITY : POSITIVE_INFINITY;
+		}
+		if (i == start && i < end && chars.charAt(i) == 'N' && matches(chars, i, end, "NaN")) {
+			return NOT_A_NUMBER;
+		}
+		
+		// digits, collected as big * 10^chunkDigits + chunk
+		BigInteger big = null;
+		long chunk = 0;
+		int chunkDigits = 0;
+		int integerDigits = 0;
+		int decimals = 0;
+		boolean point = false;
+		for (; i < end; i++) {
+			char c = chars.charAt(i);
+			if (c >= '0' && c <= '9') {
+				if (chunkDigits == LONG_DIGITS) {
+					big = big == null ? BigInteger.valueOf(chunk)
+							: big.multiply(powerOfTen(LONG_DIGITS)).add(BigInteger.valueOf(chunk));
+					chunk = 0;
+					chunkDigits = 0;
 				}
-				return sign ? NEGATIVE_INFINITY : POSITIVE_INFINITY;
+				chunk = chunk * 10 + (c - '0');
+				chunkDigits++;
+				if (point) {
+					decimals++;
+				} else {
+					integerDigits++;
+				}
+			} else if (c == '.' && !point && integerDigits > 0) {
+				point = true;
+			} else {
+				break;
 			}
 		}
-		
-		if (!decimalString.matches("[+\\-]?[0-9]+(\\.[0-9]+)?([eE][+\\-]?[0-9]+)?")) {
+		if (integerDigits == 0 || (point && decimals == 0)) {
 			throw new NumberFormatException();
 		}
 		
-		boolean sign = false;
-		if (decimalString.startsWith("-")) {
-			sign = true;
-			decimalString = decimalString.substring(1);
-		} else if (decimalString.startsWith("+")) {
-			decimalString = decimalString.substring(1);
-		}
-		
-		String[] split = decimalString.split("[eE]");
-		String numberString = split[0];
 		int exponent = 0;
-		if (split.length == 2) {
-			exponent = Integer.parseInt(split[1]);
+		if (i < end) {
+			char c = chars.charAt(i++);
+			if (c != 'e' && c != 'E') {
+				throw new NumberFormatException();
+			}
+			boolean exponentSign = false;
+			if (i < end && (chars.charAt(i) == '+' || chars.charAt(i) == '-')) {
+				exponentSign = chars.charAt(i++) == '-';
+			}
+			if (i == end) {
+				throw new NumberFormatException();
+			}
+			long value = 0;
+			for (; i < end; i++) {
+				c = chars.charAt(i);
+				if (c < '0' || c > '9') {
+					throw new NumberFormatException();
+				}
+				value = value * 10 + (c - '0');
+				if (value > (long) Integer.MAX_VALUE + 1) {
+					throw new NumberFormatException();
+				}
+			}
+			if (!exponentSign && value > Integer.MAX_VALUE) {
+				throw new NumberFormatException();
+			}
+			exponent = (int) (exponentSign ? -value : value);
 		}
-		split = numberString.split("\\.");
-		String digits = split[0];
-		String decimals = "";
-		if (split.length == 2) {
-			decimals = split[1];
+		try {
+			exponent = Math.subtractExact(exponent, decimals);
+		} catch (ArithmeticException e) {
+			throw new NumberFormatException();
 		}
 		
-		BigInteger numerator;
-		BigInteger denominator;
-		
-		String allDigits = digits + decimals;
-		exponent -= decimals.length();
-		if (exponent < 0) {
-			numerator = new BigInteger(allDigits, 10);
-			exponent = Math.abs(exponent);
-			denominator = new BigInteger(1 + fillString("", exponent, '0'), 10);
-		} else {
-			allDigits += fillString("", exponent, '0');
-			numerator = new BigInteger(allDigits, 10);
-			denominator = BigInteger.ONE;
+		if (big == null && exponent > -LONG_DIGITS && exponent < LONG_DIGITS) {
+			long numerator = sign ? -chunk : chunk;
+			if (exponent < 0) {
+				return fraction(numerator, LONG_POWERS_OF_TEN[-exponent]);
+			}
+			long factor = LONG_POWERS_OF_TEN[exponent];
+			if (chunk <= Long.MAX_VALUE / factor) {
+				return fraction(numerator * factor, 1L);
+			}
 		}
 		
+		BigInteger numerator = BigInteger.valueOf(chunk);
+		if (big != null) {
+			numerator = big.multiply(powerOfTen(chunkDigits)).add(numerator);
+		}
 		numerator = sign ? numerator.negate() : numerator;
-		return new ExactDecimal(numerator, denominator);
+		if (exponent < 0) {
+			return fraction(numerator, powerOfTen(-exponent));
+		}
+		return fraction(numerator.multiply(powerOfTen(exponent)), BigInteger.ONE);
+	}
+	
+	/**
+	 * Checks whether a range of characters equals a {@link String}.
+	 * 
+	 * @param chars
+	 *            The characters to check.
+	 * @param start
+	 *            The index of the first character.
+	 * @param end
+	 *            The index after the last character.
+	 * @param expected
+	 *            The expected characters.
+	 * @return {@code true}, if the range matches, {@code false} otherwise.
+	 */
+	private static boolean matches (CharSequence chars, int start, int end, String expected) {
+		if (end - start != expected.length()) {
+			return false;
+		}
+		for (int i = 0; i < expected.length(); i++) {
+			if (chars.charAt(start + i) != expected.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Returns {@code 10^exponent}, using a cache for small exponents.
+	 * 
+	 * @param exponent
+	 *            The non-negative exponent.
+	 * @return The power of ten.
+	 */
+	static BigInteger powerOfTen (int exponent) {
+		if (exponent < POWERS_OF_TEN.length) {
+			return POWERS_OF_TEN[exponent];
+		}
+		return BigInteger.TEN.pow(exponent);
 	}
 	
 	/**
@@ -256,191 +449,1244 @@ public class ExactDecimal implements Comparable<ExactDecimal> {
 	 *            The denominator of the fraction.
 	 */
 	public ExactDecimal (BigInteger numerator, BigInteger denominator) {
-		int signNumerator = numerator.signum() == 0 ? 1 : numerator.signum();
-		int signDenominator = denominator.signum() == 0 ? 1 : denominator.signum();
-		boolean sign = signNumerator * signDenominator < 0;
-		BigInteger[] fraction = cancelFraction(numerator.abs(), denominator.abs());
-		this.numerator = sign ? fraction[0].negate() : fraction[0];
-		this.denominator = fraction[1];
+		this(ExactDecimal.fraction(numerator, denominator));
 	}
 	
 	/**
-	 * Private constructor, that takes a {@link BigInteger} byte array representation to create the numerator and sets
-	 * the denominator to {@code 1}.
+	 * Private copy constructor, used by the public constructors to take over the fields of an instance created by one
+	 * of the factory methods.
 	 * 
 	 * @param value
-	 *            The value to create the numerator from.
+	 *            The instance to copy.
 	 */
-	private ExactDecimal (byte[] value) {
-		this.numerator = new BigInteger(value);
-		this.denominator = BigInteger.ONE;
+	private ExactDecimal (ExactDecimal value) {
+		this(value.numerator, value.denominator, value.compactNumerator, value.compactDenominator,
+				value.reductionThreshold);
 	}
 	
 	/**
-	 * Creates a {@link BigInteger} instance with the value of {@code 2^exponent}.
+	 * Private constructor, that sets all fields without any checks. Either both {@link BigInteger}s are {@code null}
+	 * and the compact values are used, or both are set and the compact values are ignored.
 	 * 
-	 * @param exponent
-	 *            The exponent of the value.
-	 * @return {@code 2^exponent} as {@link BigInteger}.
+	 * @param numerator
+	 *            The numerator, or {@code null} for the compact form.
+	 * @param denominator
+	 *            The denominator, or {@code null} for the compact form.
+	 * @param compactNumerator
+	 *            The numerator of the compact form.
+	 * @param compactDenominator
+	 *            The denominator of the compact form.
 	 */
-	private static BigInteger exponentToNumber (int exponent) {
-		int byteSize = exponent / 8;
-		int shiftInByte = exponent % 8;
-		byte[] bigIntArray = new byte[byteSize + 1 + (shiftInByte == 0x80 ? 1 : 0)];
-		// note: the most significant byte of a BigInteger is the arrays 0-byte
-		// all bytes describe the number in 2s-complement and therefore might need a leading zero
-		bigIntArray[shiftInByte == 0x80 ? 1 : 0] = (byte) (1 << shiftInByte);
-		return new BigInteger(bigIntArray);
+	private ExactDecimal (BigInteger numerator, BigInteger denominator, long compactNumerator,
+			long compactDenominator) {
+		this(numerator, denominator, compactNumerator, compactDenominator, 0);
 	}
 	
 	/**
-	 * Creates the byte array representation of a long, the {@link BigInteger} constructor expects, to contain the same
-	 * value.
+	 * Private constructor, that sets all fields without any checks. Either both {@link BigInteger}s are {@code null}
+	 * and the compact values are used, or both are set and the compact values are ignored.
 	 * 
-	 * @param value
-	 *            The long value to pack in the array.
-	 * @return The packed array.
+	 * @param numerator
+	 *            The numerator, or {@code null} for the compact form.
+	 * @param denominator
+	 *            The denominator, or {@code null} for the compact form.
+	 * @param compactNumerator
+	 *            The numerator of the compact form.
+	 * @param compactDenominator
+	 *            The denominator of the compact form.
+	 * @param reductionThreshold
+	 *            The reduction threshold for lazy mode, or {@code 0} for eager mode.
 	 */
-	private static byte[] longToBigIntegerByteArray (long value) {
-		return new byte[] { (byte) (value >>> 56), (byte) (value >>> 48), (byte) (value >>> 40), (byte) (value >>> 32),
-				(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) (value) };
+	private ExactDecimal (BigInteger numerator, BigInteger denominator, long compactNumerator,
+			long compactDenominator, int reductionThreshold) {
+		this.numerator = numerator;
+		this.denominator = denominator;
+		this.compactNumerator = compactNumerator;
+		this.compactDenominator = compactDenominator;
+		this.reductionThreshold = reductionThreshold;
 	}
 	
-	private static BigInteger[] cancelFraction (BigInteger numerator, BigInteger denominator) {
-		if (numerator.compareTo(BigInteger.ONE) == 0 || denominator.compareTo(BigInteger.ONE) == 0) {
-			return new BigInteger[] { numerator, denominator };
-		}
-		
-		if (numerator.equals(BigInteger.ZERO) && denominator.equals(BigInteger.ZERO)) {
-			return new BigInteger[] { BigInteger.ZERO, BigInteger.ZERO };
+	/**
+	 * Creates an instance from the numerator and denominator of an already reduced fraction with non-negative
+	 * denominator. The compact form is used if possible.
+	 * 
+	 * @param numerator
+	 *            The reduced numerator.
+	 * @param denominator
+	 *            The reduced, non-negative denominator.
+	 * @return The new instance.
+	 */
+	static ExactDecimal ofReduced (BigInteger numerator, BigInteger denominator) {
+		return ofReduced(numerator, denominator, 0);
+	}
+	
+	/**
+	 * Creates an instance from the numerator and denominator of an already reduced fraction with positive denominator,
+	 * both fitting into a {@code long}.
+	 * 
+	 * @param numerator
+	 *            The reduced numerator.
+	 * @param denominator
+	 *            The reduced, positive denominator.
+	 * @return The new instance.
+	 */
+	static ExactDecimal ofReduced (long numerator, long denominator) {
+		return ofCompact(numerator, denominator, 0);
+	}
+	
+	/**
+	 * Creates an instance from the numerator and denominator of an already reduced fraction with non-negative
+	 * denominator. The compact form is used if possible.
+	 * 
+	 * @param numerator
+	 *            The reduced numerator.
+	 * @param denominator
+	 *            The reduced, non-negative denominator.
+	 * @param reductionThreshold
+	 *            The reduction threshold for lazy mode, or {@code 0} for eager mode.
+	 * @return The new instance.
+	 */
+	private static ExactDecimal ofReduced (BigInteger numerator, BigInteger denominator, int reductionThreshold) {
+		if (numerator.bitLength() < 64 && denominator.bitLength() < 64) {
+			return ofCompact(numerator.longValue(), denominator.longValue(), reductionThreshold);
 		}
-		if (numerator.equals(BigInteger.ZERO)) {
-			return new BigInteger[] { BigInteger.ZERO, BigInteger.ONE };
+		ExactDecimal result = new ExactDecimal(numerator, denominator, 0L, 0L, reductionThreshold);
+		result.reducedValue = result;
+		return result;
+	}
+	
+	/**
+	 * Creates a reduced fraction from two signed integers, falling back to {@link BigInteger}s only if the sign
+	 * normalisation would overflow.
+	 * 
+	 * @param numerator
+	 *            The numerator of the fraction.
+	 * @param denominator
+	 *            The denominator of the fraction.
+	 * @return The reduced fraction.
+	 */
+	private static ExactDecimal fraction (long numerator, long denominator) {
+		return fraction(numerator, denominator, 0);
+	}
+	
+	/**
+	 * Creates a reduced fraction from two signed integers, falling back to {@link BigInteger}s only if the sign
+	 * normalisation would overflow. Compact fractions are reduced in lazy mode, too, because that is cheap.
+	 * 
+	 * @param numerator
+	 *            The numerator of the fraction.
+	 * @param denominator
+	 *            The denominator of the fraction.
+	 * @param reductionThreshold
+	 *            The reduction threshold for lazy mode, or {@code 0} for eager mode.
+	 * @return The reduced fraction.
+	 */
+	private static ExactDecimal fraction (long numerator, long denominator, int reductionThreshold) {
+		if (numerator == Long.MIN_VALUE || denominator == Long.MIN_VALUE) {
+			return fraction(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator), reductionThreshold);
 		}
-		if (denominator.equals(BigInteger.ZERO)) {
-			return new BigInteger[] { BigInteger.ONE, BigInteger.ZERO };
+		if (denominator < 0) {
+			numerator = -numerator;
+			denominator = -denominator;
 		}
 		
-		BigInteger a = numerator;
-		BigInteger b = denominator;
-		BigInteger gcd = a.gcd(b);
-		a = a.divide(gcd);
-		b = b.divide(gcd);
-		return new BigInteger[] { a, b };
+		if (denominator == 0) {
+			// infinities and NaN
+			return new ExactDecimal(null, null, Long.signum(numerator), 0L, reductionThreshold);
+		}
+		if (numerator == 0) {
+			denominator = 1;
+		} else {
+			long gcd = gcd(Math.abs(numerator), denominator);
+			numerator /= gcd;
+			denominator /= gcd;
+		}
+		return ofCompact(numerator, denominator, reductionThreshold);
 	}
 	
 	/**
-	 * Fills a {@link String} up to a certain length with the specified {@link Character}. {@link String}s with a length
-	 * greater or equal to the length parameter, are returned without change.
+	 * Creates a reduced fraction in compact form. Values in eager mode are taken from the {@link ValueCache}, if
+	 * possible.
 	 * 
-	 * @param string
-	 *            The {@link String} to fill.
-	 * @param length
-	 *            The length to fill up to.
-	 * @param fillCharacter
-	 *            The {@link Character} to fill with.
-	 * @return The filled {@link String}.
+	 * @param numerator
+	 *            The numerator of the reduced fraction.
+	 * @param denominator
+	 *            The positive denominator of the reduced fraction.
+	 * @param reductionThreshold
+	 *            The reduction threshold for lazy mode, or {@code 0} for eager mode.
+	 * @return The fraction.
 	 */
-	private static String fillString (String string, int length, char fillCharacter) {
-		String filler = Character.toString(fillCharacter);
-		int diff = length - string.length();
-		if (diff <= 0) {
-			return string;
-		}
-		String spaces = "";
-		
-		int mask = Integer.highestOneBit(diff);
-		while (mask != 0) {
-			spaces += spaces;
-			if ((mask & diff) != 0) {
-				spaces += filler;
+	private static ExactDecimal ofCompact (long numerator, long denominator, int reductionThreshold) {
+		if (reductionThreshold == 0) {
+			ExactDecimal cached = ValueCache.get(numerator, denominator);
+			if (cached != null) {
+				return cached;
 			}
-			mask >>>= 1;
 		}
-		
-		return string + spaces;
+		return new ExactDecimal(null, null, numerator, denominator, reductionThreshold);
 	}
 	
 	/**
-	 * Adds another {@link ExactDecimal} to {@code this} and returns a new instance of that value.
+	 * Creates a reduced fraction from two signed {@link BigInteger}s. The compact form is used if possible.
 	 * 
-	 * @param a
-	 *            The value to add.
-	 * @return A new instance, holding the result.
+	 * @param numerator
+	 *            The numerator of the fraction.
+	 * @param denominator
+	 *            The denominator of the fraction.
+	 * @return The reduced fraction.
 	 */
-	public ExactDecimal add (ExactDecimal a) {
-		if (this.isNaN() || a.isNaN()) {
-			return NOT_A_NUMBER;
+	private static ExactDecimal fraction (BigInteger numerator, BigInteger denominator) {
+		return fraction(numerator, denominator, 0);
+	}
+	
+	/**
+	 * Creates a fraction from two signed {@link BigInteger}s. The compact form is used if possible. In lazy mode the
+	 * fraction is only reduced if numerator or denominator exceed the reduction threshold.
+	 * 
+	 * @param numerator
+	 *            The numerator of the fraction.
+	 * @param denominator
+	 *            The denominator of the fraction.
+	 * @param reductionThreshold
+	 *            The reduction threshold for lazy mode, or {@code 0} for eager mode.
+	 * @return The new fraction.
+	 */
+	private static ExactDecimal fraction (BigInteger numerator, BigInteger denominator, int reductionThreshold) {
+		if (denominator.signum() < 0) {
+			numerator = numerator.negate();
+			denominator = denominator.negate();
 		}
 		
-		if (this.isInfinite() || a.isInfinite()) {
-			if (this.signum() == a.signum()) {
-				return this.signum() < 0 ? NEGATIVE_INFINITY : POSITIVE_INFINITY;
-			}
-			if (this.isInfinite() && a.isInfinite()) {
-				return NOT_A_NUMBER;
-			}
-			return this.isInfinite() ? this : a;
+		if (denominator.signum() == 0) {
+			// infinities and NaN
+			return new ExactDecimal(null, null, numerator.signum(), 0L, reductionThreshold);
+		}
+		if (numerator.signum() == 0) {
+			return ofCompact(0L, 1L, reductionThreshold);
+		}
+		if (numerator.bitLength() < 63 && denominator.bitLength() < 63) {
+			return fraction(numerator.longValue(), denominator.longValue(), reductionThreshold);
+		}
+		if (reductionThreshold != 0
+				&& Math.max(numerator.bitLength(), denominator.bitLength()) <= reductionThreshold) {
+			// lazy mode: reduction is deferred until the value is observed
+			return new ExactDecimal(numerator, denominator, 0L, 0L, reductionThreshold);
 		}
 		
-		BigInteger numeratorThis = this.numerator.multiply(a.denominator);
-		BigInteger numeratorA = a.numerator.multiply(this.denominator);
-		BigInteger denominator = this.denominator.multiply(a.denominator);
-		return new ExactDecimal(numeratorThis.add(numeratorA), denominator);
+		if (!denominator.equals(BigInteger.ONE)) {
+			BigInteger gcd = numerator.gcd(denominator);
+			if (!gcd.equals(BigInteger.ONE)) {
+				numerator = numerator.divide(gcd);
+				denominator = denominator.divide(gcd);
+			}
+		}
+		return ofReduced(numerator, denominator, reductionThreshold);
 	}
 	
 	/**
-	 * Subtracts another {@link ExactDecimal} from {@code this} and returns a new instance of that value.
+	 * Returns the reduction threshold for the result of an operation of {@code this} and another value. The result is
+	 * in lazy mode if any of the operands is, using the smallest of their thresholds.
 	 * 
 	 * @param a
-	 *            The value to subtract.
-	 * @return A new instance, holding the result.
+	 *            The other operand.
+	 * @return The reduction threshold, or {@code 0} for eager mode.
 	 */
-	public ExactDecimal subtract (ExactDecimal a) {
-		if (this.isNaN() || a.isNaN()) {
-			return NOT_A_NUMBER;
-		}
-		
-		if (this.isInfinite() || a.isInfinite()) {
-			if (this.signum() != a.signum()) {
-				return this.signum() < 0 ? NEGATIVE_INFINITY : POSITIVE_INFINITY;
-			}
-			if (this.isInfinite() && a.isInfinite()) {
-				return NOT_A_NUMBER;
-			}
-			return this.isInfinite() ? this : a.negate();
+	private int reductionThreshold (ExactDecimal a) {
+		if (this.reductionThreshold == 0 || a.reductionThreshold == 0) {
+			return Math.max(this.reductionThreshold, a.reductionThreshold);
 		}
-		
-		BigInteger numeratorThis = this.numerator.multiply(a.denominator);
-		BigInteger numeratorA = a.numerator.multiply(this.denominator);
-		BigInteger denominator = this.denominator.multiply(a.denominator);
-		return new ExactDecimal(numeratorThis.subtract(numeratorA), denominator);
+		return Math.min(this.reductionThreshold, a.reductionThreshold);
 	}
 	
 	/**
-	 * Multiplies another {@link ExactDecimal} to {@code this} and returns a new instance of that value.
+	 * Returns the reduced form of {@code this}. Values in eager mode are always reduced, so they return themselves.
+	 * 
+	 * @return The reduced value.
+	 */
+	private ExactDecimal reduced () {
+		if (this.reductionThreshold == 0 || this.isCompact()) {
+			return this;
+		}
+		ExactDecimal result = this.reducedValue;
+		if (result == null) {
+			BigInteger gcd = this.numerator.gcd(this.denominator);
+			result = ofReduced(this.numerator.divide(gcd), this.denominator.divide(gcd), this.reductionThreshold);
+			this.reducedValue = result;
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns a value equal to {@code this} in lazy mode, with the {@link #DEFAULT_REDUCTION_THRESHOLD}.
+	 * 
+	 * @return The value in lazy mode.
+	 * @see #lazy(int)
+	 */
+	public ExactDecimal lazy () {
+		return this.lazy(DEFAULT_REDUCTION_THRESHOLD);
+	}
+	
+	/**
+	 * Returns a value equal to {@code this} in lazy mode. Results of operations on values in lazy mode are not
+	 * reduced, until numerator or denominator exceed the given bit length. This saves the costly GCD in long chains of
+	 * operations, like sums of many terms. The reduction is done when a value is observed through
+	 * {@link #equals(Object)}, {@link #hashCode()}, {@link #getNumerator()} or {@link #getDenominator()}, which work on
+	 * an internally cached reduced form. Formatting by {@link #toStringAdvanced(int)} does not need a reduced fraction
+	 * and leaves the value as it is. Results of operations with at least one operand in lazy mode are in lazy mode,
+	 * too.
+	 * 
+	 * @param reductionThreshold
+	 *            The bit length, that triggers reduction. Must be positive.
+	 * @return The value in lazy mode.
+	 */
+	public ExactDecimal lazy (int reductionThreshold) {
+		if (reductionThreshold <= 0) {
+			throw new IllegalArgumentException("Reduction threshold must be positive: " + reductionThreshold);
+		}
+		if (reductionThreshold == this.reductionThreshold) {
+			return this;
+		}
+		return new ExactDecimal(this.numerator, this.denominator, this.compactNumerator, this.compactDenominator,
+				reductionThreshold);
+	}
+	
+	/**
+	 * Returns a reduced value equal to {@code this} in eager mode. Results of operations on values in eager mode are
+	 * always reduced.
+	 * 
+	 * @return The value in eager mode.
+	 * @see #lazy(int)
+	 */
+	public ExactDecimal eager () {
+		if (this.reductionThreshold == 0) {
+			return this;
+		}
+		ExactDecimal reduced = this.reduced();
+		return new ExactDecimal(reduced.numerator, reduced.denominator, reduced.compactNumerator,
+				reduced.compactDenominator, 0);
+	}
+	
+	/**
+	 * Returns whether {@code this} is in lazy mode.
+	 * 
+	 * @return {@code true}, if {@code this} is in lazy mode, {@code false} otherwise.
+	 * @see #lazy(int)
+	 */
+	public boolean isLazy () {
+		return this.reductionThreshold != 0;
+	}
+	
+	/**
+	 * Returns the numerator of the reduced fraction. Its sign is the sign of the value. Special values have a
+	 * denominator of zero, with {@code 1}, {@code -1} and {@code 0} as numerator for positive infinity, negative
+	 * infinity and NaN respectively.
+	 * 
+	 * @return The numerator.
+	 */
+	public BigInteger getNumerator () {
+		return this.reduced().bigNumerator();
+	}
+	
+	/**
+	 * Returns the denominator of the reduced fraction. It is always positive, except for special values, which have a
+	 * denominator of zero.
+	 * 
+	 * @return The denominator.
+	 * @see #getNumerator()
+	 */
+	public BigInteger getDenominator () {
+		return this.reduced().bigDenominator();
+	}
+	
+	/**
+	 * Calculates the greatest common divisor of two non-negative longs, using the binary GCD algorithm.
+	 * 
+	 * @param a
+	 *            The first value.
+	 * @param b
+	 *            The second value.
+	 * @return The greatest common divisor, which is {@code 0} only if both values are {@code 0}.
+	 */
+	static long gcd (long a, long b) {
+		if (a == 0) {
+			return b;
+		}
+		if (b == 0) {
+			return a;
+		}
+		
+		int shift = Long.numberOfTrailingZeros(a | b);
+		a >>>= Long.numberOfTrailingZeros(a);
+		do {
+			b >>>= Long.numberOfTrailingZeros(b);
+			if (a > b) {
+				long tmp = a;
+				a = b;
+				b = tmp;
+			}
+			b -= a;
+		} while (b != 0);
+		return a << shift;
+	}
+	
+	/**
+	 * Returns whether the fraction is stored in compact form, i.e. as two longs.
+	 * 
+	 * @return {@code true}, if the compact form is used, {@code false} otherwise.
+	 */
+	boolean isCompact () {
+		return this.numerator == null;
+	}
+	
+	/**
+	 * Returns the numerator of the compact form. Only valid if {@link #isCompact()}.
+	 * 
+	 * @return The numerator.
+	 */
+	long compactNumerator () {
+		return this.compactNumerator;
+	}
+	
+	/**
+	 * Returns the denominator of the compact form. Only valid if {@link #isCompact()}.
+	 * 
+	 * @return The denominator.
+	 */
+	long compactDenominator () {
+		return this.compactDenominator;
+	}
+	
+	/**
+	 * Returns the numerator as {@link BigInteger}, independent of the internal form.
+	 * 
+	 * @return The numerator.
+	 */
+	BigInteger bigNumerator () {
+		return this.isCompact() ? BigInteger.valueOf(this.compactNumerator) : this.numerator;
+	}
+	
+	/**
+	 * Returns the denominator as {@link BigInteger}, independent of the internal form.
+	 * 
+	 * @return The denominator.
+	 */
+	BigInteger bigDenominator () {
+		return this.isCompact() ? BigInteger.valueOf(this.compactDenominator) : this.denominator;
+	}
+	
+	/**
+	 * Creates an instance with the exact value of a {@link Double}, including subnormal numbers. The significand is
+	 * odd after stripping its trailing zero bits, so the fraction with a power of two as denominator is reduced.
+	 * 
+	 * @param value
+	 *            The value of the new {@link ExactDecimal}
+	 * @return The new instance.
+	 */
+	private static ExactDecimal fromDouble (double value) {
+		if (Double.isNaN(value)) {
+			return NOT_A_NUMBER;
+		} else if (Double.isInfinite(value)) {
+			return value < 0 ? NEGATIVE_INFINITY : POSITIVE_INFINITY;
+		}
+		
+		final long valueBits = Double.doubleToRawLongBits(value);
+		final int biasedExponent = (int) ((valueBits & 0x7ff0000000000000L) >>> 52);
+		long significand = valueBits & 0x000fffffffffffffL;
+		if (biasedExponent == 0 && significand == 0) {
+			// positive and negative zero
+			return ZERO;
+		}
+		// putting back the cut off one (see IEEE754), subnormal numbers have none but the smallest normal exponent
+		int exponent;
+		if (biasedExponent == 0) {
+			exponent = -1074;
+		} else {
+			significand |= 0x0010000000000000L;
+			// exponent value = exponent bits - exponent bias - significand exponent
+			exponent = biasedExponent - 0x03ff - 52;
+		}
+		int trailingZeros = Long.numberOfTrailingZeros(significand);
+		significand >>>= trailingZeros;
+		exponent += trailingZeros;
+		if (valueBits < 0) {
+			significand = -significand;
+		}
+		
+		if (exponent < 0) {
+			if (exponent > -63) {
+				return ofCompact(significand, 1L << -exponent, 0);
+			}
+			return ofReduced(BigInteger.valueOf(significand), BigInteger.ONE.shiftLeft(-exponent));
+		}
+		if (exponent < Long.numberOfLeadingZeros(Math.abs(significand)) - 1) {
+			return ofCompact(significand << exponent, 1L, 0);
+		}
+		return ofReduced(BigInteger.valueOf(significand).shiftLeft(exponent), BigInteger.ONE);
+	}
+	
+	/**
+	 * Calculates the product of all values. The values are multiplied in a balanced binary tree, so the operands of
+	 * each multiplication have similar sizes and {@link BigInteger} can use its fast multiplication algorithms. Large
+	 * inputs are multiplied in parallel on the common {@link ForkJoinPool}.
+	 * 
+	 * @param values
+	 *            The factors.
+	 * @return The product, {@link #ONE} for no values.
+	 */
+	public static ExactDecimal product (ExactDecimal... values) {
+		return reduce(values, false);
+	}
+	
+	/**
+	 * Calculates the product of all values, see {@link #product(ExactDecimal...)}.
+	 * 
+	 * @param values
+	 *            The factors.
+	 * @return The product, {@link #ONE} for no values.
+	 */
+	public static ExactDecimal product (Iterable<ExactDecimal> values) {
+		return reduce(toArray(values), false);
+	}
+	
+	/**
+	 * Calculates the sum of all values. The values are added in a balanced binary tree, so the denominators of each
+	 * addition have similar sizes. Large inputs are added in parallel on the common {@link ForkJoinPool}.
+	 * 
+	 * @param values
+	 *            The summands.
+	 * @return The sum, {@link #ZERO} for no values.
+	 */
+	public static ExactDecimal sum (ExactDecimal... values) {
+		return reduce(values, true);
+	}
+	
+	/**
+	 * Calculates the sum of all values, see {@link #sum(ExactDecimal...)}.
+	 * 
+	 * @param values
+	 *            The summands.
+	 * @return The sum, {@link #ZERO} for no values.
+	 */
+	public static ExactDecimal sum (Iterable<ExactDecimal> values) {
+		return reduce(toArray(values), true);
+	}
+	
+	private static ExactDecimal[] toArray (Iterable<ExactDecimal> values) {
+		if (values instanceof Collection) {
+			return ((Collection<ExactDecimal>) values).toArray(new ExactDecimal[0]);
+		}
+		List<ExactDecimal> list = new ArrayList<>();
+		for (ExactDecimal value : values) {
+			list.add(value);
+		}
+		return list.toArray(new ExactDecimal[list.size()]);
+	}
+	
+	private static ExactDecimal reduce (ExactDecimal[] values, boolean sum) {
+		if (values.length >= PARALLEL_THRESHOLD) {
+			return ForkJoinPool.commonPool().invoke(new ReductionTask(values, 0, values.length, sum));
+		}
+		return ReductionTask.reduce(values, 0, values.length, sum);
+	}
+	
+	/**
+	 * Adds another {@link ExactDecimal} to {@code this} and returns a new instance of that value.
+	 * 
+	 * @param a
+	 *            The value to add.
+	 * @return A new instance, holding the result.
+	 */
+	public ExactDecimal add (ExactDecimal a) {
+		if (this.isNaN() || a.isNaN()) {
+			return NOT_A_NUMBER;
+		}
+		
+		if (this.isInfinite() || a.isInfinite()) {
+			if (this.signum() == a.signum()) {
+				return this.signum() < 0 ? NEGATIVE_INFINITY : POSITIVE_INFINITY;
+			}
+			if (this.isInfinite() && a.isInfinite()) {
+				return NOT_A_NUMBER;
+			}
+			return this.isInfinite() ? this : a;
+		}
+		
+		if (this.reductionThreshold(a) == 0) {
+			return commonDenominatorSum(this, a, false);
+		}
+		if (this.isCompact() && a.isCompact()) {
+			try {
+				long numeratorThis = Math.multiplyExact(this.compactNumerator, a.compactDenominator);
+				long numeratorA = Math.multiplyExact(a.compactNumerator, this.compactDenominator);
+				long denominator = Math.multiplyExact(this.compactDenominator, a.compactDenominator);
+				return fraction(Math.addExact(numeratorThis, numeratorA), denominator, this.reductionThreshold(a));
+			} catch (ArithmeticException e) {
+				// overflow: fall back to BigInteger
+			}
+		}
+		
+		BigInteger numeratorThis = this.bigNumerator().multiply(a.bigDenominator());
+		BigInteger numeratorA = a.bigNumerator().multiply(this.bigDenominator());
+		BigInteger denominator = this.bigDenominator().multiply(a.bigDenominator());
+		return fraction(numeratorThis.add(numeratorA), denominator, this.reductionThreshold(a));
+	}
+	
+	/**
+	 * Subtracts another {@link ExactDecimal} from {@code this} and returns a new instance of that value.
+	 * 
+	 * @param a
+	 *            The value to subtract.
+	 * @return A new instance, holding the result.
+	 */
+	public ExactDecimal subtract (ExactDecimal a) {
+		if (this.isNaN() || a.isNaN()) {
+			return NOT_A_NUMBER;
+		}
+		
+		if (this.isInfinite() || a.isInfinite()) {
+			if (this.signum() != a.signum()) {
+				return this.signum() < 0 ? NEGATIVE_INFINITY : POSITIVE_INFINITY;
+			}
+			if (this.isInfinite() && a.isInfinite()) {
+				return NOT_A_NUMBER;
+			}
+			return this.isInfinite() ? this : a.negate();
+		}
+		
+		if (this.reductionThreshold(a) == 0) {
+			return commonDenominatorSum(this, a, true);
+		}
+		if (this.isCompact() && a.isCompact()) {
+			try {
+				long numeratorThis = Math.multiplyExact(this.compactNumerator, a.compactDenominator);
+				long numeratorA = Math.multiplyExact(a.compactNumerator, this.compactDenominator);
+				long denominator = Math.multiplyExact(this.compactDenominator, a.compactDenominator);
+				return fraction(Math.subtractExact(numeratorThis, numeratorA), denominator,
+						this.reductionThreshold(a));
+			} catch (ArithmeticException e) {
+				// overflow: fall back to BigInteger
+			}
+		}
+		
+		BigInteger numeratorThis = this.bigNumerator().multiply(a.bigDenominator());
+		BigInteger numeratorA = a.bigNumerator().multiply(this.bigDenominator());
+		BigInteger denominator = this.bigDenominator().multiply(a.bigDenominator());
+		return fraction(numeratorThis.subtract(numeratorA), denominator, this.reductionThreshold(a));
+	}
+	
+	/**
+	 * Adds or subtracts two finite fractions over their least common denominator (Henrici's algorithm). With
+	 * {@code g = gcd(d1, d2)} the sum is {@code t / (d1/g * d2)} with {@code t = n1 * d2/g + n2 * d1/g}, and only
+	 * {@code gcd(t, g)} is left to cancel. Equal denominators skip the first GCD, and coprime ones skip the second, so
+	 * sums of decimal inputs, whose denominators are powers of ten, never form the full cross products.
+	 * 
+	 * @param a
+	 *            The first summand.
+	 * @param b
+	 *            The second summand.
+	 * @param subtract
+	 *            Whether to subtract {@code b} instead of adding it.
+	 * @return The reduced sum.
+	 */
+	private static ExactDecimal commonDenominatorSum (ExactDecimal a, ExactDecimal b, boolean subtract) {
+		if (a.isCompact() && b.isCompact()) {
+			long denominatorA = a.compactDenominator;
+			long denominatorB = b.compactDenominator;
+			if (((denominatorA & (denominatorA - 1)) | (denominatorB & (denominatorB - 1))) == 0) {
+				ExactDecimal sum = dyadicSum(a.compactNumerator, Long.numberOfTrailingZeros(denominatorA),
+						b.compactNumerator, Long.numberOfTrailingZeros(denominatorB), subtract);
+				if (sum != null) {
+					return sum;
+				}
+			}
+			long gcd = denominatorA == denominatorB ? denominatorA : gcd(denominatorA, denominatorB);
+			try {
+				long numeratorA = Math.multiplyExact(a.compactNumerator, denominatorB / gcd);
+				long numeratorB = Math.multiplyExact(b.compactNumerator, denominatorA / gcd);
+				long numerator = subtract ? Math.subtractExact(numeratorA, numeratorB)
+						: Math.addExact(numeratorA, numeratorB);
+				if (numerator == 0) {
+					return ofCompact(0L, 1L, 0);
+				}
+				if (numerator != Long.MIN_VALUE) {
+					long cancel = gcd == 1 ? 1 : gcd(Math.abs(numerator), gcd);
+					long denominator = Math.multiplyExact(denominatorA / gcd, denominatorB / cancel);
+					return ofCompact(numerator / cancel, denominator, 0);
+				}
+			} catch (ArithmeticException e) {
+				// overflow: fall back to BigInteger
+			}
+		}
+		
+		BigInteger denominatorA = a.bigDenominator();
+		BigInteger denominatorB = b.bigDenominator();
+		if (denominatorA.bitCount() == 1 && denominatorB.bitCount() == 1) {
+			return dyadicSum(a.bigNumerator(), denominatorA.getLowestSetBit(), b.bigNumerator(),
+					denominatorB.getLowestSetBit(), subtract);
+		}
+		BigInteger gcd = denominatorA.equals(denominatorB) ? denominatorA : denominatorA.gcd(denominatorB);
+		boolean coprime = gcd.equals(BigInteger.ONE);
+		if (!coprime) {
+			denominatorA = denominatorA.divide(gcd);
+		}
+		BigInteger numeratorA = a.bigNumerator().multiply(coprime ? denominatorB : denominatorB.divide(gcd));
+		BigInteger numeratorB = b.bigNumerator().multiply(denominatorA);
+		BigInteger numerator = subtract ? numeratorA.subtract(numeratorB) : numeratorA.add(numeratorB);
+		if (numerator.signum() == 0) {
+			return ofCompact(0L, 1L, 0);
+		}
+		if (!coprime) {
+			BigInteger cancel = numerator.gcd(gcd);
+			if (!cancel.equals(BigInteger.ONE)) {
+				numerator = numerator.divide(cancel);
+				denominatorB = denominatorB.divide(cancel);
+			}
+		}
+		return ofReduced(numerator, denominatorA.multiply(denominatorB));
+	}
+	
+	/**
+	 * Adds or subtracts two reduced fractions with powers of two as denominators ({@code n1 / 2^e1 + n2 / 2^e2}), as
+	 * they come from {@code double} values. The common denominator is the greater power, and the sum is reduced by
+	 * stripping trailing zero bits, so no GCD is needed.
+	 * 
+	 * @return The reduced sum, or {@code null} if it does not fit into the compact form.
+	 */
+	private static ExactDecimal dyadicSum (long numeratorA, int exponentA, long numeratorB, int exponentB,
+			boolean subtract) {
+		int exponent = Math.max(exponentA, exponentB);
+		try {
+			long scaledA = Math.multiplyExact(numeratorA, 1L << (exponent - exponentA));
+			long scaledB = Math.multiplyExact(numeratorB, 1L << (exponent - exponentB));
+			long numerator = subtract ? Math.subtractExact(scaledA, scaledB) : Math.addExact(scaledA, scaledB);
+			if (numerator == 0) {
+				return ofCompact(0L, 1L, 0);
+			}
+			int strip = Math.min(Long.numberOfTrailingZeros(numerator), exponent);
+			return ofCompact(numerator >> strip, 1L << (exponent - strip), 0);
+		} catch (ArithmeticException e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * Adds or subtracts two reduced fractions with powers of two as denominators.
+	 * 
+	 * @see #dyadicSum(long, int, long, int, boolean)
+	 */
+	private static ExactDecimal dyadicSum (BigInteger numeratorA, int exponentA, BigInteger numeratorB, int exponentB,
+			boolean subtract) {
+		int exponent = Math.max(exponentA, exponentB);
+		BigInteger scaledA = numeratorA.shiftLeft(exponent - exponentA);
+		BigInteger scaledB = numeratorB.shiftLeft(exponent - exponentB);
+		BigInteger numerator = subtract ? scaledA.subtract(scaledB) : scaledA.add(scaledB);
+		if (numerator.signum() == 0) {
+			return ofCompact(0L, 1L, 0);
+		}
+		int strip = Math.min(numerator.getLowestSetBit(), exponent);
+		return ofReduced(numerator.shiftRight(strip), BigInteger.ONE.shiftLeft(exponent - strip));
+	}
+	
+	/**
+	 * Multiplies another {@link ExactDecimal} to {@code this} and returns a new instance of that value.
 	 * 
 	 * @param a
 	 *            The value to multiply with.
 	 * @return A new instance, holding the result.
 	 */
-	public ExactDecimal multiply (ExactDecimal a) {
-		BigInteger numerator = this.numerator.multiply(a.numerator);
-		BigInteger denominator = this.denominator.multiply(a.denominator);
-		return new ExactDecimal(numerator, denominator);
+	public ExactDecimal multiply (ExactDecimal a) {
+		if (this.isCrossCancellable(a)) {
+			return crossMultiply(this, a, false);
+		}
+		if (this.isCompact() && a.isCompact()) {
+			try {
+				long numerator = Math.multiplyExact(this.compactNumerator, a.compactNumerator);
+				long denominator = Math.multiplyExact(this.compactDenominator, a.compactDenominator);
+				return fraction(numerator, denominator, this.reductionThreshold(a));
+			} catch (ArithmeticException e) {
+				// overflow: fall back to BigInteger
+			}
+		}
+		
+		BigInteger numerator = this.bigNumerator().multiply(a.bigNumerator());
+		BigInteger denominator = this.bigDenominator().multiply(a.bigDenominator());
+		return fraction(numerator, denominator, this.reductionThreshold(a));
+	}
+	
+	/**
+	 * Divides {@code this} by another {@link ExactDecimal} and returns a new instance of that value.
+	 * 
+	 * @param a
+	 *            The value to divide by.
+	 * @return A new instance, holding the result.
+	 */
+	public ExactDecimal divide (ExactDecimal a) {
+		if (this.isCrossCancellable(a)) {
+			return crossMultiply(this, a, true);
+		}
+		if (this.isInfinite() && a.isFinite()) {
+			// the sign of the divisor would be multiplied into the zero denominator and get lost
+			return fraction(a.signum() < 0 ? -this.compactNumerator : this.compactNumerator, 0L,
+					this.reductionThreshold(a));
+		}
+		if (this.isCompact() && a.isCompact()) {
+			try {
+				long numerator = Math.multiplyExact(this.compactNumerator, a.compactDenominator);
+				long denominator = Math.multiplyExact(this.compactDenominator, a.compactNumerator);
+				return fraction(numerator, denominator, this.reductionThreshold(a));
+			} catch (ArithmeticException e) {
+				// overflow: fall back to BigInteger
+			}
+		}
+		
+		BigInteger numerator = this.bigNumerator().multiply(a.bigDenominator());
+		BigInteger denominator = this.bigDenominator().multiply(a.bigNumerator());
+		return fraction(numerator, denominator, this.reductionThreshold(a));
+	}
+	
+	/**
+	 * Returns whether a multiplication or division of {@code this} and another value can use cross-cancellation. This
+	 * is the case, if both values are finite and non-zero, and both are in eager mode.
+	 * 
+	 * @param a
+	 *            The other operand.
+	 * @return {@code true}, if {@link #crossMultiply(ExactDecimal, ExactDecimal, boolean)} can be used, {@code false}
+	 *         otherwise.
+	 */
+	private boolean isCrossCancellable (ExactDecimal a) {
+		return this.reductionThreshold(a) == 0 && this.isFinite() && a.isFinite() && this.signum() != 0
+				&& a.signum() != 0;
+	}
+	
+	/**
+	 * Multiplies two finite, non-zero fractions using cross-cancellation: the numerator of each operand is reduced with
+	 * the denominator of the other one before multiplying. The product is then already reduced, and the GCDs work on
+	 * numbers of half the size of the product.
+	 * 
+	 * @param a
+	 *            The first factor.
+	 * @param b
+	 *            The second factor.
+	 * @param reciprocal
+	 *            Whether to multiply with the reciprocal of {@code b} instead, which is a division.
+	 * @return The reduced product.
+	 */
+	private static ExactDecimal crossMultiply (ExactDecimal a, ExactDecimal b, boolean reciprocal) {
+		if (a.isCompact() && b.isCompact() && a.compactNumerator != Long.MIN_VALUE
+				&& b.compactNumerator != Long.MIN_VALUE) {
+			long numeratorA = a.compactNumerator;
+			long denominatorA = a.compactDenominator;
+			long numeratorB = reciprocal ? Long.signum(b.compactNumerator) * b.compactDenominator : b.compactNumerator;
+			long denominatorB = reciprocal ? Math.abs(b.compactNumerator) : b.compactDenominator;
+			long gcdAB = gcd(Math.abs(numeratorA), denominatorB);
+			long gcdBA = gcd(Math.abs(numeratorB), denominatorA);
+			try {
+				long numerator = Math.multiplyExact(numeratorA / gcdAB, numeratorB / gcdBA);
+				long denominator = Math.multiplyExact(denominatorA / gcdBA, denominatorB / gcdAB);
+				return ofCompact(numerator, denominator, 0);
+			} catch (ArithmeticException e) {
+				// overflow: fall back to BigInteger
+			}
+		}
+		
+		BigInteger numeratorA = a.bigNumerator();
+		BigInteger denominatorA = a.bigDenominator();
+		BigInteger numeratorB = reciprocal ? b.bigDenominator() : b.bigNumerator();
+		BigInteger denominatorB = reciprocal ? b.bigNumerator() : b.bigDenominator();
+		if (denominatorB.signum() < 0) {
+			numeratorB = numeratorB.negate();
+			denominatorB = denominatorB.negate();
+		}
+		
+		BigInteger gcdAB = numeratorA.gcd(denominatorB);
+		if (!gcdAB.equals(BigInteger.ONE)) {
+			numeratorA = numeratorA.divide(gcdAB);
+			denominatorB = denominatorB.divide(gcdAB);
+		}
+		BigInteger gcdBA = numeratorB.gcd(denominatorA);
+		if (!gcdBA.equals(BigInteger.ONE)) {
+			numeratorB = numeratorB.divide(gcdBA);
+			denominatorA = denominatorA.divide(gcdBA);
+		}
+		return ofReduced(numeratorA.multiply(numeratorB), denominatorA.multiply(denominatorB));
+	}
+	
+	/**
+	 * Raises {@code this} to an integer power and returns a new instance of that value. Because the powers of a reduced
+	 * fraction are coprime, no gcd is calculated, only {@code O(log |exponent|)} multiplications.<br>
+	 * Any value to the power of zero is one, like in {@link Math#pow(double, double)}. Infinities become zero for
+	 * negative exponents and zero becomes {@link #POSITIVE_INFINITY}.
+	 * 
+	 * @param exponent
+	 *            The exponent, may be negative.
+	 * @return A new instance, holding the result.
+	 */
+	public ExactDecimal pow (int exponent) {
+		if (exponent == 0) {
+			return ONE;
+		}
+		if (exponent == Integer.MIN_VALUE) {
+			return this.pow(exponent / 2).pow(2);
+		}
+		if (this.isNaN()) {
+			return NOT_A_NUMBER;
+		}
+		boolean negative = this.signum() < 0 && (exponent & 1) != 0;
+		if (this.isInfinite()) {
+			return exponent < 0 ? ZERO : negative ? NEGATIVE_INFINITY : POSITIVE_INFINITY;
+		}
+		if (this.signum() == 0) {
+			return exponent < 0 ? POSITIVE_INFINITY : ZERO;
+		}
+		
+		ExactDecimal base = this.reduced();
+		int k = Math.abs(exponent);
+		if (base.isCompact() && base.compactNumerator != Long.MIN_VALUE) {
+			long compactNumerator = pow(Math.abs(base.compactNumerator), k);
+			long compactDenominator = pow(base.compactDenominator, k);
+			if (compactNumerator > 0 && compactDenominator > 0) {
+				if (exponent < 0) {
+					long tmp = compactNumerator;
+					compactNumerator = compactDenominator;
+					compactDenominator = tmp;
+				}
+				return ofCompact(negative ? -compactNumerator : compactNumerator, compactDenominator,
+						this.reductionThreshold);
+			}
+		}
+		BigInteger numerator = base.bigNumerator().abs().pow(k);
+		BigInteger denominator = base.bigDenominator().pow(k);
+		if (exponent < 0) {
+			BigInteger tmp = numerator;
+			numerator = denominator;
+			denominator = tmp;
+		}
+		return ofReduced(negative ? numerator.negate() : numerator, denominator, this.reductionThreshold);
+	}
+	
+	/**
+	 * Raises a non-negative {@code long} to a non-negative power.
+	 * 
+	 * @return The power, or {@code -1} if it does not fit into a {@code long}.
+	 */
+	private static long pow (long base, int exponent) {
+		long result = 1;
+		try {
+			for (; exponent != 0; exponent >>>= 1) {
+				if ((exponent & 1) != 0) {
+					result = Math.multiplyExact(result, base);
+				}
+				if (exponent > 1) {
+					base = Math.multiplyExact(base, base);
+				}
+			}
+		} catch (ArithmeticException e) {
+			return -1;
+		}
+		return result;
+	}
+	
+	/**
+	 * Checks whether {@code this} is the {@code k}-th power of a fraction, i.e. whether {@link #rootExact(int)} is
+	 * possible. Infinities and NaN are no perfect powers.
+	 * 
+	 * @param k
+	 *            The degree of the root, at least {@code 1}.
+	 * @return {@code true}, if {@code this} has an exact {@code k}-th root, {@code false} otherwise.
+	 * @throws IllegalArgumentException
+	 *             If {@code k} is less than {@code 1}.
+	 */
+	public boolean isPerfectPower (int k) {
+		if (k < 1) {
+			throw new IllegalArgumentException("Degree of root must be positive: " + k);
+		}
+		if (!this.isFinite() || (this.signum() < 0 && (k & 1) == 0)) {
+			return false;
+		}
+		ExactDecimal base = this.reduced();
+		return exactRoot(base.bigNumerator().abs(), k) != null && exactRoot(base.bigDenominator(), k) != null;
+	}
+	
+	/**
+	 * Calculates the exact {@code k}-th root of {@code this}. It exists, if numerator and denominator of the reduced
+	 * fraction are both {@code k}-th powers of integers. Odd roots of negative values are negative.<br>
+	 * NaN stays NaN and infinities stay infinite.
+	 * 
+	 * @param k
+	 *            The degree of the root, at least {@code 1}.
+	 * @return A new instance, holding the result.
+	 * @throws IllegalArgumentException
+	 *             If {@code k} is less than {@code 1}.
+	 * @throws ArithmeticException
+	 *             If the root is not a fraction, or if it is an even root of a negative value.
+	 */
+	public ExactDecimal rootExact (int k) {
+		if (k < 1) {
+			throw new IllegalArgumentException("Degree of root must be positive: " + k);
+		}
+		if (this.signum() < 0 && (k & 1) == 0) {
+			throw new ArithmeticException("Even root of a negative value");
+		}
+		if (k == 1 || !this.isFinite()) {
+			return this;
+		}
+		
+		ExactDecimal base = this.reduced();
+		BigInteger numerator = exactRoot(base.bigNumerator().abs(), k);
+		BigInteger denominator = exactRoot(base.bigDenominator(), k);
+		if (numerator == null || denominator == null) {
+			throw new ArithmeticException("Root is not exact");
+		}
+		return ofReduced(this.signum() < 0 ? numerator.negate() : numerator, denominator, this.reductionThreshold);
+	}
+	
+	/**
+	 * Calculates the {@code k}-th root of a non-negative integer, if it is an integer.
+	 * 
+	 * @param value
+	 *            The non-negative integer.
+	 * @param k
+	 *            The positive degree of the root.
+	 * @return The root, or {@code null} if it is not an integer.
+	 */
+	private static BigInteger exactRoot (BigInteger value, int k) {
+		BigInteger root = integerRoot(value, k);
+		return root.pow(k).equals(value) ? root : null;
+	}
+	
+	/**
+	 * Calculates {@code floor(value^(1/k))} with Newton's method on integers. Starting above the root, the iteration
+	 * decreases monotonically until it reaches the floor of the root.
+	 * 
+	 * @param value
+	 *            The non-negative integer.
+	 * @param k
+	 *            The positive degree of the root.
+	 * @return The integer root.
+	 */
+	static BigInteger integerRoot (BigInteger value, int k) {
+		if (k == 1 || value.signum() == 0) {
+			return value;
+		}
+		BigInteger degree = BigInteger.valueOf(k);
+		BigInteger degreeMinusOne = BigInteger.valueOf(k - 1);
+		// 2^ceil(bitLength / k) is greater than the root
+		BigInteger root = BigInteger.ONE.shiftLeft((value.bitLength() + k - 1) / k);
+		while (true) {
+			BigInteger next = degreeMinusOne.multiply(root).add(value.divide(root.pow(k - 1))).divide(degree);
+			if (next.compareTo(root) >= 0) {
+				return root;
+			}
+			root = next;
+		}
+	}
+	
+	/**
+	 * Returns the fraction closest to {@code this}, whose denominator is at most {@code maxDenominator}. Of two equally
+	 * close fractions the one with the smaller denominator, or else the one closer to zero, is returned. Infinities and
+	 * NaN are returned unchanged.
+	 * 
+	 * @param maxDenominator
+	 *            The maximum denominator, at least {@code 1}.
+	 * @return The best approximation.
+	 * @throws IllegalArgumentException
+	 *             If {@code maxDenominator} is less than {@code 1}.
+	 */
+	public ExactDecimal approximate (long maxDenominator) {
+		return this.approximate(BigInteger.valueOf(maxDenominator));
+	}
+	
+	/**
+	 * Returns the fraction closest to {@code this}, whose denominator is at most {@code maxDenominator}.
+	 * 
+	 * @see #approximate(long)
+	 */
+	public ExactDecimal approximate (BigInteger maxDenominator) {
+		ExactDecimal[] bounds = this.approximationBounds(maxDenominator);
+		if (bounds == null) {
+			return this;
+		}
+		int compare = this.subtract(bounds[0]).compareTo(bounds[1].subtract(this));
+		if (compare == 0) {
+			// on a tie prefer the smaller denominator, then the value closer to zero
+			compare = bounds[0].bigDenominator().compareTo(bounds[1].bigDenominator());
+			if (compare == 0) {
+				compare = -this.signum();
+			}
+		}
+		return compare <= 0 ? bounds[0] : bounds[1];
+	}
+	
+	/**
+	 * Returns the greatest fraction less than or equal to {@code this}, whose denominator is at most
+	 * {@code maxDenominator}. Infinities and NaN are returned unchanged.
+	 * 
+	 * @param maxDenominator
+	 *            The maximum denominator, at least {@code 1}.
+	 * @return The best approximation from below.
+	 * @throws IllegalArgumentException
+	 *             If {@code maxDenominator} is less than {@code 1}.
+	 */
+	public ExactDecimal approximateDown (long maxDenominator) {
+		ExactDecimal[] bounds = this.approximationBounds(BigInteger.valueOf(maxDenominator));
+		if (bounds == null) {
+			return this;
+		}
+		return bounds[0];
+	}
+	
+	/**
+	 * Returns the least fraction greater than or equal to {@code this}, whose denominator is at most
+	 * {@code maxDenominator}. Infinities and NaN are returned unchanged.
+	 * 
+	 * @param maxDenominator
+	 *            The maximum denominator, at least {@code 1}.
+	 * @return The best approximation from above.
+	 * @throws IllegalArgumentException
+	 *             If {@code maxDenominator} is less than {@code 1}.
+	 */
+	public ExactDecimal approximateUp (long maxDenominator) {
+		ExactDecimal[] bounds = this.approximationBounds(BigInteger.valueOf(maxDenominator));
+		if (bounds == null) {
+			return this;
+		}
+		return bounds[1];
+	}
+	
+	/**
+	 * Calculates the neighbours of {@code this} among the fractions with denominators up to {@code maxDenominator}
+	 * (the Farey sequence). They are the last continued fraction convergent with a small enough denominator and the
+	 * largest semiconvergent following it. Negative values are handled by symmetry.
+	 * 
+	 * @param maxDenominator
+	 *            The maximum denominator, at least {@code 1}.
+	 * @return The lower and the upper neighbour, or {@code null} if {@code this} does not need to be approximated.
+	 */
+	private ExactDecimal[] approximationBounds (BigInteger maxDenominator) {
+		if (maxDenominator.signum() <= 0) {
+			throw new IllegalArgumentException("Maximum denominator must be positive: " + maxDenominator);
+		}
+		ExactDecimal reduced = this.reduced();
+		if (!this.isFinite() || reduced.bigDenominator().compareTo(maxDenominator) <= 0) {
+			return null;
+		}
+		
+		BigInteger n = reduced.bigNumerator().abs();
+		BigInteger d = reduced.bigDenominator();
+		// convergents p0/q0 and p1/q1
+		BigInteger p0 = BigInteger.ZERO;
+		BigInteger q0 = BigInteger.ONE;
+		BigInteger p1 = BigInteger.ONE;
+		BigInteger q1 = BigInteger.ZERO;
+		while (d.signum() != 0) {
+			BigInteger[] division = n.divideAndRemainder(d);
+			BigInteger q2 = q0.add(division[0].multiply(q1));
+			if (q2.compareTo(maxDenominator) > 0) {
+				break;
+			}
+			BigInteger p2 = p0.add(division[0].multiply(p1));
+			p0 = p1;
+			q0 = q1;
+			p1 = p2;
+			q1 = q2;
+			n = d;
+			d = division[1];
+		}
+		BigInteger k = maxDenominator.subtract(q0).divide(q1);
+		ExactDecimal semiconvergent = new ExactDecimal(p0.add(k.multiply(p1)), q0.add(k.multiply(q1)));
+		ExactDecimal convergent = new ExactDecimal(p1, q1);
+		
+		boolean convergentBelow = convergent.compareTo(this.abs()) < 0;
+		ExactDecimal lower = convergentBelow ? convergent : semiconvergent;
+		ExactDecimal upper = convergentBelow ? semiconvergent : convergent;
+		if (this.signum() < 0) {
+			return new ExactDecimal[] { upper.negate(), lower.negate() };
+		}
+		return new ExactDecimal[] { lower, upper };
+	}
+	
+	/**
+	 * Returns the simplest fraction, i.e. the one with the least denominator, which differs from {@code this} by at
+	 * most {@code tolerance}. Infinities and NaN are returned unchanged.
+	 * 
+	 * @param tolerance
+	 *            The maximum absolute difference, not negative.
+	 * @return The simplest approximation.
+	 * @throws IllegalArgumentException
+	 *             If {@code tolerance} is negative or NaN.
+	 */
+	public ExactDecimal approximateWithin (ExactDecimal tolerance) {
+		if (tolerance.signum() < 0 || tolerance.isNaN()) {
+			throw new IllegalArgumentException("Tolerance must not be negative: " + tolerance);
+		}
+		if (!this.isFinite() || tolerance.signum() == 0) {
+			return this;
+		}
+		if (tolerance.isInfinite()) {
+			return ZERO;
+		}
+		
+		ExactDecimal lower = this.subtract(tolerance);
+		ExactDecimal upper = this.add(tolerance);
+		if (lower.signum() <= 0 && upper.signum() >= 0) {
+			return ZERO;
+		}
+		if (upper.signum() < 0) {
+			return simplestBetween(upper.negate(), lower.negate()).negate();
+		}
+		return simplestBetween(lower, upper);
 	}
 	
 	/**
-	 * Divides {@code this} by another {@link ExactDecimal} and returns a new instance of that value.
+	 * Calculates the fraction with the least denominator in the closed interval {@code [lower, upper]}, where
+	 * {@code 0 < lower <= upper}. Its continued fraction is the common prefix of the ones of both bounds, followed by
+	 * the least integer fitting between their next terms.
 	 * 
-	 * @param a
-	 *            The value to divide by.
-	 * @return A new instance, holding the result.
+	 * @param lower
+	 *            The positive lower bound.
+	 * @param upper
+	 *            The upper bound.
+	 * @return The simplest fraction.
 	 */
-	public ExactDecimal divide (ExactDecimal a) {
-		BigInteger numerator = this.numerator.multiply(a.denominator);
-		BigInteger denominator = this.denominator.multiply(a.numerator);
-		return new ExactDecimal(numerator, denominator);
+	private static ExactDecimal simplestBetween (ExactDecimal lower, ExactDecimal upper) {
+		BigInteger lowerNumerator = lower.bigNumerator();
+		BigInteger lowerDenominator = lower.bigDenominator();
+		BigInteger upperNumerator = upper.bigNumerator();
+		BigInteger upperDenominator = upper.bigDenominator();
+		// convergents p0/q0 and p1/q1 of the common continued fraction
+		BigInteger p0 = BigInteger.ZERO;
+		BigInteger q0 = BigInteger.ONE;
+		BigInteger p1 = BigInteger.ONE;
+		BigInteger q1 = BigInteger.ZERO;
+		while (true) {
+			BigInteger[] division = lowerNumerator.divideAndRemainder(lowerDenominator);
+			BigInteger term = division[0];
+			boolean last = true;
+			if (division[1].signum() != 0) {
+				term = term.add(BigInteger.ONE);
+				// the next integer fits, if term <= upper
+				last = term.multiply(upperDenominator).compareTo(upperNumerator) <= 0;
+			}
+			if (!last) {
+				term = division[0];
+			}
+			BigInteger p2 = term.multiply(p1).add(p0);
+			BigInteger q2 = term.multiply(q1).add(q0);
+			if (last) {
+				return new ExactDecimal(p2, q2);
+			}
+			p0 = p1;
+			q0 = q1;
+			p1 = p2;
+			q1 = q2;
+			// continue with [1 / (upper - term), 1 / (lower - term)]
+			BigInteger nextLowerNumerator = upperDenominator;
+			BigInteger nextLowerDenominator = upperNumerator.subtract(term.multiply(upperDenominator));
+			upperNumerator = lowerDenominator;
+			upperDenominator = division[1];
+			lowerNumerator = nextLowerNumerator;
+			lowerDenominator = nextLowerDenominator;
+		}
 	}
 	
 	/**
@@ -449,7 +1695,10 @@ public class ExactDecimal implements Comparable<ExactDecimal> {
 	 * @return The absolute value.
 	 */
 	public ExactDecimal abs () {
-		return new ExactDecimal(this.numerator.abs(), this.denominator);
+		if (this.signum() >= 0) {
+			return this;
+		}
+		return this.negate();
 	}
 	
 	/**
@@ -458,7 +1707,13 @@ public class ExactDecimal implements Comparable<ExactDecimal> {
 	 * @return {@code -this}
 	 */
 	public ExactDecimal negate () {
-		return new ExactDecimal(this.numerator.negate(), this.denominator);
+		if (this.isCompact() && this.compactNumerator != Long.MIN_VALUE) {
+			return ofCompact(-this.compactNumerator, this.compactDenominator, this.reductionThreshold);
+		}
+		if (this.reductionThreshold != 0) {
+			return fraction(this.bigNumerator().negate(), this.bigDenominator(), this.reductionThreshold);
+		}
+		return ofReduced(this.bigNumerator().negate(), this.bigDenominator());
 	}
 	
 	/**
@@ -489,12 +1744,49 @@ public class ExactDecimal implements Comparable<ExactDecimal> {
 	 * @return The sign.
 	 */
 	public int signum () {
-		if (this.isNaN()) {
-			return 0;
+		if (this.isCompact()) {
+			return Long.signum(this.compactNumerator);
 		}
 		return this.numerator.signum();
 	}
 	
+	@Override
+	public int intSign () {
+		return this.signum();
+	}
+	
+	/**
+	 * Returns the value's sign as {@link ExactDecimal}, or {@code NaN} for {@code NaN}.
+	 */
+	@Override
+	public ExactDecimal sign () {
+		if (this.isNaN()) {
+			return this;
+		}
+		int signum = this.signum();
+		return signum > 0 ? ONE : signum < 0 ? ONE.negate() : ZERO;
+	}
+	
+	@Override
+	public ExactDecimal negative () {
+		return this.signum() > 0 ? this.negate() : this;
+	}
+	
+	@Override
+	public ExactDecimal reciprocate () {
+		return ONE.divide(this);
+	}
+	
+	@Override
+	public ExactDecimal getZeroElement () {
+		return ZERO;
+	}
+	
+	@Override
+	public ExactDecimal getOneElement () {
+		return ONE;
+	}
+	
 	/**
 	 * Returns the smaller value. Note that {@code NaN} is bigger than any value, including {@code Infinity}.
 	 * 
@@ -527,8 +1819,8 @@ public class ExactDecimal implements Comparable<ExactDecimal> {
 	 * @return {@code true}, if {@code this} is NaN, {@code false} otherwise.
 	 */
 	public boolean isNaN () {
-		// 0 div 0
-		return this.numerator.equals(BigInteger.ZERO) && this.denominator.equals(BigInteger.ZERO);
+		// 0 div 0, special values are always compact
+		return this.isCompact() && this.compactNumerator == 0 && this.compactDenominator == 0;
 	}
 	
 	/**
@@ -537,8 +1829,8 @@ public class ExactDecimal implements Comparable<ExactDecimal> {
 	 * @return {@code true}, if {@code this} is a valid number, {@code false} otherwise.
 	 */
 	public boolean isFinite () {
-		// n div m
-		return !this.denominator.equals(BigInteger.ZERO);
+		// n div m, special values are always compact
+		return !this.isCompact() || this.compactDenominator != 0;
 	}
 	
 	/**
@@ -547,8 +1839,211 @@ public class ExactDecimal implements Comparable<ExactDecimal> {
 	 * @return {@code true}, if {@code this} is infinite, {@code false} otherwise.
 	 */
 	public boolean isInfinite () {
-		// n div 0
-		return !this.numerator.equals(BigInteger.ZERO) && this.denominator.equals(BigInteger.ZERO);
+		// n div 0, special values are always compact
+		return this.isCompact() && this.compactNumerator != 0 && this.compactDenominator == 0;
+	}
+	
+	/**
+	 * Converts the value to the nearest {@code double}, with ties rounded to an even significand. Values beyond the
+	 * range of {@code double} become infinite, tiny values become subnormal or zero.
+	 * 
+	 * @return The correctly rounded {@code double} value.
+	 */
+	public double doubleValue () {
+		if (this.isCompact()) {
+			if (this.compactDenominator == 0) {
+				return this.compactNumerator == 0 ? Double.NaN
+						: this.compactNumerator < 0 ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+			}
+			if (Math.abs(this.compactNumerator) <= 1L << 53 && this.compactDenominator <= 1L << 53) {
+				// both are exact, and the division is correctly rounded
+				return (double) this.compactNumerator / this.compactDenominator;
+			}
+		}
+		return this.toBinary(53, -1074);
+	}
+	
+	/**
+	 * Converts the value to the greatest {@code double} less than or equal to it. Values below the range of
+	 * {@code double} become {@link Double#NEGATIVE_INFINITY}, values above it become {@link Double#MAX_VALUE}.
+	 * 
+	 * @return The {@code double} value rounded towards negative infinity.
+	 */
+	public double doubleValueDown () {
+		double value = this.doubleValue();
+		if (!Double.isNaN(value) && !this.isInfinite() && this.compareToDouble(value) < 0) {
+			return Math.nextDown(value);
+		}
+		return value;
+	}
+	
+	/**
+	 * Converts the value to the least {@code double} greater than or equal to it. Values above the range of
+	 * {@code double} become {@link Double#POSITIVE_INFINITY}, values below it become {@code -Double.MAX_VALUE}.
+	 * 
+	 * @return The {@code double} value rounded towards positive infinity.
+	 */
+	public double doubleValueUp () {
+		double value = this.doubleValue();
+		if (!Double.isNaN(value) && !this.isInfinite() && this.compareToDouble(value) > 0) {
+			return Math.nextUp(value);
+		}
+		return value;
+	}
+	
+	/**
+	 * Converts the value to the nearest {@code float}, with ties rounded to an even significand. The value is rounded
+	 * only once, not via {@code double}.
+	 * 
+	 * @return The correctly rounded {@code float} value.
+	 */
+	public float floatValue () {
+		if (this.isCompact()) {
+			if (this.compactDenominator == 0) {
+				return (float) this.doubleValue();
+			}
+			if (Math.abs(this.compactNumerator) <= 1L << 24 && this.compactDenominator <= 1L << 24) {
+				return (float) this.compactNumerator / this.compactDenominator;
+			}
+		}
+		return (float) this.toBinary(24, -149);
+	}
+	
+	/**
+	 * Compares {@code this} to the exact value of a finite {@code double}.
+	 */
+	private int compareToDouble (double value) {
+		return this.compareTo(fromDouble(value));
+	}
+	
+	/**
+	 * Rounds the finite value to a binary floating point number with the given precision, with ties to even. The
+	 * quotient is calculated with two more bits than needed, the remainder decides ties.
+	 * 
+	 * @param precision
+	 *            The number of significand bits, including the implicit one.
+	 * @param minExponent
+	 *            The exponent of the least significant bit of subnormal numbers.
+	 * @return The rounded value as {@code double}. It is exact, so values of lower precision can be cast without
+	 *         further rounding. Values out of range are infinite.
+	 */
+	private double toBinary (int precision, int minExponent) {
+		if (this.signum() == 0) {
+			return 0.0;
+		}
+		BigInteger numerator = this.bigNumerator().abs();
+		BigInteger denominator = this.bigDenominator();
+		// the quotient numerator * 2^shift / denominator gets precision + 1 or precision + 2 bits
+		int shift = precision + 1 - (numerator.bitLength() - denominator.bitLength());
+		BigInteger[] division = shift >= 0 ? numerator.shiftLeft(shift).divideAndRemainder(denominator)
+				: numerator.divideAndRemainder(denominator.shiftLeft(-shift));
+		BigInteger quotient = division[0];
+		boolean sticky = division[1].signum() != 0;
+		
+		// exponent of the least significant bit of the result
+		int exponent = Math.max(quotient.bitLength() - shift - precision, minExponent);
+		int drop = exponent + shift;
+		long significand;
+		if (drop > quotient.bitLength()) {
+			// less than half of the smallest subnormal
+			significand = 0;
+		} else {
+			significand = quotient.shiftRight(drop).longValue();
+			boolean half = quotient.testBit(drop - 1);
+			boolean aboveHalf = sticky || quotient.getLowestSetBit() < drop - 1;
+			if (half && (aboveHalf || (significand & 1) != 0)) {
+				significand++;
+			}
+		}
+		double result = Math.scalb((double) significand, exponent);
+		return this.signum() < 0 ? -result : result;
+	}
+	
+	/**
+	 * Converts the value to a {@code long}, discarding the fractional part. Values out of the range of {@code long}
+	 * saturate at {@link Long#MIN_VALUE} or {@link Long#MAX_VALUE}, NaN becomes {@code 0}, like a cast from
+	 * {@code double}.
+	 * 
+	 * @return The integer part as {@code long}.
+	 */
+	public long longValue () {
+		if (this.isCompact()) {
+			if (this.compactDenominator == 0) {
+				return this.compactNumerator == 0 ? 0 : this.compactNumerator < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+			}
+			return this.compactNumerator / this.compactDenominator;
+		}
+		BigInteger quotient = this.numerator.divide(this.denominator);
+		if (quotient.bitLength() < 64) {
+			return quotient.longValue();
+		}
+		return quotient.signum() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+	}
+	
+	/**
+	 * Converts the value to a {@link BigDecimal}, rounded according to a {@link MathContext}.
+	 * 
+	 * @param mathContext
+	 *            The precision and rounding mode to use.
+	 * @return The rounded value.
+	 * @throws ArithmeticException
+	 *             If the value is infinite or NaN, or if the rounding mode is {@link RoundingMode#UNNECESSARY} (or the
+	 *             precision unlimited) and the value cannot be represented exactly.
+	 */
+	public BigDecimal toBigDecimal (MathContext mathContext) {
+		if (!this.isFinite()) {
+			throw new ArithmeticException("Cannot convert " + this + " to BigDecimal");
+		}
+		return new BigDecimal(this.bigNumerator()).divide(new BigDecimal(this.bigDenominator()), mathContext);
+	}
+	
+	/**
+	 * Returns the greatest integer less than or equal to {@code this}. Infinities and NaN are returned unchanged.
+	 * 
+	 * @return The rounded value.
+	 */
+	public ExactDecimal floor () {
+		return this.round(RoundingMode.FLOOR);
+	}
+	
+	/**
+	 * Returns the least integer greater than or equal to {@code this}. Infinities and NaN are returned unchanged.
+	 * 
+	 * @return The rounded value.
+	 */
+	public ExactDecimal ceil () {
+		return this.round(RoundingMode.CEILING);
+	}
+	
+	/**
+	 * Rounds {@code this} to an integer. Infinities and NaN are returned unchanged.
+	 * 
+	 * @param roundingMode
+	 *            The rounding mode, which is applied like in {@link BigDecimal#setScale(int, RoundingMode)}.
+	 * @return The rounded value.
+	 * @throws ArithmeticException
+	 *             If the rounding mode is {@link RoundingMode#UNNECESSARY} and {@code this} is not an integer.
+	 */
+	public ExactDecimal round (RoundingMode roundingMode) {
+		if (!this.isFinite()) {
+			return this;
+		}
+		if (this.isCompact() && this.compactNumerator != Long.MIN_VALUE) {
+			if (this.compactDenominator == 1) {
+				return this;
+			}
+			if (roundingMode == RoundingMode.FLOOR) {
+				return ofCompact(Math.floorDiv(this.compactNumerator, this.compactDenominator), 1L,
+						this.reductionThreshold);
+			}
+			if (roundingMode == RoundingMode.CEILING) {
+				return ofCompact(-Math.floorDiv(-this.compactNumerator, this.compactDenominator), 1L,
+						this.reductionThreshold);
+			}
+		}
+		BigInteger rounded = new BigDecimal(this.bigNumerator())
+				.divide(new BigDecimal(this.bigDenominator()), 0, roundingMode).toBigIntegerExact();
+		return ofReduced(rounded, BigInteger.ONE, this.reductionThreshold);
 	}
 	
 	/**
@@ -570,40 +2065,145 @@ public class ExactDecimal implements Comparable<ExactDecimal> {
 	 * @return The number as decimal string.
 	 */
 	public String toStringAdvanced (int decimals) {
+		return this.appendTo(new StringBuilder(), decimals).toString();
+	}
+	
+	/**
+	 * Appends the string representation of {@link #toStringAdvanced(int)} to an {@link Appendable}.
+	 * 
+	 * @param target
+	 *            The {@link Appendable} to write to.
+	 * @param decimals
+	 *            The number of decimal places to show.
+	 * @return The {@link Appendable}.
+	 * @throws IOException
+	 *             If the {@link Appendable} fails.
+	 */
+	public Appendable appendTo (Appendable target, int decimals) throws IOException {
+		if (target instanceof StringBuilder) {
+			return this.appendTo((StringBuilder) target, decimals);
+		}
+		return target.append(this.appendTo(new StringBuilder(), decimals));
+	}
+	
+	/**
+	 * Appends the string representation of {@link #toStringAdvanced(int)} to a {@link StringBuilder}. Reusing one
+	 * builder for many values avoids creating intermediate {@link String}s.
+	 * 
+	 * @param builder
+	 *            The {@link StringBuilder} to write to.
+	 * @param decimals
+	 *            The number of decimal places to show.
+	 * @return The {@link StringBuilder}.
+	 */
+	public StringBuilder appendTo (StringBuilder builder, int decimals) {
 		if (this.isInfinite()) {
-			return this.signum() < 0 ? "-Infinity" : "Infinity";
+			return builder.append(this.signum() < 0 ? "-Infinity" : "Infinity");
 		}
 		if (this.isNaN()) {
-			return "NaN";
+			return builder.append("NaN");
 		}
 		
 		if (decimals < 0) {
 			decimals = 0;
 		}
+		if (this.signum() < 0) {
+			builder.append('-');
+		}
+		// truncated digits do not depend on the fraction being reduced
+		if (this.isCompact() && this.compactNumerator != Long.MIN_VALUE) {
+			long numerator = Math.abs(this.compactNumerator);
+			long denominator = this.compactDenominator;
+			builder.append(numerator / denominator);
+			if (decimals > 0) {
+				builder.append('.');
+				appendDecimals(builder, numerator % denominator, denominator, decimals);
+			}
+			return builder;
+		}
 		
-		String result = this.signum() < 0 ? "-" : "";
-		BigInteger numeratorAbs = this.numerator.abs();
-		BigInteger[] div = numeratorAbs.divideAndRemainder(this.denominator);
-		String decimalDigits;
-		if (decimals == 0) {
-			decimalDigits = "";
+		BigInteger[] div = this.bigNumerator().abs().divideAndRemainder(this.bigDenominator());
+		builder.append(div[0]);
+		if (decimals > 0) {
+			builder.append('.');
+			appendDecimals(builder, div[1], this.bigDenominator(), decimals);
+		}
+		return builder;
+	}
+	
+	/**
+	 * Appends the first decimals of {@code remainder / denominator}, which is less than one. As many digits as
+	 * possible are computed at once with {@code long} arithmetic.
+	 * 
+	 * @param builder
+	 *            The {@link StringBuilder} to write to.
+	 * @param remainder
+	 *            The non-negative numerator.
+	 * @param denominator
+	 *            The positive denominator.
+	 * @param decimals
+	 *            The number of digits to append.
+	 */
+	private static void appendDecimals (StringBuilder builder, long remainder, long denominator, int decimals) {
+		// the largest number of digits k with denominator * 10^k fitting into a long
+		int chunk = 0;
+		while (chunk < LONG_DIGITS && LONG_POWERS_OF_TEN[chunk + 1] <= Long.MAX_VALUE / denominator) {
+			chunk++;
+		}
+		if (chunk == 0) {
+			appendDecimals(builder, BigInteger.valueOf(remainder), BigInteger.valueOf(denominator), decimals);
+			return;
+		}
+		while (decimals > 0) {
+			int digits = Math.min(chunk, decimals);
+			long shifted = remainder * LONG_POWERS_OF_TEN[digits];
+			appendPadded(builder, shifted / denominator, digits);
+			remainder = shifted % denominator;
+			decimals -= digits;
+		}
+	}
+	
+	/**
+	 * Appends the first decimals of {@code remainder / denominator}, which is less than one.
+	 * 
+	 * @param builder
+	 *            The {@link StringBuilder} to write to.
+	 * @param remainder
+	 *            The non-negative numerator.
+	 * @param denominator
+	 *            The positive denominator.
+	 * @param decimals
+	 *            The number of digits to append.
+	 */
+	private static void appendDecimals (StringBuilder builder, BigInteger remainder, BigInteger denominator,
+			int decimals) {
+		BigInteger digits = remainder.multiply(powerOfTen(decimals)).divide(denominator);
+		if (digits.bitLength() < 64) {
+			appendPadded(builder, digits.longValue(), decimals);
 		} else {
-			BigInteger shift = BigInteger.ONE;
-			int mask = Integer.highestOneBit(decimals);
-			while (mask != 0) {
-				shift = shift.multiply(shift);
-				if ((mask & decimals) != 0) {
-					shift = shift.multiply(BigInteger.TEN);
-				}
-				mask >>>= 1;
+			String string = digits.toString();
+			for (int i = string.length(); i < decimals; i++) {
+				builder.append('0');
 			}
-			decimalDigits = ".";
-			BigInteger shiftedRemainder = div[1].multiply(shift);
-			String tmp = shiftedRemainder.divide(this.denominator).toString();
-			decimalDigits += fillString("", decimals - tmp.length(), '0') + tmp;
+			builder.append(string);
 		}
-		result += div[0] + decimalDigits;
-		return result;
+	}
+	
+	/**
+	 * Appends a non-negative number with leading zeros up to the given number of digits.
+	 * 
+	 * @param builder
+	 *            The {@link StringBuilder} to write to.
+	 * @param value
+	 *            The non-negative number.
+	 * @param digits
+	 *            The minimal number of digits.
+	 */
+	private static void appendPadded (StringBuilder builder, long value, int digits) {
+		for (int i = digits - 1; i > 0 && (i >= LONG_POWERS_OF_TEN.length || value < LONG_POWERS_OF_TEN[i]); i--) {
+			builder.append('0');
+		}
+		builder.append(value);
 	}
 	
 	/**
@@ -644,7 +2244,7 @@ public class ExactDecimal implements Comparable<ExactDecimal> {
 		}
 		
 		// both 0
-		if (this.numerator.equals(BigInteger.ZERO) && a.numerator.equals(BigInteger.ZERO)) {
+		if (this.signum() == 0 && a.signum() == 0) {
 			return 0;
 		}
 		
@@ -653,16 +2253,134 @@ public class ExactDecimal implements Comparable<ExactDecimal> {
 			return sign;
 		}
 		
-		// resolve fraction
-		BigInteger numeratorThis = this.numerator.multiply(a.denominator);
-		BigInteger numeratorA = a.numerator.multiply(this.denominator);
+		// both have the same sign, compare the magnitudes
+		if (this.isCompact() && a.isCompact()) {
+			return sign(this) * compareProducts(this.compactNumerator, a.compactDenominator, a.compactNumerator,
+					this.compactDenominator);
+		}
+		
+		// |n / d| lies in (2^(bitLength(n) - bitLength(d) - 1), 2^(bitLength(n) - bitLength(d) + 1)), up to one more
+		// bit, as the bit length of negative powers of two is one less
+		int magnitudeThis = this.numeratorBitLength() - this.denominatorBitLength();
+		int magnitudeA = a.numeratorBitLength() - a.denominatorBitLength();
+		if (magnitudeThis - magnitudeA > 2) {
+			return sign(this);
+		} else if (magnitudeA - magnitudeThis > 2) {
+			return -sign(this);
+		}
+		
+		// double approximations of both magnitudes, scaled by a common power of two
+		int shiftNumeratorThis = approximationShift(this.numeratorBitLength());
+		int shiftDenominatorThis = approximationShift(this.denominatorBitLength());
+		int shiftNumeratorA = approximationShift(a.numeratorBitLength());
+		int shiftDenominatorA = approximationShift(a.denominatorBitLength());
+		double approximationThis = approximate(this.numerator, this.compactNumerator, shiftNumeratorThis)
+				/ approximate(this.denominator, this.compactDenominator, shiftDenominatorThis);
+		double approximationA = approximate(a.numerator, a.compactNumerator, shiftNumeratorA)
+				/ approximate(a.denominator, a.compactDenominator, shiftDenominatorA);
+		approximationThis = Math.scalb(approximationThis,
+				shiftNumeratorThis - shiftDenominatorThis - shiftNumeratorA + shiftDenominatorA);
+		if (approximationThis > approximationA * (1 + COMPARE_EPSILON)) {
+			return sign(this);
+		} else if (approximationThis < approximationA * (1 - COMPARE_EPSILON)) {
+			return -sign(this);
+		}
+		
+		// too close to decide, compare exactly
+		BigInteger numeratorThis = this.bigNumerator().multiply(a.bigDenominator());
+		BigInteger numeratorA = a.bigNumerator().multiply(this.bigDenominator());
 		return numeratorThis.compareTo(numeratorA);
 	}
 	
+	/**
+	 * Returns the sign of a value as {@code 1} or {@code -1}. Zero is treated as positive.
+	 */
+	private static int sign (ExactDecimal a) {
+		return a.signum() < 0 ? -1 : 1;
+	}
+	
+	/**
+	 * Compares {@code |a * b|} to {@code |c * d|} with exact 128 bit products. {@code b} and {@code d} must not be
+	 * negative.
+	 * 
+	 * @return A negative number, zero or a positive number, if the first product is less than, equal to or greater
+	 *         than the second.
+	 */
+	private static int compareProducts (long a, long b, long c, long d) {
+		// the absolute value of Long.MIN_VALUE is correct, if read unsigned
+		long absA = Math.abs(a);
+		long absC = Math.abs(c);
+		int high = Long.compareUnsigned(unsignedMultiplyHigh(absA, b), unsignedMultiplyHigh(absC, d));
+		if (high != 0) {
+			return high;
+		}
+		return Long.compareUnsigned(absA * b, absC * d);
+	}
+	
+	/**
+	 * Returns the upper 64 bits of the unsigned 128 bit product of two unsigned {@code long}s.
+	 */
+	private static long unsignedMultiplyHigh (long a, long b) {
+		long a0 = a & 0xFFFFFFFFL;
+		long a1 = a >>> 32;
+		long b0 = b & 0xFFFFFFFFL;
+		long b1 = b >>> 32;
+		long low = a0 * b0;
+		long middle1 = a1 * b0 + (low >>> 32);
+		long middle2 = a0 * b1 + (middle1 & 0xFFFFFFFFL);
+		return a1 * b1 + (middle1 >>> 32) + (middle2 >>> 32);
+	}
+	
+	/**
+	 * Returns the number of bits of the absolute value of the numerator, or one less for negative powers of two.
+	 */
+	private int numeratorBitLength () {
+		if (this.isCompact()) {
+			return 64 - Long.numberOfLeadingZeros(Math.abs(this.compactNumerator));
+		}
+		return this.numerator.bitLength();
+	}
+	
+	/**
+	 * Returns the number of bits of the denominator.
+	 */
+	private int denominatorBitLength () {
+		if (this.isCompact()) {
+			return 64 - Long.numberOfLeadingZeros(this.compactDenominator);
+		}
+		return this.denominator.bitLength();
+	}
+	
+	/**
+	 * Returns the number of low bits dropped by {@link #approximate(BigInteger, long, int)}, so the approximation
+	 * stays well within the range of {@code double}.
+	 */
+	private static int approximationShift (int bitLength) {
+		return bitLength > APPROXIMATION_BITS ? bitLength - 64 : 0;
+	}
+	
+	/**
+	 * Approximates {@code |value| / 2^shift} as a {@code double}, with a relative error of at most {@code 2^-52}.
+	 * 
+	 * @param big
+	 *            The value, or {@code null} to use {@code compact}.
+	 * @param compact
+	 *            The value, if {@code big} is {@code null}.
+	 * @param shift
+	 *            The number of low bits to drop.
+	 */
+	private static double approximate (BigInteger big, long compact, int shift) {
+		if (big == null) {
+			return Math.abs((double) compact);
+		}
+		// BigInteger.doubleValue does not allocate, shifting does
+		return Math.abs(shift == 0 ? big.doubleValue() : big.shiftRight(shift).doubleValue());
+	}
+	
 	/**
 	 * Returns {@code true} if both fractions are equal in numerator and denominator, {@code false} otherwise. Because
-	 * fractions are always kept minimal, {@code true} means mathematically equal or the same special value (infinities
-	 * and NaN).
+	 * fractions are always kept minimal (values in lazy mode are compared by their reduced form), {@code true} means
+	 * mathematically equal or the same special value (infinities and NaN).
 	 */
 	@Override
 	public boolean equals (Object o) {
@@ -670,8 +2388,14 @@ public class ExactDecimal implements Comparable<ExactDecimal> {
 			return false;
 		}
 		if (o instanceof ExactDecimal) {
-			ExactDecimal other = (ExactDecimal) o;
-			return this.numerator.equals(other.numerator) && this.denominator.equals(other.denominator);
+			ExactDecimal self = this.reduced();
+			ExactDecimal other = ((ExactDecimal) o).reduced();
+			if (self.isCompact() || other.isCompact()) {
+				// the compact form is used whenever possible, so it cannot equal a non-compact fraction
+				return self.isCompact() && other.isCompact() && self.compactNumerator == other.compactNumerator
+						&& self.compactDenominator == other.compactDenominator;
+			}
+			return self.numerator.equals(other.numerator) && self.denominator.equals(other.denominator);
 		}
 		return false;
 	}
@@ -683,8 +2407,166 @@ public class ExactDecimal implements Comparable<ExactDecimal> {
 	 */
 	@Override
 	public int hashCode () {
-		int numeratorHash = this.numerator.hashCode();
-		int denominatorHash = this.denominator.hashCode();
-		return numeratorHash ^ denominatorHash;
+		int hash = this.hash;
+		if (hash == 0) {
+			ExactDecimal reduced = this.reduced();
+			if (reduced.isCompact()) {
+				hash = hashLong(reduced.compactNumerator) ^ hashLong(reduced.compactDenominator);
+			} else {
+				hash = reduced.numerator.hashCode() ^ reduced.denominator.hashCode();
+			}
+			this.hash = hash;
+		}
+		return hash;
+	}
+	
+	/**
+	 * Calculates the hash of a long in the same way {@link BigInteger#hashCode()} does for a {@link BigInteger} of the
+	 * same value, without creating one.
+	 * 
+	 * @param value
+	 *            The value to hash.
+	 * @return The hash.
+	 */
+	private static int hashLong (long value) {
+		// the absolute value of Long.MIN_VALUE is correct if interpreted as unsigned
+		long magnitude = Math.abs(value);
+		int high = (int) (magnitude >>> 32);
+		int low = (int) magnitude;
+		int hash = high == 0 ? low : 31 * high + low;
+		return hash * Long.signum(value);
+	}
+	
+	/**
+	 * Balanced reduction of a range of values for {@link ExactDecimal#product(ExactDecimal...)} and
+	 * {@link ExactDecimal#sum(ExactDecimal...)}. Ranges of at least {@link #PARALLEL_THRESHOLD} values are split into
+	 * two subtasks, smaller ranges are reduced sequentially.
+	 */
+	private static final class ReductionTask extends RecursiveTask<ExactDecimal> {
+		private static final long serialVersionUID = 1L;
+		/**
+		 * The size of ranges, which are reduced by a simple loop.
+		 */
+		private static final int LEAF_SIZE = 8;
+		
+		private final ExactDecimal[] values;
+		private final int from;
+		private final int to;
+		private final boolean sum;
+		
+		ReductionTask (ExactDecimal[] values, int from, int to, boolean sum) {
+			this.values = values;
+			this.from = from;
+			this.to = to;
+			this.sum = sum;
+		}
+		
+		@Override
+		protected ExactDecimal compute () {
+			if (this.to - this.from < PARALLEL_THRESHOLD) {
+				return reduce(this.values, this.from, this.to, this.sum);
+			}
+			int middle = (this.from + this.to) >>> 1;
+			ReductionTask left = new ReductionTask(this.values, this.from, middle, this.sum);
+			left.fork();
+			ExactDecimal right = new ReductionTask(this.values, middle, this.to, this.sum).compute();
+			return combine(left.join(), right, this.sum);
+		}
+		
+		/**
+		 * Reduces the values from index {@code from} (inclusive) to {@code to} (exclusive) sequentially, splitting the
+		 * range in halves.
+		 */
+		static ExactDecimal reduce (ExactDecimal[] values, int from, int to, boolean sum) {
+			if (to - from <= LEAF_SIZE) {
+				if (sum) {
+					ExactDecimalAccumulator accumulator = new ExactDecimalAccumulator();
+					for (int i = from; i < to; i++) {
+						accumulator.add(values[i]);
+					}
+					return accumulator.get();
+				}
+				ExactDecimal result = ONE;
+				for (int i = from; i < to; i++) {
+					result = result.multiply(values[i]);
+				}
+				return result;
+			}
+			int middle = (from + to) >>> 1;
+			return combine(reduce(values, from, middle, sum), reduce(values, middle, to, sum), sum);
+		}
+		
+		private static ExactDecimal combine (ExactDecimal a, ExactDecimal b, boolean sum) {
+			return sum ? a.add(b) : a.multiply(b);
+		}
+	}
+	
+	/**
+	 * Shared instances of frequent values in eager mode, similar to the cache behind {@link Integer#valueOf(int)}. The
+	 * cache holds all integers in {@code [-high, high]} and all proper fractions {@code n/d} with
+	 * {@code 2 <= d <= denominator}. Both bounds are read from system properties on first use:
+	 * <ul>
+	 * <li>{@code edu.kit.ukzgk.exactDecimal.ExactDecimal.cache.high}, default {@code 128}, at most {@code 2^20}</li>
+	 * <li>{@code edu.kit.ukzgk.exactDecimal.ExactDecimal.cache.denominator}, default {@code 16}, at most
+	 * {@code 2^10}</li>
+	 * </ul>
+	 */
+	private static final class ValueCache {
+		private static final int HIGH = bound("edu.kit.ukzgk.exactDecimal.ExactDecimal.cache.high", 128, 1 << 20);
+		private static final int DENOMINATOR = bound("edu.kit.ukzgk.exactDecimal.ExactDecimal.cache.denominator", 16,
+				1 << 10);
+		private static final ExactDecimal[] INTEGERS = new ExactDecimal[2 * HIGH + 1];
+		/**
+		 * Proper fractions, the ones with denominator {@code d} start at {@code (d - 1)^2 - 1}. Entries of fractions,
+		 * which are not reduced, stay {@code null}.
+		 */
+		private static final ExactDecimal[] FRACTIONS = new ExactDecimal[Math.max(DENOMINATOR * DENOMINATOR - 1, 0)];
+		
+		static {
+			// the public constants are the shared instances of their values
+			for (ExactDecimal constant : new ExactDecimal[] { ZERO, ONE, TWO, EIGHT, TEN, SIXTEEN }) {
+				if (constant.compactNumerator <= HIGH) {
+					INTEGERS[(int) constant.compactNumerator + HIGH] = constant;
+				}
+			}
+			for (int i = 0; i < INTEGERS.length; i++) {
+				if (INTEGERS[i] == null) {
+					INTEGERS[i] = new ExactDecimal(null, null, i - HIGH, 1L);
+				}
+			}
+			for (int d = 2; d <= DENOMINATOR; d++) {
+				for (int n = 1 - d; n < d; n++) {
+					if (n != 0 && gcd(Math.abs(n), d) == 1) {
+						FRACTIONS[index(n, d)] = new ExactDecimal(null, null, n, d);
+					}
+				}
+			}
+		}
+		
+		private ValueCache () {
+		}
+		
+		private static int bound (String property, int defaultValue, int max) {
+			int value = Integer.getInteger(property, defaultValue);
+			return Math.max(0, Math.min(value, max));
+		}
+		
+		private static int index (long numerator, long denominator) {
+			return (int) ((denominator - 1) * (denominator - 1) - 1 + numerator + denominator - 1);
+		}
+		
+		/**
+		 * Returns the shared instance of a reduced fraction with positive denominator, or {@code null} if it is not
+		 * cached.
+		 */
+		static ExactDecimal get (long numerator, long denominator) {
+			if (denominator == 1) {
+				return numerator >= -HIGH && numerator <= HIGH ? INTEGERS[(int) numerator + HIGH] : null;
+			}
+			if (denominator <= DENOMINATOR && denominator > 0 && numerator > -denominator && numerator < denominator) {
+				return FRACTIONS[index(numerator, denominator)];
+			}
+			return null;
+		}
 	}
 }
@@ -0,0 +1,258 @@
+package edu.kit.ukzgk.exactDecimal;
+
+import java.math.BigInteger;
+
+/**
+ * The {@link ExactDecimalAccumulator} is a mutable sum of {@link ExactDecimal}s. Unlike a chain of
+ * {@link ExactDecimal#add(ExactDecimal)} calls it creates no intermediate instances.<br>
+ * The running sum is kept as a fraction over the least common multiple of the denominators seen so far, without
+ * cancelling the numerator against it. It is stored as two {@code long}s as long as they fit, and as
+ * {@link BigInteger}s otherwise. Those are only reduced, when the denominator exceeds
+ * {@link ExactDecimal#DEFAULT_REDUCTION_THRESHOLD} bits. {@link #get()} returns the reduced sum.<br>
+ * Infinities and NaN are handled like {@link ExactDecimal#add(ExactDecimal)} does.<br>
+ * Instances are not thread-safe. For parallel summation use one accumulator per thread and
+ * {@link #combine(ExactDecimalAccumulator)} them afterwards.
+ * 
+ * @author Florian Gilges
+ * @version 201711090317
+ */
+public class ExactDecimalAccumulator {
+	/**
+	 * The numerator of the sum, if {@link #bigNumerator} is {@code null}.
+	 */
+	private long numerator;
+	/**
+	 * The positive denominator of the sum, if {@link #bigNumerator} is {@code null}.
+	 */
+	private long denominator;
+	/**
+	 * The numerator of the sum, if it does not fit into {@link #numerator}.
+	 */
+	private BigInteger bigNumerator;
+	/**
+	 * The positive denominator of the sum, if {@link #bigNumerator} is not {@code null}.
+	 */
+	private BigInteger bigDenominator;
+	/**
+	 * The sum, once an infinity or NaN was added, {@code null} otherwise.
+	 */
+	private ExactDecimal special;
+	
+	/**
+	 * Creates an accumulator with the sum zero.
+	 */
+	public ExactDecimalAccumulator () {
+		this.reset();
+	}
+	
+	/**
+	 * Creates an accumulator with an initial value.
+	 * 
+	 * @param value
+	 *            The initial value.
+	 */
+	public ExactDecimalAccumulator (ExactDecimal value) {
+		this();
+		this.add(value);
+	}
+	
+	/**
+	 * Adds a value to the sum.
+	 * 
+	 * @param a
+	 *            The value to add.
+	 */
+	public void add (ExactDecimal a) {
+		if (this.special != null || !a.isFinite()) {
+			this.addSpecial(a);
+		} else if (a.isCompact()) {
+			this.add(a.compactNumerator(), a.compactDenominator());
+		} else {
+			this.add(a.bigNumerator(), a.bigDenominator());
+		}
+	}
+	
+	/**
+	 * Adds an integer to the sum.
+	 * 
+	 * @param a
+	 *            The value to add.
+	 */
+	public void add (long a) {
+		if (this.special != null) {
+			this.addSpecial(new ExactDecimal(a));
+		} else {
+			this.add(a, 1L);
+		}
+	}
+	
+	/**
+	 * Subtracts a value from the sum.
+	 * 
+	 * @param a
+	 *            The value to subtract.
+	 */
+	public void subtract (ExactDecimal a) {
+		if (this.special == null && a.isCompact() && a.isFinite() && a.compactNumerator() != Long.MIN_VALUE) {
+			this.add(-a.compactNumerator(), a.compactDenominator());
+		} else {
+			this.add(a.negate());
+		}
+	}
+	
+	/**
+	 * Adds the product of two values to the sum, without creating an instance for the product.
+	 * 
+	 * @param a
+	 *            The first factor.
+	 * @param b
+	 *            The second factor.
+	 */
+	public void multiplyAdd (ExactDecimal a, ExactDecimal b) {
+		if (this.special != null || !a.isFinite() || !b.isFinite()) {
+			this.addSpecial(a.multiply(b));
+			return;
+		}
+		if (a.isCompact() && b.isCompact()) {
+			try {
+				long numerator = Math.multiplyExact(a.compactNumerator(), b.compactNumerator());
+				long denominator = Math.multiplyExact(a.compactDenominator(), b.compactDenominator());
+				this.add(numerator, denominator);
+				return;
+			} catch (ArithmeticException e) {
+				// overflow: fall back to BigInteger
+			}
+		}
+		this.add(a.bigNumerator().multiply(b.bigNumerator()), a.bigDenominator().multiply(b.bigDenominator()));
+	}
+	
+	/**
+	 * Adds the sum of another accumulator to this one. The other accumulator is not changed.
+	 * 
+	 * @param other
+	 *            The accumulator to add.
+	 */
+	public void combine (ExactDecimalAccumulator other) {
+		if (this.special != null || other.special != null) {
+			this.addSpecial(other.get());
+		} else if (other.bigNumerator == null) {
+			this.add(other.numerator, other.denominator);
+		} else {
+			this.add(other.bigNumerator, other.bigDenominator);
+		}
+	}
+	
+	/**
+	 * Returns the current sum as reduced {@link ExactDecimal}.
+	 * 
+	 * @return The sum.
+	 */
+	public ExactDecimal get () {
+		if (this.special != null) {
+			return this.special;
+		}
+		if (this.bigNumerator == null) {
+			return ExactDecimal.valueOf(this.numerator, this.denominator);
+		}
+		return new ExactDecimal(this.bigNumerator, this.bigDenominator);
+	}
+	
+	/**
+	 * Resets the sum to zero.
+	 */
+	public void reset () {
+		this.numerator = 0;
+		this.denominator = 1;
+		this.bigNumerator = null;
+		this.bigDenominator = null;
+		this.special = null;
+	}
+	
+	/**
+	 * Returns the {@link String} representation of the current sum, see {@link ExactDecimal#toString()}.
+	 */
+	@Override
+	public String toString () {
+		return this.get().toString();
+	}
+	
+	/**
+	 * Adds an infinity or NaN, or adds anything after one was added.
+	 * 
+	 * @param a
+	 *            The value to add.
+	 */
+	private void addSpecial (ExactDecimal a) {
+		this.special = (this.special != null ? this.special : this.get()).add(a);
+	}
+	
+	/**
+	 * Adds a finite fraction to the finite sum.
+	 * 
+	 * @param numerator
+	 *            The numerator of the fraction.
+	 * @param denominator
+	 *            The positive denominator of the fraction.
+	 */
+	private void add (long numerator, long denominator) {
+		if (this.bigNumerator == null) {
+			try {
+				if (denominator == this.denominator) {
+					this.numerator = Math.addExact(this.numerator, numerator);
+				} else if (this.denominator % denominator == 0) {
+					this.numerator = Math.addExact(this.numerator,
+							Math.multiplyExact(numerator, this.denominator / denominator));
+				} else {
+					// common denominator is lcm(d1, d2) = d1 * (d2 / gcd)
+					long gcd = ExactDecimal.gcd(this.denominator, denominator);
+					long scale = denominator / gcd;
+					long sum = Math.addExact(Math.multiplyExact(this.numerator, scale),
+							Math.multiplyExact(numerator, this.denominator / gcd));
+					this.denominator = Math.multiplyExact(this.denominator, scale);
+					this.numerator = sum;
+				}
+				return;
+			} catch (ArithmeticException e) {
+				// overflow: fall back to BigInteger, the sum was not changed
+			}
+		}
+		this.add(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+	}
+	
+	/**
+	 * Adds a finite fraction to the finite sum.
+	 * 
+	 * @param numerator
+	 *            The numerator of the fraction.
+	 * @param denominator
+	 *            The positive denominator of the fraction.
+	 */
+	private void add (BigInteger numerator, BigInteger denominator) {
+		BigInteger sumNumerator = this.bigNumerator == null ? BigInteger.valueOf(this.numerator) : this.bigNumerator;
+		BigInteger sumDenominator = this.bigNumerator == null ? BigInteger.valueOf(this.denominator)
+				: this.bigDenominator;
+		if (sumDenominator.equals(denominator)) {
+			sumNumerator = sumNumerator.add(numerator);
+		} else {
+			BigInteger gcd = sumDenominator.gcd(denominator);
+			BigInteger scale = denominator.divide(gcd);
+			sumNumerator = sumNumerator.multiply(scale).add(numerator.multiply(sumDenominator.divide(gcd)));
+			sumDenominator = sumDenominator.multiply(scale);
+		}
+		
+		if (sumDenominator.bitLength() > ExactDecimal.DEFAULT_REDUCTION_THRESHOLD) {
+			BigInteger gcd = sumNumerator.gcd(sumDenominator);
+			sumNumerator = sumNumerator.divide(gcd);
+			sumDenominator = sumDenominator.divide(gcd);
+		}
+		if (sumNumerator.bitLength() < 64 && sumDenominator.bitLength() < 64) {
+			this.numerator = sumNumerator.longValue();
+			this.denominator = sumDenominator.longValue();
+			this.bigNumerator = null;
+			this.bigDenominator = null;
+		} else {
+			this.bigNumerator = sumNumerator;
+			this.bigDenominator = sumDenominator;
+		}
+	}
+}
@@ -0,0 +1,158 @@
+package edu.kit.ukzgk.exactDecimal;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * {@link Collector}s reducing streams of {@link ExactDecimal}s. They are designed for parallel streams: every leaf of
+ * the fork-join computation works on a mutable partial result, and partial results are only combined once per leaf.
+ * As all operations are exact, parallel and sequential results are equal.
+ * 
+ * @author Florian Gilges
+ * @version 201711090317
+ */
+public final class ExactDecimalCollectors {
+	private ExactDecimalCollectors () {
+	}
+	
+	/**
+	 * Returns a {@link Collector} summing the values, using an {@link ExactDecimalAccumulator} per leaf.
+	 * 
+	 * @return The sum {@link Collector}. The sum of no values is {@link ExactDecimal#ZERO}.
+	 */
+	public static Collector<ExactDecimal, ?, ExactDecimal> sum () {
+		return Collector.of(ExactDecimalAccumulator::new, ExactDecimalAccumulator::add,
+				ExactDecimalCollectors::combine, ExactDecimalAccumulator::get, Collector.Characteristics.UNORDERED);
+	}
+	
+	/**
+	 * Returns a {@link Collector} summing the squares of the values, without creating an instance for every square.
+	 * 
+	 * @return The sum of squares {@link Collector}. The sum of no values is {@link ExactDecimal#ZERO}.
+	 */
+	public static Collector<ExactDecimal, ?, ExactDecimal> sumOfSquares () {
+		return Collector.of(ExactDecimalAccumulator::new, (ExactDecimalAccumulator a, ExactDecimal x) -> a
+				.multiplyAdd(x, x), ExactDecimalCollectors::combine, ExactDecimalAccumulator::get,
+				Collector.Characteristics.UNORDERED);
+	}
+	
+	/**
+	 * Returns a {@link Collector} calculating the arithmetic mean of the values.
+	 * 
+	 * @return The average {@link Collector}. The average of no values is empty.
+	 */
+	public static Collector<ExactDecimal, ?, Optional<ExactDecimal>> average () {
+		return Collector.of(Average::new, Average::add, Average::combine, Average::get,
+				Collector.Characteristics.UNORDERED);
+	}
+	
+	/**
+	 * Returns a {@link Collector} multiplying the values. The factors are multiplied in a balanced tree, so the
+	 * operands of each multiplication have similar sizes.
+	 * 
+	 * @return The product {@link Collector}. The product of no values is {@link ExactDecimal#ONE}.
+	 */
+	public static Collector<ExactDecimal, ?, ExactDecimal> product () {
+		return Collector.of(Product::new, Product::add, Product::combine, Product::get,
+				Collector.Characteristics.UNORDERED);
+	}
+	
+	/**
+	 * Returns a {@link Collector} finding the minimum according to {@link ExactDecimal#compareTo(ExactDecimal)}.
+	 * 
+	 * @return The minimum {@link Collector}. The minimum of no values is empty.
+	 */
+	public static Collector<ExactDecimal, ?, Optional<ExactDecimal>> min () {
+		return Collectors.minBy(Comparator.naturalOrder());
+	}
+	
+	/**
+	 * Returns a {@link Collector} finding the maximum according to {@link ExactDecimal#compareTo(ExactDecimal)}.
+	 * 
+	 * @return The maximum {@link Collector}. The maximum of no values is empty.
+	 */
+	public static Collector<ExactDecimal, ?, Optional<ExactDecimal>> max () {
+		return Collectors.maxBy(Comparator.naturalOrder());
+	}
+	
+	private static ExactDecimalAccumulator combine (ExactDecimalAccumulator a, ExactDecimalAccumulator b) {
+		a.combine(b);
+		return a;
+	}
+	
+	/**
+	 * Partial result of {@link ExactDecimalCollectors#average()}.
+	 */
+	private static final class Average {
+		private final ExactDecimalAccumulator sum = new ExactDecimalAccumulator();
+		private long count;
+		
+		void add (ExactDecimal a) {
+			this.sum.add(a);
+			this.count++;
+		}
+		
+		Average combine (Average other) {
+			this.sum.combine(other.sum);
+			this.count += other.count;
+			return this;
+		}
+		
+		Optional<ExactDecimal> get () {
+			if (this.count == 0) {
+				return Optional.empty();
+			}
+			return Optional.of(this.sum.get().divide(new ExactDecimal(this.count)));
+		}
+	}
+	
+	/**
+	 * Partial result of {@link ExactDecimalCollectors#product()}. It is a stack of partial products, where each
+	 * entry covers at least as many factors as the entry above. A new factor is pushed on top, then the two topmost
+	 * entries are multiplied, as long as the upper covers as many factors as the lower. This is a binary counter, so
+	 * every multiplication has operands of similar size.
+	 */
+	private static final class Product {
+		private ExactDecimal[] products = new ExactDecimal[8];
+		private long[] counts = new long[8];
+		private int size;
+		
+		void add (ExactDecimal a) {
+			this.push(a, 1);
+		}
+		
+		Product combine (Product other) {
+			for (int i = 0; i < other.size; i++) {
+				this.push(other.products[i], other.counts[i]);
+			}
+			return this;
+		}
+		
+		ExactDecimal get () {
+			ExactDecimal result = ExactDecimal.ONE;
+			for (int i = this.size - 1; i >= 0; i--) {
+				result = this.products[i].multiply(result);
+			}
+			return result;
+		}
+		
+		private void push (ExactDecimal a, long count) {
+			if (this.size == this.products.length) {
+				this.products = Arrays.copyOf(this.products, this.size * 2);
+				this.counts = Arrays.copyOf(this.counts, this.size * 2);
+			}
+			this.products[this.size] = a;
+			this.counts[this.size] = count;
+			this.size++;
+			while (this.size > 1 && this.counts[this.size - 1] >= this.counts[this.size - 2]) {
+				this.size--;
+				this.products[this.size - 1] = this.products[this.size - 1].multiply(this.products[this.size]);
+				this.counts[this.size - 1] += this.counts[this.size];
+				this.products[this.size] = null;
+			}
+		}
+	}
+}
@@ -0,0 +1,213 @@
+package edu.kit.ukzgk.exactDecimal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * The {@link ExactDecimalReader} parses delimited decimal numbers directly from ASCII encoded bytes in a
+ * {@link ByteBuffer}, without creating a {@link String} for every value. The numbers follow the syntax of
+ * {@link ExactDecimal#stringToExactDecimal(CharSequence)}.<br>
+ * Values are separated by any run of the delimiter byte and ASCII whitespace ({@code ' '}, {@code '\t'},
+ * {@code '\r'} and {@code '\n'}), so empty fields are skipped.<br>
+ * The reader consumes the bytes between the position and the limit of the buffer and advances the position of the
+ * buffer while reading.
+ * 
+ * @author Florian Gilges
+ * @version 201711090317
+ */
+public class ExactDecimalReader {
+	/**
+	 * The delimiter used, if none is given.
+	 */
+	public static final byte DEFAULT_DELIMITER = ',';
+	/**
+	 * The maximum number of bytes mapped at once by {@link #readAll(FileChannel, byte)}.
+	 */
+	private static final int MAX_WINDOW = 1 << 30;
+	
+	private final ByteBuffer buffer;
+	private final byte delimiter;
+	/**
+	 * A view of the whole buffer, shared by all values parsed from it.
+	 */
+	private final AsciiCharSequence chars;
+	
+	/**
+	 * Creates a reader for the remaining bytes of the buffer, using {@link #DEFAULT_DELIMITER}.
+	 * 
+	 * @param buffer
+	 *            The buffer to read from.
+	 */
+	public ExactDecimalReader (ByteBuffer buffer) {
+		this(buffer, DEFAULT_DELIMITER);
+	}
+	
+	/**
+	 * Creates a reader for the remaining bytes of the buffer.
+	 * 
+	 * @param buffer
+	 *            The buffer to read from.
+	 * @param delimiter
+	 *            The byte separating the values, in addition to whitespace.
+	 */
+	public ExactDecimalReader (ByteBuffer buffer, byte delimiter) {
+		this.buffer = buffer;
+		this.delimiter = delimiter;
+		this.chars = new AsciiCharSequence(buffer, 0, buffer.limit());
+	}
+	
+	/**
+	 * Creates a reader for a region of a file, which is mapped into memory.
+	 * 
+	 * @param channel
+	 *            The channel of the file to read.
+	 * @param position
+	 *            The position in the file, at which the region starts.
+	 * @param size
+	 *            The size of the region, at most {@link Integer#MAX_VALUE} bytes.
+	 * @param delimiter
+	 *            The byte separating the values, in addition to whitespace.
+	 * @throws IOException
+	 *             If the file could not be mapped.
+	 */
+	public static ExactDecimalReader map (FileChannel channel, long position, long size, byte delimiter)
+			throws IOException {
+		return new ExactDecimalReader(channel.map(FileChannel.MapMode.READ_ONLY, position, size), delimiter);
+	}
+	
+	/**
+	 * Checks whether there is another value. Skips separators in front of it.
+	 * 
+	 * @return {@code true}, if there is another value, {@code false} otherwise.
+	 */
+	public boolean hasNext () {
+		int position = this.buffer.position();
+		int limit = this.buffer.limit();
+		while (position < limit && this.isSeparator(this.buffer.get(position))) {
+			position++;
+		}
+		this.buffer.position(position);
+		return position < limit;
+	}
+	
+	/**
+	 * Parses the next value.
+	 * 
+	 * @return The next value.
+	 * @throws NoSuchElementException
+	 *             If there are no more values.
+	 * @throws NumberFormatException
+	 *             If the next value is not a valid number. The position of the buffer is left behind it.
+	 */
+	public ExactDecimal next () {
+		if (!this.hasNext()) {
+			throw new NoSuchElementException();
+		}
+		int start = this.buffer.position();
+		int end = start;
+		int limit = this.buffer.limit();
+		while (end < limit && !this.isSeparator(this.buffer.get(end))) {
+			end++;
+		}
+		this.buffer.position(end);
+		return ExactDecimal.parse(this.chars, start, end);
+	}
+	
+	/**
+	 * Parses values into an array, until the array range is full or there are no more values.
+	 * 
+	 * @param target
+	 *            The array to store the values in.
+	 * @param offset
+	 *            The index of the first value in the array.
+	 * @param length
+	 *            The maximum number of values to read.
+	 * @return The number of values read.
+	 */
+	public int read (ExactDecimal[] target, int offset, int length) {
+		int count = 0;
+		while (count < length && this.hasNext()) {
+			target[offset + count] = this.next();
+			count++;
+		}
+		return count;
+	}
+	
+	/**
+	 * Parses all remaining values.
+	 * 
+	 * @return The values in the order they appear.
+	 */
+	public ExactDecimal[] readAll () {
+		ExactDecimal[] values = new ExactDecimal[16];
+		int count = 0;
+		while (this.hasNext()) {
+			if (count == values.length) {
+				values = Arrays.copyOf(values, count * 2);
+			}
+			values[count++] = this.next();
+		}
+		return Arrays.copyOf(values, count);
+	}
+	
+	/**
+	 * Parses all values of a file. The file is mapped into memory window by window, so it may be larger than
+	 * {@link Integer#MAX_VALUE} bytes. Each window ends at a separator, so no value is split between two windows.
+	 * 
+	 * @param channel
+	 *            The channel of the file to read.
+	 * @param delimiter
+	 *            The byte separating the values, in addition to whitespace.
+	 * @return The values in the order they appear.
+	 * @throws IOException
+	 *             If the file could not be read.
+	 */
+	public static ExactDecimal[] readAll (FileChannel channel, byte delimiter) throws IOException {
+		return readAll(channel, delimiter, MAX_WINDOW);
+	}
+	
+	/**
+	 * Parses all values of a file, mapping at most {@code window} bytes at once.
+	 * 
+	 * @see #readAll(FileChannel, byte)
+	 */
+	static ExactDecimal[] readAll (FileChannel channel, byte delimiter, int window) throws IOException {
+		ExactDecimal[] values = new ExactDecimal[16];
+		int count = 0;
+		long position = 0;
+		long size = channel.size();
+		while (position < size) {
+			int length = (int) Math.min(window, size - position);
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+			ExactDecimalReader reader = new ExactDecimalReader(buffer, delimiter);
+			if (position + length < size) {
+				// cut the window after its last separator, so the value at its end is read by the next window
+				int end = length;
+				while (end > 0 && !reader.isSeparator(buffer.get(end - 1))) {
+					end--;
+				}
+				if (end == 0) {
+					throw new NumberFormatException();
+				}
+				buffer.limit(end);
+				length = end;
+			}
+			while (reader.hasNext()) {
+				if (count == values.length) {
+					values = Arrays.copyOf(values, count * 2);
+				}
+				values[count++] = reader.next();
+			}
+			position += length;
+		}
+		return Arrays.copyOf(values, count);
+	}
+	
+	private boolean isSeparator (byte b) {
+		return b == this.delimiter || b == ' ' || b == '\t' || b == '\r' || b == '\n';
+	}
+}
@@ -0,0 +1,572 @@
+package edu.kit.ukzgk.exactDecimal;
+
+import java.math.BigInteger;
+
+/**
+ * The {@link FactoredDecimal} class is a data type for chains of multiplications and divisions. It stores a fraction as
+ * a sparse map of prime exponents and an {@link ExactDecimal} cofactor, that holds everything which could not be
+ * factored over the small primes of the factor base. Positive exponents belong to the numerator, negative ones to the
+ * denominator.<br>
+ * Multiplication, division and integer powers only add up exponents, so products of ratios with small prime factors
+ * do not grow in size. The value is only materialised to an {@link ExactDecimal} where addition, comparison or
+ * formatting need it. Instances are immutable.
+ * 
+ * @author Florian Gilges
+ * @version 201711090317
+ */
+public class FactoredDecimal implements Comparable<FactoredDecimal> {
+	/**
+	 * Upper bound (exclusive) of the primes in the factor base.
+	 */
+	private static final int FACTOR_BASE_LIMIT = 1024;
+	/**
+	 * The primes used for factorisation, in ascending order.
+	 */
+	private static final int[] FACTOR_BASE = sieve(FACTOR_BASE_LIMIT);
+	/**
+	 * Products of consecutive primes from the factor base, that still fit into a {@code long}. They allow testing
+	 * several primes with a single {@link BigInteger} division.
+	 */
+	private static final long[] PRIME_GROUP_PRODUCTS;
+	/**
+	 * Index of the first prime after each group in {@link #PRIME_GROUP_PRODUCTS}.
+	 */
+	private static final int[] PRIME_GROUP_ENDS;
+	
+	static {
+		int groups = 0;
+		long[] products = new long[FACTOR_BASE.length];
+		int[] ends = new int[FACTOR_BASE.length];
+		long product = 1;
+		for (int i = 0; i < FACTOR_BASE.length; i++) {
+			if (product > Long.MAX_VALUE / FACTOR_BASE[i]) {
+				products[groups] = product;
+				ends[groups++] = i;
+				product = 1;
+			}
+			product *= FACTOR_BASE[i];
+		}
+		products[groups] = product;
+		ends[groups++] = FACTOR_BASE.length;
+		
+		PRIME_GROUP_PRODUCTS = new long[groups];
+		PRIME_GROUP_ENDS = new int[groups];
+		System.arraycopy(products, 0, PRIME_GROUP_PRODUCTS, 0, groups);
+		System.arraycopy(ends, 0, PRIME_GROUP_ENDS, 0, groups);
+	}
+	
+	/**
+	 * Zero constant. Equal to: {@code new FactoredDecimal(ExactDecimal.ZERO)}
+	 */
+	public static final FactoredDecimal ZERO = new FactoredDecimal(ExactDecimal.ZERO);
+	/**
+	 * One constant. Equal to: {@code new FactoredDecimal(ExactDecimal.ONE)}
+	 */
+	public static final FactoredDecimal ONE = new FactoredDecimal(ExactDecimal.ONE);
+	
+	/**
+	 * The primes with non-zero exponent, in ascending order.
+	 */
+	private final int[] primes;
+	/**
+	 * The exponents of the primes. Positive values belong to the numerator, negative ones to the denominator.
+	 */
+	private final int[] exponents;
+	/**
+	 * The unfactored rest of the value, including its sign. If it is zero or a special value (infinities and NaN),
+	 * there are no prime exponents.
+	 */
+	private final ExactDecimal cofactor;
+	/**
+	 * Cache for {@link #toExactDecimal()}. Races are harmless, because every thread computes the same immutable value.
+	 */
+	private ExactDecimal value;
+	
+	/**
+	 * Creates a factored representation of an {@link ExactDecimal}, by dividing out all primes of the factor base from
+	 * its numerator and denominator.
+	 * 
+	 * @param value
+	 *            The value of the new {@link FactoredDecimal}
+	 */
+	public FactoredDecimal (ExactDecimal value) {
+		value = value.eager();
+		if (!value.isFinite() || value.signum() == 0) {
+			this.primes = new int[0];
+			this.exponents = new int[0];
+			this.cofactor = value;
+			return;
+		}
+		
+		int[] dense = new int[FACTOR_BASE.length];
+		BigInteger numerator = factor(value.bigNumerator().abs(), 1, dense);
+		BigInteger denominator = factor(value.bigDenominator(), -1, dense);
+		
+		int count = 0;
+		for (int exponent : dense) {
+			if (exponent != 0) {
+				count++;
+			}
+		}
+		this.primes = new int[count];
+		this.exponents = new int[count];
+		for (int i = 0, j = 0; i < dense.length; i++) {
+			if (dense[i] != 0) {
+				this.primes[j] = FACTOR_BASE[i];
+				this.exponents[j++] = dense[i];
+			}
+		}
+		// removing common prime factors keeps the rest reduced
+		this.cofactor = ExactDecimal.ofReduced(value.signum() < 0 ? numerator.negate() : numerator, denominator);
+	}
+	
+	/**
+	 * Simple constructor, creating a {@link FactoredDecimal} from a {@link Long}.
+	 * 
+	 * @param value
+	 *            The value of the new {@link FactoredDecimal}
+	 */
+	public FactoredDecimal (long value) {
+		this(new ExactDecimal(value));
+	}
+	
+	/**
+	 * Simple constructor for creating the fraction out of two signed integers. Their signs will work the way
+	 * mathematics describes.
+	 * 
+	 * @param numerator
+	 *            The numerator of the fraction.
+	 * @param denominator
+	 *            The denominator of the fraction.
+	 */
+	public FactoredDecimal (long numerator, long denominator) {
+		this(new ExactDecimal(numerator, denominator));
+	}
+	
+	/**
+	 * Private constructor, that sets all fields without any checks.
+	 * 
+	 * @param primes
+	 *            The primes with non-zero exponent.
+	 * @param exponents
+	 *            The exponents of the primes.
+	 * @param cofactor
+	 *            The unfactored rest.
+	 */
+	private FactoredDecimal (int[] primes, int[] exponents, ExactDecimal cofactor) {
+		this.primes = primes;
+		this.exponents = exponents;
+		this.cofactor = cofactor;
+	}
+	
+	/**
+	 * Creates a list of all primes below the limit, using the sieve of Eratosthenes.
+	 * 
+	 * @param limit
+	 *            The exclusive upper bound.
+	 * @return The primes in ascending order.
+	 */
+	private static int[] sieve (int limit) {
+		boolean[] composite = new boolean[limit];
+		int count = 0;
+		for (int i = 2; i < limit; i++) {
+			if (!composite[i]) {
+				count++;
+				for (int j = i * i; j < limit; j += i) {
+					composite[j] = true;
+				}
+			}
+		}
+		int[] primes = new int[count];
+		for (int i = 2, j = 0; i < limit; i++) {
+			if (!composite[i]) {
+				primes[j++] = i;
+			}
+		}
+		return primes;
+	}
+	
+	/**
+	 * Divides all primes of the factor base out of a positive value and adds their multiplicities to a dense exponent
+	 * array.
+	 * 
+	 * @param value
+	 *            The positive value to factor.
+	 * @param direction
+	 *            {@code 1} for numerators, {@code -1} for denominators.
+	 * @param dense
+	 *            The exponents, indexed like {@link #FACTOR_BASE}.
+	 * @return The unfactored rest of the value.
+	 */
+	private static BigInteger factor (BigInteger value, int direction, int[] dense) {
+		if (value.bitLength() < 64) {
+			return BigInteger.valueOf(factor(value.longValue(), direction, dense));
+		}
+		
+		int twos = value.getLowestSetBit();
+		dense[0] += direction * twos;
+		value = value.shiftRight(twos);
+		
+		int start = 0;
+		for (int group = 0; group < PRIME_GROUP_PRODUCTS.length; group++) {
+			if (value.bitLength() < 64) {
+				return BigInteger.valueOf(factor(value.longValue(), direction, dense));
+			}
+			long remainder = value.mod(BigInteger.valueOf(PRIME_GROUP_PRODUCTS[group])).longValue();
+			for (int i = Math.max(start, 1); i < PRIME_GROUP_ENDS[group]; i++) {
+				if (remainder % FACTOR_BASE[i] == 0) {
+					BigInteger prime = BigInteger.valueOf(FACTOR_BASE[i]);
+					BigInteger[] div = value.divideAndRemainder(prime);
+					while (div[1].signum() == 0) {
+						dense[i] += direction;
+						value = div[0];
+						div = value.divideAndRemainder(prime);
+					}
+				}
+			}
+			start = PRIME_GROUP_ENDS[group];
+		}
+		return value;
+	}
+	
+	/**
+	 * Divides all primes of the factor base out of a positive value and adds their multiplicities to a dense exponent
+	 * array.
+	 * 
+	 * @param value
+	 *            The positive value to factor.
+	 * @param direction
+	 *            {@code 1} for numerators, {@code -1} for denominators.
+	 * @param dense
+	 *            The exponents, indexed like {@link #FACTOR_BASE}.
+	 * @return The unfactored rest of the value.
+	 */
+	private static long factor (long value, int direction, int[] dense) {
+		int twos = Long.numberOfTrailingZeros(value);
+		dense[0] += direction * twos;
+		value >>>= twos;
+		
+		for (int i = 1; i < FACTOR_BASE.length && value > 1; i++) {
+			int prime = FACTOR_BASE[i];
+			while (value % prime == 0) {
+				dense[i] += direction;
+				value /= prime;
+			}
+		}
+		return value;
+	}
+	
+	/**
+	 * Merges the exponents of two factored values. The exponents of the second value are multiplied with
+	 * {@code factor} before adding them.
+	 * 
+	 * @param a
+	 *            The first value.
+	 * @param b
+	 *            The second value.
+	 * @param factor
+	 *            {@code 1} for multiplication, {@code -1} for division.
+	 * @param cofactor
+	 *            The cofactor of the result.
+	 * @return The combined value.
+	 */
+	private static FactoredDecimal merge (FactoredDecimal a, FactoredDecimal b, int factor, ExactDecimal cofactor) {
+		if (!cofactor.isFinite() || cofactor.signum() == 0) {
+			return new FactoredDecimal(cofactor);
+		}
+		
+		int[] primes = new int[a.primes.length + b.primes.length];
+		int[] exponents = new int[primes.length];
+		int i = 0;
+		int j = 0;
+		int k = 0;
+		while (i < a.primes.length || j < b.primes.length) {
+			int prime;
+			int exponent;
+			if (j == b.primes.length || (i < a.primes.length && a.primes[i] < b.primes[j])) {
+				prime = a.primes[i];
+				exponent = a.exponents[i++];
+			} else if (i == a.primes.length || b.primes[j] < a.primes[i]) {
+				prime = b.primes[j];
+				exponent = factor * b.exponents[j++];
+			} else {
+				prime = a.primes[i];
+				exponent = Math.addExact(a.exponents[i++], factor * b.exponents[j++]);
+			}
+			if (exponent != 0) {
+				primes[k] = prime;
+				exponents[k++] = exponent;
+			}
+		}
+		if (k < primes.length) {
+			int[] tmp = new int[k];
+			System.arraycopy(primes, 0, tmp, 0, k);
+			primes = tmp;
+			tmp = new int[k];
+			System.arraycopy(exponents, 0, tmp, 0, k);
+			exponents = tmp;
+		}
+		return new FactoredDecimal(primes, exponents, cofactor);
+	}
+	
+	/**
+	 * Multiplies another {@link FactoredDecimal} to {@code this} and returns a new instance of that value.
+	 * 
+	 * @param a
+	 *            The value to multiply with.
+	 * @return A new instance, holding the result.
+	 */
+	public FactoredDecimal multiply (FactoredDecimal a) {
+		return merge(this, a, 1, this.cofactor.multiply(a.cofactor));
+	}
+	
+	/**
+	 * Divides {@code this} by another {@link FactoredDecimal} and returns a new instance of that value.
+	 * 
+	 * @param a
+	 *            The value to divide by.
+	 * @return A new instance, holding the result.
+	 */
+	public FactoredDecimal divide (FactoredDecimal a) {
+		return merge(this, a, -1, this.cofactor.divide(a.cofactor));
+	}
+	
+	/**
+	 * Raises {@code this} to an integer power and returns a new instance of that value. Any value to the power of zero
+	 * is one, like in {@link Math#pow(double, double)}.
+	 * 
+	 * @param exponent
+	 *            The exponent, may be negative.
+	 * @return A new instance, holding the result.
+	 */
+	public FactoredDecimal pow (int exponent) {
+		if (exponent == 0) {
+			return ONE;
+		}
+		
+		ExactDecimal cofactor = this.cofactor.pow(exponent);
+		if (!cofactor.isFinite() || cofactor.signum() == 0) {
+			return new FactoredDecimal(cofactor);
+		}
+		
+		int[] exponents = new int[this.exponents.length];
+		for (int i = 0; i < exponents.length; i++) {
+			exponents[i] = Math.multiplyExact(this.exponents[i], exponent);
+		}
+		return new FactoredDecimal(this.primes, exponents, cofactor);
+	}
+	
+	/**
+	 * Adds another {@link FactoredDecimal} to {@code this} and returns a new instance of that value. The prime factors
+	 * both values have in common stay factored, only the rest is materialised.
+	 * 
+	 * @param a
+	 *            The value to add.
+	 * @return A new instance, holding the result.
+	 */
+	public FactoredDecimal add (FactoredDecimal a) {
+		ExactDecimal[] rests = new ExactDecimal[2];
+		FactoredDecimal common = this.commonFactor(a, rests);
+		return common.multiply(new FactoredDecimal(rests[0].add(rests[1])));
+	}
+	
+	/**
+	 * Subtracts another {@link FactoredDecimal} from {@code this} and returns a new instance of that value. The prime
+	 * factors both values have in common stay factored, only the rest is materialised.
+	 * 
+	 * @param a
+	 *            The value to subtract.
+	 * @return A new instance, holding the result.
+	 */
+	public FactoredDecimal subtract (FactoredDecimal a) {
+		ExactDecimal[] rests = new ExactDecimal[2];
+		FactoredDecimal common = this.commonFactor(a, rests);
+		return common.multiply(new FactoredDecimal(rests[0].subtract(rests[1])));
+	}
+	
+	/**
+	 * Splits {@code this} and another value into their largest common product of prime powers and the materialised
+	 * rests. The common factor is always positive and finite.
+	 * 
+	 * @param a
+	 *            The other value.
+	 * @param rests
+	 *            Array of length two, to store the rests of {@code this} and {@code a} in.
+	 * @return The common factor.
+	 */
+	private FactoredDecimal commonFactor (FactoredDecimal a, ExactDecimal[] rests) {
+		int[] primes = new int[this.primes.length + a.primes.length];
+		int[] exponents = new int[primes.length];
+		int count = 0;
+		int i = 0;
+		int j = 0;
+		while (i < this.primes.length || j < a.primes.length) {
+			if (j == a.primes.length || (i < this.primes.length && this.primes[i] < a.primes[j])) {
+				if (this.exponents[i] < 0) {
+					primes[count] = this.primes[i];
+					exponents[count++] = this.exponents[i];
+				}
+				i++;
+			} else if (i == this.primes.length || a.primes[j] < this.primes[i]) {
+				if (a.exponents[j] < 0) {
+					primes[count] = a.primes[j];
+					exponents[count++] = a.exponents[j];
+				}
+				j++;
+			} else {
+				primes[count] = this.primes[i];
+				exponents[count++] = Math.min(this.exponents[i++], a.exponents[j++]);
+			}
+		}
+		
+		int[] commonPrimes = new int[count];
+		int[] commonExponents = new int[count];
+		System.arraycopy(primes, 0, commonPrimes, 0, count);
+		System.arraycopy(exponents, 0, commonExponents, 0, count);
+		FactoredDecimal common = new FactoredDecimal(commonPrimes, commonExponents, ExactDecimal.ONE);
+		rests[0] = merge(this, common, -1, this.cofactor).toExactDecimal();
+		rests[1] = merge(a, common, -1, a.cofactor).toExactDecimal();
+		return common;
+	}
+	
+	/**
+	 * Returns the absolute value of this number.
+	 * 
+	 * @return The absolute value.
+	 */
+	public FactoredDecimal abs () {
+		if (this.cofactor.signum() >= 0) {
+			return this;
+		}
+		return new FactoredDecimal(this.primes, this.exponents, this.cofactor.abs());
+	}
+	
+	/**
+	 * Returns a {@link FactoredDecimal} whose value is {@code (-this)}.
+	 * 
+	 * @return {@code -this}
+	 */
+	public FactoredDecimal negate () {
+		return new FactoredDecimal(this.primes, this.exponents, this.cofactor.negate());
+	}
+	
+	/**
+	 * Returns the value's sign, like {@link ExactDecimal#signum()} does.
+	 * 
+	 * @return The sign.
+	 */
+	public int signum () {
+		return this.cofactor.signum();
+	}
+	
+	/**
+	 * Returns whether {@code this} is NaN (not a number).
+	 * 
+	 * @return {@code true}, if {@code this} is NaN, {@code false} otherwise.
+	 */
+	public boolean isNaN () {
+		return this.cofactor.isNaN();
+	}
+	
+	/**
+	 * Returns whether {@code this} is a valid number (neither infinite, nor NaN).
+	 * 
+	 * @return {@code true}, if {@code this} is a valid number, {@code false} otherwise.
+	 */
+	public boolean isFinite () {
+		return this.cofactor.isFinite();
+	}
+	
+	/**
+	 * Returns whether {@code this} is value is infinite (positive or negative infinity).
+	 * 
+	 * @return {@code true}, if {@code this} is infinite, {@code false} otherwise.
+	 */
+	public boolean isInfinite () {
+		return this.cofactor.isInfinite();
+	}
+	
+	/**
+	 * Materialises the value as {@link ExactDecimal}. The result is cached.
+	 * 
+	 * @return The value as {@link ExactDecimal}.
+	 */
+	public ExactDecimal toExactDecimal () {
+		ExactDecimal result = this.value;
+		if (result == null) {
+			BigInteger numerator = BigInteger.ONE;
+			BigInteger denominator = BigInteger.ONE;
+			for (int i = 0; i < this.primes.length; i++) {
+				if (this.exponents[i] > 0) {
+					numerator = numerator.multiply(BigInteger.valueOf(this.primes[i]).pow(this.exponents[i]));
+				} else {
+					denominator = denominator.multiply(BigInteger.valueOf(this.primes[i]).pow(-this.exponents[i]));
+				}
+			}
+			// distinct primes are coprime, so the fraction is already reduced
+			result = this.cofactor.multiply(ExactDecimal.ofReduced(numerator, denominator));
+			this.value = result;
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns a Decimal-{@link String} representation of the value, with two decimals accuracy.
+	 * 
+	 * @see ExactDecimal#toString()
+	 */
+	@Override
+	public String toString () {
+		return this.toExactDecimal().toString();
+	}
+	
+	/**
+	 * Creates a string representation of the number in decimal format.
+	 * 
+	 * @param decimals
+	 *            The number of decimal places to show.
+	 * @return The number as decimal string.
+	 * @see ExactDecimal#toStringAdvanced(int)
+	 */
+	public String toStringAdvanced (int decimals) {
+		return this.toExactDecimal().toStringAdvanced(decimals);
+	}
+	
+	/**
+	 * Compares two values mathematically, like {@link ExactDecimal#compareTo(ExactDecimal)} does. The common prime
+	 * factors are removed before, so only the rests are materialised.
+	 * 
+	 * @see ExactDecimal#compareTo(ExactDecimal)
+	 */
+	@Override
+	public int compareTo (FactoredDecimal a) {
+		if (a == null) {
+			throw new NullPointerException("Cannot compare to null");
+		}
+		ExactDecimal[] rests = new ExactDecimal[2];
+		this.commonFactor(a, rests);
+		return rests[0].compareTo(rests[1]);
+	}
+	
+	/**
+	 * Returns {@code true} if both values are mathematically equal or the same special value (infinities and NaN),
+	 * {@code false} otherwise.
+	 */
+	@Override
+	public boolean equals (Object o) {
+		if (o instanceof FactoredDecimal) {
+			return this.toExactDecimal().equals(((FactoredDecimal) o).toExactDecimal());
+		}
+		return false;
+	}
+	
+	/**
+	 * Hashes the materialised value.
+	 * 
+	 * @see ExactDecimal#hashCode()
+	 */
+	@Override
+	public int hashCode () {
+		return this.toExactDecimal().hashCode();
+	}
+}
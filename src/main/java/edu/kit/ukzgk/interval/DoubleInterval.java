@@ -0,0 +1,518 @@
+package edu.kit.ukzgk.interval;
+
+import edu.kit.ukzgk.exactDecimal.ExactDecimal;
+
+/**
+ * The {@link DoubleInterval} class is a closed interval with {@code double} bounds. Every operation rounds its lower
+ * bound towards negative and its upper bound towards positive infinity, so the result always encloses the exact
+ * result, while being only slightly wider. It is a cheap alternative to {@link ExactInterval}, if an enclosure is
+ * sufficient.<br>
+ * Sums and differences are rounded outward only if they are inexact, which is detected by the error-free
+ * transformation of Knuth's TwoSum. Products, quotients and square roots are checked the same way with Dekker's
+ * TwoProduct. Only where that could overflow or underflow, they are rounded outward by one unit in the last place
+ * without checking. Infinite bounds and NaN are handled like in {@link ExactInterval}.
+ * 
+ * @author Florian Gilges
+ * @version 201711090317
+ */
+public class DoubleInterval {
+	/**
+	 * The interval containing all numbers: {@code [-Infinity, +Infinity]}
+	 */
+	public static final DoubleInterval ENTIRE = new DoubleInterval(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+	/**
+	 * NaN (not a number) constant. Evaluates where no interval can be calculated (e.g. division by {@code [0, 0]}).
+	 */
+	public static final DoubleInterval NOT_A_NUMBER = new DoubleInterval(Double.NaN);
+	
+	/**
+	 * The factor {@code 2^27 + 1} splitting a {@code double} into two halves of 26 bits each.
+	 */
+	private static final double SPLITTER = 0x1p27 + 1;
+	/**
+	 * The magnitude below which splitting and multiplying does not overflow.
+	 */
+	private static final double SAFE_MAX = 0x1p995;
+	/**
+	 * The magnitude of a product above which its rounding error does not underflow.
+	 */
+	private static final double SAFE_MIN = 0x1p-960;
+	
+	private final double lowerBound;
+	private final double upperBound;
+	
+	/**
+	 * Creates an interval containing a single value.
+	 * 
+	 * @param value
+	 *            The only value in the interval.
+	 */
+	public DoubleInterval (double value) {
+		this.lowerBound = value;
+		this.upperBound = value;
+	}
+	
+	/**
+	 * Creates the smallest interval containing both bounds. Their order does not matter.
+	 * 
+	 * @param boundA
+	 *            The first bound.
+	 * @param boundB
+	 *            The second bound.
+	 */
+	public DoubleInterval (double boundA, double boundB) {
+		if (Double.isNaN(boundA) || Double.isNaN(boundB)) {
+			this.lowerBound = Double.NaN;
+			this.upperBound = Double.NaN;
+		} else {
+			this.lowerBound = Math.min(boundA, boundB);
+			this.upperBound = Math.max(boundA, boundB);
+		}
+	}
+	
+	/**
+	 * Creates an interval from bounds, that are known to be ordered, without comparing them.
+	 * 
+	 * @param lowerBound
+	 *            The lower bound.
+	 * @param upperBound
+	 *            The upper bound, not less than {@code lowerBound}.
+	 * @param ordered
+	 *            Marker to distinguish this constructor, always {@code true}.
+	 */
+	private DoubleInterval (double lowerBound, double upperBound, boolean ordered) {
+		this.lowerBound = lowerBound;
+		this.upperBound = upperBound;
+	}
+	
+	/**
+	 * Creates the smallest {@link DoubleInterval} enclosing an {@link ExactInterval}.
+	 * 
+	 * @param interval
+	 *            The interval to enclose.
+	 * @return The enclosing interval.
+	 */
+	public static DoubleInterval valueOf (ExactInterval interval) {
+		if (interval.isNaN()) {
+			return NOT_A_NUMBER;
+		}
+		return bounds(interval.getLowerBound().doubleValueDown(), interval.getUpperBound().doubleValueUp());
+	}
+	
+	/**
+	 * Converts the interval into an {@link ExactInterval} with the same bounds. The conversion is exact.
+	 * 
+	 * @return The same interval as {@link ExactInterval}.
+	 */
+	public ExactInterval toExactInterval () {
+		return new ExactInterval(new ExactDecimal(this.lowerBound), new ExactDecimal(this.upperBound));
+	}
+	
+	/**
+	 * Adds two intervals.
+	 * 
+	 * @param interval
+	 *            The interval to add.
+	 * @return An interval enclosing all sums.
+	 */
+	public DoubleInterval add (DoubleInterval interval) {
+		if (this.isNaN() || interval.isNaN()) {
+			return NOT_A_NUMBER;
+		}
+		return bounds(sumDown(this.lowerBound, interval.lowerBound), sumUp(this.upperBound, interval.upperBound));
+	}
+	
+	/**
+	 * Subtracts an interval from this one.
+	 * 
+	 * @param interval
+	 *            The interval to subtract.
+	 * @return An interval enclosing all differences.
+	 */
+	public DoubleInterval subtract (DoubleInterval interval) {
+		if (this.isNaN() || interval.isNaN()) {
+			return NOT_A_NUMBER;
+		}
+		return bounds(sumDown(this.lowerBound, -interval.upperBound), sumUp(this.upperBound, -interval.lowerBound));
+	}
+	
+	/**
+	 * Multiplies two intervals, with the sign classification of {@link ExactInterval#multiply(ExactInterval)}.
+	 * 
+	 * @param interval
+	 *            The interval to multiply with.
+	 * @return An interval enclosing all products.
+	 */
+	public DoubleInterval multiply (DoubleInterval interval) {
+		if (this.isNaN() || interval.isNaN()) {
+			return NOT_A_NUMBER;
+		}
+		return bounds(productDown(this.lowerBound, this.upperBound, interval.lowerBound, interval.upperBound),
+				productUp(this.lowerBound, this.upperBound, interval.lowerBound, interval.upperBound));
+	}
+	
+	/**
+	 * Returns the lower bound of {@code [a, b] * [c, d]} rounded down, selecting the product by the signs of the
+	 * bounds. Used by {@link #multiply(DoubleInterval)} and the bulk operations of {@link IntervalVector}, which store
+	 * bounds in arrays.
+	 */
+	static double productDown (double a, double b, double c, double d) {
+		if (a >= 0) {
+			return timesDown(c >= 0 ? a : b, c);
+		} else if (b <= 0) {
+			return timesDown(d <= 0 ? b : a, d);
+		} else if (c >= 0) {
+			return timesDown(a, d);
+		} else if (d <= 0) {
+			return timesDown(b, c);
+		}
+		return Math.min(timesDown(a, d), timesDown(b, c));
+	}
+	
+	/**
+	 * Returns the upper bound of {@code [a, b] * [c, d]} rounded up, see
+	 * {@link #productDown(double, double, double, double)}.
+	 */
+	static double productUp (double a, double b, double c, double d) {
+		if (a >= 0) {
+			return timesUp(d <= 0 ? a : b, d);
+		} else if (b <= 0) {
+			return timesUp(c >= 0 ? b : a, c);
+		} else if (c >= 0) {
+			return timesUp(b, d);
+		} else if (d <= 0) {
+			return timesUp(a, c);
+		}
+		return Math.max(timesUp(a, c), timesUp(b, d));
+	}
+	
+	/**
+	 * Divides two intervals, with the sign classification of {@link ExactInterval#divide(ExactInterval)}.
+	 * 
+	 * @param interval
+	 *            The divisor.
+	 * @return An interval enclosing all quotients.
+	 */
+	public DoubleInterval divide (DoubleInterval interval) {
+		if (this.isNaN() || interval.isNaN()) {
+			return NOT_A_NUMBER;
+		}
+		double a = this.lowerBound;
+		double b = this.upperBound;
+		double c = interval.lowerBound;
+		double d = interval.upperBound;
+		if (c > 0) {
+			if (a >= 0) {
+				return bounds(quotientDown(a, d), quotientUp(b, c));
+			} else if (b <= 0) {
+				return bounds(quotientDown(a, c), quotientUp(b, d));
+			}
+			return bounds(quotientDown(a, c), quotientUp(b, c));
+		} else if (d < 0) {
+			if (a >= 0) {
+				return bounds(quotientDown(b, d), quotientUp(a, c));
+			} else if (b <= 0) {
+				return bounds(quotientDown(b, c), quotientUp(a, d));
+			}
+			return bounds(quotientDown(b, d), quotientUp(a, d));
+		}
+		
+		// the divisor contains zero
+		if (c == 0 && d == 0) {
+			return NOT_A_NUMBER;
+		} else if (a == 0 && b == 0) {
+			return this;
+		} else if (a > 0) {
+			if (c == 0) {
+				return bounds(quotientDown(a, d), Double.POSITIVE_INFINITY);
+			} else if (d == 0) {
+				return bounds(Double.NEGATIVE_INFINITY, quotientUp(a, c));
+			}
+		} else if (b < 0) {
+			if (c == 0) {
+				return bounds(Double.NEGATIVE_INFINITY, quotientUp(b, d));
+			} else if (d == 0) {
+				return bounds(quotientDown(b, c), Double.POSITIVE_INFINITY);
+			}
+		}
+		return ENTIRE;
+	}
+	
+	/**
+	 * Returns the interval of absolute values.
+	 * 
+	 * @return An interval containing the absolute values of all values in this interval.
+	 */
+	public DoubleInterval abs () {
+		if (this.isNaN() || this.lowerBound >= 0) {
+			return this;
+		} else if (this.upperBound <= 0) {
+			return bounds(-this.upperBound, -this.lowerBound);
+		}
+		return bounds(0, Math.max(-this.lowerBound, this.upperBound));
+	}
+	
+	/**
+	 * Returns an enclosure of the square roots. Negative values are outside the domain of the square root and are
+	 * ignored, so an interval without any non-negative value is NaN.
+	 * 
+	 * @return An interval enclosing the square roots of all non-negative values in this interval.
+	 */
+	public DoubleInterval sqrt () {
+		if (this.isNaN() || this.upperBound < 0) {
+			return NOT_A_NUMBER;
+		}
+		double lower = Math.sqrt(Math.max(this.lowerBound, 0));
+		double upper = Math.sqrt(this.upperBound);
+		return bounds(roundDown(lower, sqrtErrorSign(Math.max(this.lowerBound, 0), lower)),
+				roundUp(upper, sqrtErrorSign(this.upperBound, upper)));
+	}
+	
+	/**
+	 * Returns a value with the sign of {@code sqrt(x) - root}, which is the sign of {@code x - root * root}, or NaN
+	 * if it is not known.
+	 */
+	private static double sqrtErrorSign (double x, double root) {
+		if (root == 0 || Double.isInfinite(root)) {
+			return 0;
+		}
+		double square = root * root;
+		if (isProductSafe(root, root, square)) {
+			// the square is close to x, so x - square is exact
+			return (x - square) - productError(root, root, square);
+		}
+		return Double.NaN;
+	}
+	
+	/**
+	 * Creates an interval from ordered bounds.
+	 */
+	private static DoubleInterval bounds (double lowerBound, double upperBound) {
+		return new DoubleInterval(lowerBound, upperBound, true);
+	}
+	
+	/**
+	 * Returns the rounding error of {@code x + y}, which is exactly {@code (x + y) - sum} (Knuth's TwoSum).
+	 */
+	private static double sumError (double x, double y, double sum) {
+		double virtualY = sum - x;
+		double virtualX = sum - virtualY;
+		return (x - virtualX) + (y - virtualY);
+	}
+	
+	static double sumDown (double x, double y) {
+		double sum = x + y;
+		if (Double.isInfinite(sum)) {
+			// overflow of finite operands rounds down to the largest finite value
+			return sum > 0 && !Double.isInfinite(x) && !Double.isInfinite(y) ? Double.MAX_VALUE : sum;
+		}
+		return sumError(x, y, sum) < 0 ? Math.nextDown(sum) : sum;
+	}
+	
+	static double sumUp (double x, double y) {
+		double sum = x + y;
+		if (Double.isInfinite(sum)) {
+			return sum < 0 && !Double.isInfinite(x) && !Double.isInfinite(y) ? -Double.MAX_VALUE : sum;
+		}
+		return sumError(x, y, sum) > 0 ? Math.nextUp(sum) : sum;
+	}
+	
+	/**
+	 * Multiplies two bounds rounding down, where zero times infinity is zero.
+	 */
+	private static double timesDown (double x, double y) {
+		if (x == 0 || y == 0) {
+			return 0;
+		}
+		double product = x * y;
+		if (Double.isInfinite(x) || Double.isInfinite(y)) {
+			return product;
+		}
+		return roundDown(product, productErrorSign(x, y, product));
+	}
+	
+	/**
+	 * Multiplies two bounds rounding up, where zero times infinity is zero.
+	 */
+	private static double timesUp (double x, double y) {
+		if (x == 0 || y == 0) {
+			return 0;
+		}
+		double product = x * y;
+		if (Double.isInfinite(x) || Double.isInfinite(y)) {
+			return product;
+		}
+		return roundUp(product, productErrorSign(x, y, product));
+	}
+	
+	/**
+	 * Divides two bounds rounding down, where the divisor is not zero. Zero divided by anything and finite values
+	 * divided by an infinity are zero.
+	 */
+	private static double quotientDown (double x, double y) {
+		if (x == 0 || !Double.isInfinite(x) && Double.isInfinite(y)) {
+			return 0;
+		}
+		double quotient = x / y;
+		if (Double.isInfinite(x)) {
+			return quotient;
+		}
+		return roundDown(quotient, quotientError(x, y, quotient));
+	}
+	
+	/**
+	 * Divides two bounds rounding up, see {@link #quotientDown(double, double)}.
+	 */
+	private static double quotientUp (double x, double y) {
+		if (x == 0 || !Double.isInfinite(x) && Double.isInfinite(y)) {
+			return 0;
+		}
+		double quotient = x / y;
+		if (Double.isInfinite(x)) {
+			return quotient;
+		}
+		return roundUp(quotient, quotientError(x, y, quotient));
+	}
+	
+	/**
+	 * Rounds a rounded result down, knowing the sign of its rounding error. A result rounded to zero keeps the sign of
+	 * the error, so it is only widened to the negative side of zero if the exact result is negative.
+	 * 
+	 * @param result
+	 *            The rounded result.
+	 * @param error
+	 *            A value with the sign of {@code exact - result}, or NaN if it is not known.
+	 */
+	private static double roundDown (double result, double error) {
+		if (result == 0) {
+			return error < 0 ? -Double.MIN_VALUE : 0;
+		}
+		return error < 0 || error != error ? Math.nextDown(result) : result;
+	}
+	
+	/**
+	 * Rounds a rounded result up, see {@link #roundDown(double, double)}.
+	 */
+	private static double roundUp (double result, double error) {
+		if (result == 0) {
+			return error > 0 ? Double.MIN_VALUE : 0;
+		}
+		return error > 0 || error != error ? Math.nextUp(result) : result;
+	}
+	
+	/**
+	 * Returns a value with the sign of {@code x * y - product}, or NaN if it is not known.
+	 */
+	private static double productErrorSign (double x, double y, double product) {
+		if (isProductSafe(x, y, product)) {
+			return productError(x, y, product);
+		}
+		// a product rounded to zero has the error of the exact product
+		return product == 0 ? x * Math.signum(y) : Double.NaN;
+	}
+	
+	/**
+	 * Returns whether {@link #productError(double, double, double)} is exact for the operands, because no
+	 * intermediate result overflows or underflows.
+	 */
+	private static boolean isProductSafe (double x, double y, double product) {
+		double absolute = Math.abs(product);
+		return Math.abs(x) < SAFE_MAX && Math.abs(y) < SAFE_MAX && absolute < SAFE_MAX && absolute > SAFE_MIN;
+	}
+	
+	/**
+	 * Returns the rounding error of {@code x * y}, which is exactly {@code (x * y) - product} (Dekker's TwoProduct
+	 * with Veltkamp's splitting).
+	 */
+	private static double productError (double x, double y, double product) {
+		double splitX = SPLITTER * x;
+		double highX = splitX - (splitX - x);
+		double lowX = x - highX;
+		double splitY = SPLITTER * y;
+		double highY = splitY - (splitY - y);
+		double lowY = y - highY;
+		return ((highX * highY - product) + highX * lowY + lowX * highY) + lowX * lowY;
+	}
+	
+	/**
+	 * Returns a value with the sign of {@code x / y - quotient}, or NaN if it is not known. The exact remainder
+	 * {@code x - quotient * y} is computed with {@link #productError(double, double, double)}, if that is safe.
+	 */
+	private static double quotientError (double x, double y, double quotient) {
+		double product = quotient * y;
+		if (quotient != 0 && !Double.isInfinite(quotient) && isProductSafe(quotient, y, product)
+				&& Math.abs(x) < SAFE_MAX) {
+			// the product is close to x, so x - product is exact
+			double remainder = (x - product) - productError(quotient, y, product);
+			return remainder * Math.signum(y);
+		}
+		return quotient == 0 ? x * Math.signum(y) : Double.NaN;
+	}
+	
+	/**
+	 * Returns the lower bound of the interval.
+	 * 
+	 * @return The lower bound.
+	 */
+	public double getLowerBound () {
+		return this.lowerBound;
+	}
+	
+	/**
+	 * Returns the upper bound of the interval.
+	 * 
+	 * @return The upper bound.
+	 */
+	public double getUpperBound () {
+		return this.upperBound;
+	}
+	
+	/**
+	 * Returns whether {@code this} is NaN, meaning its bounds are NaN.
+	 * 
+	 * @return {@code true}, if {@code this} is NaN, {@code false} otherwise.
+	 */
+	public boolean isNaN () {
+		return Double.isNaN(this.lowerBound) || Double.isNaN(this.upperBound);
+	}
+	
+	/**
+	 * Returns whether a value lies within the interval.
+	 * 
+	 * @param value
+	 *            The value to check.
+	 * @return {@code true}, if {@code lowerBound <= value <= upperBound}, {@code false} otherwise or for NaN.
+	 */
+	public boolean contains (double value) {
+		return this.lowerBound <= value && value <= this.upperBound;
+	}
+	
+	/**
+	 * Returns {@code true} if both intervals have equal bounds, where {@code -0.0} equals {@code 0.0}.
+	 */
+	@Override
+	public boolean equals (Object o) {
+		if (o instanceof DoubleInterval) {
+			DoubleInterval other = (DoubleInterval) o;
+			if (this.isNaN() || other.isNaN()) {
+				return this.isNaN() && other.isNaN();
+			}
+			return this.lowerBound == other.lowerBound && this.upperBound == other.upperBound;
+		}
+		return false;
+	}
+	
+	@Override
+	public int hashCode () {
+		// adding 0.0 turns -0.0 into 0.0
+		return 31 * Double.hashCode(this.lowerBound + 0.0) + Double.hashCode(this.upperBound + 0.0);
+	}
+	
+	/**
+	 * Returns the bounds in the form {@code [lowerBound, upperBound]}.
+	 */
+	@Override
+	public String toString () {
+		return "[" + this.lowerBound + ", " + this.upperBound + "]";
+	}
+}
@@ -2,18 +2,70 @@ package edu.kit.ukzgk.interval;
 
 import edu.kit.ukzgk.exactDecimal.ExactDecimal;
 
+/**
+ * The {@link ExactInterval} class is a closed interval with {@link ExactDecimal} bounds. The bounds may be infinite,
+ * so half-bounded and unbounded intervals can be represented. An interval with a NaN bound is NaN and every operation
+ * on it results in NaN.<br>
+ * By default the bounds are exact, so they grow with every operation like {@link ExactDecimal}s do. An
+ * {@link IntervalPrecision} set by {@link #withPrecision(IntervalPrecision)} rounds the bounds outward after each
+ * operation instead. Results of operations on two intervals use the precision of the first operand, or that of the
+ * second, if the first is exact.
+ * 
+ * @author Florian Gilges
+ * @version 201711090317
+ */
 public class ExactInterval {
+	/**
+	 * The interval containing all numbers: {@code [-Infinity, +Infinity]}
+	 */
+	public static final ExactInterval ENTIRE = new ExactInterval(ExactDecimal.NEGATIVE_INFINITY,
+			ExactDecimal.POSITIVE_INFINITY);
+	/**
+	 * NaN (not a number) constant. Evaluates where no interval can be calculated (e.g. division by {@code [0, 0]}).
+	 */
+	public static final ExactInterval NOT_A_NUMBER = new ExactInterval(ExactDecimal.NOT_A_NUMBER);
+	
 	private final ExactDecimal upperBound;
 	private final ExactDecimal lowerBound;
+	/**
+	 * The policy rounding the bounds of results.
+	 */
+	private final IntervalPrecision precision;
 	
 	public ExactInterval (ExactDecimal exactDecimal) {
 		this.upperBound = exactDecimal;
 		this.lowerBound = exactDecimal;
+		this.precision = IntervalPrecision.EXACT;
 	}
 	
-	private ExactInterval (ExactDecimal boundA, ExactDecimal boundB) {
+	/**
+	 * Creates the smallest interval containing both bounds. Their order does not matter.
+	 * 
+	 * @param boundA
+	 *            The first bound.
+	 * @param boundB
+	 *            The second bound.
+	 */
+	public ExactInterval (ExactDecimal boundA, ExactDecimal boundB) {
 		this.upperBound = ExactDecimal.max(boundA, boundB);
 		this.lowerBound = ExactDecimal.min(boundA, boundB);
+		this.precision = IntervalPrecision.EXACT;
+	}
+	
+	/**
+	 * Creates an interval from bounds, that are known to be ordered and rounded, without comparing them.
+	 * 
+	 * @param lowerBound
+	 *            The lower bound.
+	 * @param upperBound
+	 *            The upper bound, not less than {@code lowerBound}.
+	 * @param precision
+	 *            The policy rounding the bounds of results.
+	 */
+	private ExactInterval (ExactDecimal lowerBound, ExactDecimal upperBound, IntervalPrecision precision) {
+		this.lowerBound = lowerBound;
+		this.upperBound = upperBound;
+		this.precision = precision;
 	}
 	
 	public ExactInterval (int value) {
@@ -32,34 +84,300 @@ public class ExactInterval {
 		this(new ExactDecimal(value));
 	}
 	
+	/**
+	 * Returns an interval with the same values, whose bounds are rounded outward by the precision policy, as are the
+	 * bounds of all results of operations on it.
+	 * 
+	 * @param precision
+	 *            The policy rounding the bounds.
+	 * @return The interval with the given precision, enclosing this one.
+	 */
+	public ExactInterval withPrecision (IntervalPrecision precision) {
+		return new ExactInterval(precision.roundDown(this.lowerBound), precision.roundUp(this.upperBound), precision);
+	}
+	
+	/**
+	 * Returns the policy rounding the bounds of results.
+	 * 
+	 * @return The precision policy, {@link IntervalPrecision#EXACT} by default.
+	 */
+	public IntervalPrecision getPrecision () {
+		return this.precision;
+	}
+	
 	public ExactInterval add (ExactInterval interval) {
-		return new ExactInterval(this.lowerBound.add(interval.lowerBound), this.upperBound.add(interval.upperBound));
+		return this.bounds(interval, this.lowerBound.add(interval.lowerBound),
+				this.upperBound.add(interval.upperBound));
 	}
 	
 	public ExactInterval subtract (ExactInterval interval) {
-		return new ExactInterval(this.lowerBound.subtract(interval.lowerBound),
-				this.upperBound.subtract(interval.upperBound));
+		return this.bounds(interval, this.lowerBound.subtract(interval.upperBound),
+				this.upperBound.subtract(interval.lowerBound));
 	}
 	
+	/**
+	 * Multiplies two intervals. Each interval is classified by the signs of its bounds as non-negative, non-positive or
+	 * containing zero in its interior. Of the nine combinations, eight determine both bounds of the result with one
+	 * product each. Only if both intervals contain zero in their interior, all four products of the bounds are needed.
+	 * <br>
+	 * Products of a zero and an infinite bound are zero, because infinite bounds are never attained.
+	 * 
+	 * @param interval
+	 *            The interval to multiply with.
+	 * @return The smallest interval containing all products.
+	 */
 	public ExactInterval multiply (ExactInterval interval) {
-		throw new UnsupportedOperationException("Not implemented yet: Interval#multiply(Interval)"); // TODO
+		if (this.isNaN() || interval.isNaN()) {
+			return NOT_A_NUMBER;
+		}
+		ExactDecimal a = this.lowerBound;
+		ExactDecimal b = this.upperBound;
+		ExactDecimal c = interval.lowerBound;
+		ExactDecimal d = interval.upperBound;
+		if (a.signum() >= 0) {
+			if (c.signum() >= 0) {
+				return this.bounds(interval, times(a, c), times(b, d));
+			} else if (d.signum() <= 0) {
+				return this.bounds(interval, times(b, c), times(a, d));
+			}
+			return this.bounds(interval, times(b, c), times(b, d));
+		} else if (b.signum() <= 0) {
+			if (c.signum() >= 0) {
+				return this.bounds(interval, times(a, d), times(b, c));
+			} else if (d.signum() <= 0) {
+				return this.bounds(interval, times(b, d), times(a, c));
+			}
+			return this.bounds(interval, times(a, d), times(a, c));
+		}
+		// this contains zero in its interior
+		if (c.signum() >= 0) {
+			return this.bounds(interval, times(a, d), times(b, d));
+		} else if (d.signum() <= 0) {
+			return this.bounds(interval, times(b, c), times(a, c));
+		}
+		return this.bounds(interval, ExactDecimal.min(times(a, d), times(b, c)),
+				ExactDecimal.max(times(a, c), times(b, d)));
 	}
 	
+	/**
+	 * Divides two intervals, classifying them by the signs of their bounds like {@link #multiply(ExactInterval)}.
+	 * Every case needs two quotients of bounds.<br>
+	 * If the divisor contains zero, the quotients are unbounded: a divisor with zero as one bound results in a
+	 * half-bounded interval, if the dividend does not contain zero. Otherwise the result is {@link #ENTIRE}, or
+	 * {@link #NOT_A_NUMBER} for the divisor {@code [0, 0]}. {@link #extendedDivide(ExactInterval)} gives tighter
+	 * results for such divisors.
+	 * 
+	 * @param interval
+	 *            The divisor.
+	 * @return The smallest interval containing all quotients.
+	 */
 	public ExactInterval divide (ExactInterval interval) {
-		throw new UnsupportedOperationException("Not implemented yet: Interval#divide(Interval)"); // TODO
+		if (this.isNaN() || interval.isNaN()) {
+			return NOT_A_NUMBER;
+		}
+		ExactDecimal a = this.lowerBound;
+		ExactDecimal b = this.upperBound;
+		ExactDecimal c = interval.lowerBound;
+		ExactDecimal d = interval.upperBound;
+		if (c.signum() > 0) {
+			if (a.signum() >= 0) {
+				return this.bounds(interval, quotient(a, d), quotient(b, c));
+			} else if (b.signum() <= 0) {
+				return this.bounds(interval, quotient(a, c), quotient(b, d));
+			}
+			return this.bounds(interval, quotient(a, c), quotient(b, c));
+		} else if (d.signum() < 0) {
+			if (a.signum() >= 0) {
+				return this.bounds(interval, quotient(b, d), quotient(a, c));
+			} else if (b.signum() <= 0) {
+				return this.bounds(interval, quotient(b, c), quotient(a, d));
+			}
+			return this.bounds(interval, quotient(b, d), quotient(a, d));
+		}
+		
+		// the divisor contains zero
+		if (c.signum() == 0 && d.signum() == 0) {
+			return NOT_A_NUMBER;
+		} else if (a.signum() == 0 && b.signum() == 0) {
+			return this;
+		} else if (a.signum() > 0) {
+			if (c.signum() == 0) {
+				return this.bounds(interval, quotient(a, d), ExactDecimal.POSITIVE_INFINITY);
+			} else if (d.signum() == 0) {
+				return this.bounds(interval, ExactDecimal.NEGATIVE_INFINITY, quotient(a, c));
+			}
+		} else if (b.signum() < 0) {
+			if (c.signum() == 0) {
+				return this.bounds(interval, ExactDecimal.NEGATIVE_INFINITY, quotient(b, d));
+			} else if (d.signum() == 0) {
+				return this.bounds(interval, quotient(b, c), ExactDecimal.POSITIVE_INFINITY);
+			}
+		}
+		return this.bounds(interval, ExactDecimal.NEGATIVE_INFINITY, ExactDecimal.POSITIVE_INFINITY);
+	}
+	
+	/**
+	 * Divides two intervals, where the divisor may contain zero. The result is the set of all {@code z} with
+	 * {@code y * z = x} for some {@code x} in {@code this} and {@code y} in the divisor. If the divisor contains zero
+	 * in its interior and the dividend does not contain zero, this set consists of two disjoint unbounded pieces. If
+	 * both contain zero, it is {@link #ENTIRE}, and if the divisor is {@code [0, 0]} and the dividend does not contain
+	 * zero, it is empty. For divisors not containing zero, the result is {@link #divide(ExactInterval)}.
+	 * 
+	 * @param interval
+	 *            The divisor.
+	 * @return The union of at most two intervals containing all quotients.
+	 */
+	public ExactIntervalUnion extendedDivide (ExactInterval interval) {
+		ExactDecimal a = this.lowerBound;
+		ExactDecimal b = this.upperBound;
+		ExactDecimal c = interval.lowerBound;
+		ExactDecimal d = interval.upperBound;
+		if (this.isNaN() || interval.isNaN() || c.signum() > 0 || d.signum() < 0) {
+			return new ExactIntervalUnion(this.divide(interval));
+		}
+		
+		// the divisor contains zero
+		if (a.signum() <= 0 && b.signum() >= 0) {
+			return new ExactIntervalUnion(
+					this.bounds(interval, ExactDecimal.NEGATIVE_INFINITY, ExactDecimal.POSITIVE_INFINITY));
+		} else if (c.signum() == 0 && d.signum() == 0) {
+			return ExactIntervalUnion.EMPTY;
+		}
+		// the dividend has no zero, so only the signs of the bound next to zero and the divisor bounds matter
+		ExactDecimal next = a.signum() > 0 ? a : b;
+		ExactInterval lower = null;
+		ExactInterval upper = null;
+		if (c.signum() < 0) {
+			// quotients with the negative part of the divisor
+			ExactDecimal bound = quotient(next, c);
+			if (next.signum() > 0) {
+				lower = this.bounds(interval, ExactDecimal.NEGATIVE_INFINITY, bound);
+			} else {
+				upper = this.bounds(interval, bound, ExactDecimal.POSITIVE_INFINITY);
+			}
+		}
+		if (d.signum() > 0) {
+			// quotients with the positive part of the divisor
+			ExactDecimal bound = quotient(next, d);
+			if (next.signum() > 0) {
+				upper = this.bounds(interval, bound, ExactDecimal.POSITIVE_INFINITY);
+			} else {
+				lower = this.bounds(interval, ExactDecimal.NEGATIVE_INFINITY, bound);
+			}
+		}
+		if (lower == null) {
+			return new ExactIntervalUnion(upper);
+		} else if (upper == null) {
+			return new ExactIntervalUnion(lower);
+		}
+		return new ExactIntervalUnion(lower, upper);
 	}
 	
+	/**
+	 * Creates an interval from ordered exact bounds, which are rounded by the precision of the operands.
+	 */
+	ExactInterval bounds (ExactInterval interval, ExactDecimal lowerBound, ExactDecimal upperBound) {
+		IntervalPrecision precision = this.precision != IntervalPrecision.EXACT ? this.precision : interval.precision;
+		return new ExactInterval(precision.roundDown(lowerBound), precision.roundUp(upperBound), precision);
+	}
+	
+	/**
+	 * Multiplies two bounds, where zero times infinity is zero.
+	 */
+	private static ExactDecimal times (ExactDecimal a, ExactDecimal b) {
+		if (a.signum() == 0 && a.isFinite() || b.signum() == 0 && b.isFinite()) {
+			return ExactDecimal.ZERO;
+		}
+		return a.multiply(b);
+	}
+	
+	/**
+	 * Divides two bounds, where the divisor is not zero. Zero divided by anything and finite values divided by an
+	 * infinity are zero.
+	 */
+	private static ExactDecimal quotient (ExactDecimal a, ExactDecimal b) {
+		if (a.signum() == 0 || a.isFinite() && b.isInfinite()) {
+			return ExactDecimal.ZERO;
+		}
+		return a.divide(b);
+	}
+	
+	/**
+	 * Returns the lower bound of the interval.
+	 * 
+	 * @return The lower bound.
+	 */
+	public ExactDecimal getLowerBound () {
+		return this.lowerBound;
+	}
+	
+	/**
+	 * Returns the upper bound of the interval.
+	 * 
+	 * @return The upper bound.
+	 */
+	public ExactDecimal getUpperBound () {
+		return this.upperBound;
+	}
+	
+	/**
+	 * Returns whether {@code this} is NaN, meaning one of its bounds is NaN.
+	 * 
+	 * @return {@code true}, if {@code this} is NaN, {@code false} otherwise.
+	 */
+	public boolean isNaN () {
+		return this.lowerBound.isNaN() || this.upperBound.isNaN();
+	}
+	
+	/**
+	 * Returns whether a value lies within the interval.
+	 * 
+	 * @param value
+	 *            The value to check.
+	 * @return {@code true}, if {@code lowerBound <= value <= upperBound}, {@code false} otherwise or for NaN.
+	 */
+	public boolean contains (ExactDecimal value) {
+		return !this.isNaN() && !value.isNaN() && this.lowerBound.compareTo(value) <= 0
+				&& this.upperBound.compareTo(value) >= 0;
+	}
+	
+	/**
+	 * Returns the interval of absolute values.
+	 * 
+	 * @return An interval containing the absolute values of all values in this interval.
+	 */
 	public ExactInterval abs () {
-		if (this.upperBound.compareTo(ExactDecimal.ZERO) > 0 && this.lowerBound.compareTo(ExactDecimal.ZERO) > 0) {
+		if (this.isNaN() || this.lowerBound.signum() >= 0) {
 			return this;
+		} else if (this.upperBound.signum() <= 0) {
+			return this.bounds(this, this.upperBound.negate(), this.lowerBound.negate());
 		}
-		if (this.upperBound.compareTo(ExactDecimal.ZERO) < 0 && this.lowerBound.compareTo(ExactDecimal.ZERO) < 0) {
-			return new ExactInterval(this.upperBound.abs(), this.lowerBound.abs());
-		}
-		if (this.lowerBound.abs().compareTo(this.upperBound.abs()) > 0) {
-			return new ExactInterval(this.upperBound.abs().multiply(new ExactDecimal(-1, 1)), this.lowerBound.abs());
+		return this.bounds(this, ExactDecimal.ZERO, ExactDecimal.max(this.lowerBound.negate(), this.upperBound));
+	}
+	
+	/**
+	 * Returns {@code true} if both intervals have equal bounds, see {@link ExactDecimal#equals(Object)}.
+	 */
+	@Override
+	public boolean equals (Object o) {
+		if (o instanceof ExactInterval) {
+			ExactInterval other = (ExactInterval) o;
+			return this.lowerBound.equals(other.lowerBound) && this.upperBound.equals(other.upperBound);
 		}
-		return this;
+		return false;
+	}
+	
+	@Override
+	public int hashCode () {
+		return 31 * this.lowerBound.hashCode() + this.upperBound.hashCode();
+	}
+	
+	/**
+	 * Returns the bounds in the form {@code [lowerBound, upperBound]}, see {@link ExactDecimal#toString()}.
+	 */
+	@Override
+	public String toString () {
+		return "[" + this.lowerBound + ", " + this.upperBound + "]";
 	}
 	
 	/*-
@@ -0,0 +1,183 @@
+package edu.kit.ukzgk.interval;
+
+import java.util.NoSuchElementException;
+
+import edu.kit.ukzgk.exactDecimal.ExactDecimal;
+
+/**
+ * The {@link ExactIntervalUnion} class is a union of at most two disjoint {@link ExactInterval}s, as results from
+ * {@link ExactInterval#extendedDivide(ExactInterval)}. The pieces are held in two fields, ordered ascending, so no
+ * collection is allocated. Instances are immutable.
+ * 
+ * @author Florian Gilges
+ * @version 201711090317
+ */
+public class ExactIntervalUnion {
+	/**
+	 * The empty union, containing no value.
+	 */
+	public static final ExactIntervalUnion EMPTY = new ExactIntervalUnion(null, null);
+	
+	/**
+	 * The lower piece, {@code null} for the empty union.
+	 */
+	private final ExactInterval first;
+	/**
+	 * The upper piece, {@code null} if there are less than two pieces.
+	 */
+	private final ExactInterval second;
+	
+	/**
+	 * Creates a union consisting of a single interval.
+	 * 
+	 * @param interval
+	 *            The only piece.
+	 */
+	public ExactIntervalUnion (ExactInterval interval) {
+		this(interval, null);
+	}
+	
+	/**
+	 * Creates a union of two pieces, where {@code first} lies completely below {@code second}.
+	 * 
+	 * @param first
+	 *            The lower piece.
+	 * @param second
+	 *            The upper piece.
+	 */
+	ExactIntervalUnion (ExactInterval first, ExactInterval second) {
+		this.first = first;
+		this.second = second;
+	}
+	
+	/**
+	 * Returns whether the union contains no value.
+	 * 
+	 * @return {@code true}, if the union is empty, {@code false} otherwise.
+	 */
+	public boolean isEmpty () {
+		return this.first == null;
+	}
+	
+	/**
+	 * Returns the number of pieces.
+	 * 
+	 * @return {@code 0}, {@code 1} or {@code 2}.
+	 */
+	public int size () {
+		return this.first == null ? 0 : this.second == null ? 1 : 2;
+	}
+	
+	/**
+	 * Returns a piece of the union. Pieces are ordered ascending.
+	 * 
+	 * @param index
+	 *            The index of the piece, less than {@link #size()}.
+	 * @return The piece.
+	 * @throws IndexOutOfBoundsException
+	 *             If there is no piece with that index.
+	 */
+	public ExactInterval get (int index) {
+		if (index < 0 || index >= this.size()) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size());
+		}
+		return index == 0 ? this.first : this.second;
+	}
+	
+	/**
+	 * Returns the smallest interval containing all pieces.
+	 * 
+	 * @return The hull of the union.
+	 * @throws NoSuchElementException
+	 *             If the union is empty.
+	 */
+	public ExactInterval hull () {
+		if (this.isEmpty()) {
+			throw new NoSuchElementException("Empty union has no hull");
+		}
+		if (this.second == null) {
+			return this.first;
+		}
+		return this.first.bounds(this.second, this.first.getLowerBound(), this.second.getUpperBound());
+	}
+	
+	/**
+	 * Returns whether a value lies within one of the pieces.
+	 * 
+	 * @param value
+	 *            The value to check.
+	 * @return {@code true}, if a piece contains the value, {@code false} otherwise.
+	 */
+	public boolean contains (ExactDecimal value) {
+		return this.first != null && this.first.contains(value) || this.second != null && this.second.contains(value);
+	}
+	
+	/**
+	 * Intersects every piece with an interval. This is the pruning step of interval Newton methods.
+	 * 
+	 * @param interval
+	 *            The interval to intersect with.
+	 * @return The pieces of the union, that overlap the interval, cut to it.
+	 */
+	public ExactIntervalUnion intersect (ExactInterval interval) {
+		if (interval.isNaN()) {
+			return new ExactIntervalUnion(interval);
+		}
+		ExactInterval lower = this.first == null ? null : intersect(this.first, interval);
+		ExactInterval upper = this.second == null ? null : intersect(this.second, interval);
+		if (lower == null) {
+			return upper == null ? EMPTY : new ExactIntervalUnion(upper);
+		}
+		return new ExactIntervalUnion(lower, upper);
+	}
+	
+	/**
+	 * Intersects two intervals, keeping the precision of the first one, or of the second one if the first one is exact.
+	 * 
+	 * @return The intersection, or {@code null} if the intervals are disjoint.
+	 */
+	private static ExactInterval intersect (ExactInterval a, ExactInterval b) {
+		if (a.isNaN()) {
+			return a;
+		}
+		ExactDecimal lower = ExactDecimal.max(a.getLowerBound(), b.getLowerBound());
+		ExactDecimal upper = ExactDecimal.min(a.getUpperBound(), b.getUpperBound());
+		if (lower.compareTo(upper) > 0) {
+			return null;
+		}
+		return a.bounds(b, lower, upper);
+	}
+	
+	/**
+	 * Returns {@code true} if both unions consist of equal pieces.
+	 */
+	@Override
+	public boolean equals (Object o) {
+		if (o instanceof ExactIntervalUnion) {
+			ExactIntervalUnion other = (ExactIntervalUnion) o;
+			return equals(this.first, other.first) && equals(this.second, other.second);
+		}
+		return false;
+	}
+	
+	private static boolean equals (ExactInterval a, ExactInterval b) {
+		return a == null ? b == null : a.equals(b);
+	}
+	
+	@Override
+	public int hashCode () {
+		int hash = this.first == null ? 0 : this.first.hashCode();
+		return 31 * hash + (this.second == null ? 0 : this.second.hashCode());
+	}
+	
+	/**
+	 * Returns the pieces joined by {@code " u "}, or {@code "[]"} for the empty union.
+	 */
+	@Override
+	public String toString () {
+		if (this.first == null) {
+			return "[]";
+		}
+		return this.second == null ? this.first.toString() : this.first + " u " + this.second;
+	}
+}
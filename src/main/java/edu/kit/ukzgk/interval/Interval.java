@@ -0,0 +1,240 @@
+package edu.kit.ukzgk.interval;
+
+import edu.kit.ukzgk.interval.number.Number;
+
+/**
+ * The {@link Interval} class is a closed interval with bounds of any {@link Number} type, so the same solver code can
+ * run on exact {@link edu.kit.ukzgk.exactDecimal.ExactDecimal}s or cheaper backends like
+ * {@link edu.kit.ukzgk.interval.number.LongRational}, {@link edu.kit.ukzgk.interval.number.ContextDecimal} and
+ * {@link edu.kit.ukzgk.interval.number.DoubleNumber}. Lower bounds are computed by the {@code ...Down} and upper bounds
+ * by the {@code ...Up} operations of the backend, so the result encloses the exact result, if the backend rounds
+ * correctly.<br>
+ * Signs are tested by {@link Number#intSign()} and bounds are ordered by {@link Comparable#compareTo(Object)}, so no
+ * operation allocates numbers besides the bounds of the result. Not all backends have infinite values, so division by
+ * an interval containing zero is not supported; {@link ExactInterval} and {@link DoubleInterval} handle unbounded
+ * intervals.
+ * 
+ * @author Florian Gilges
+ * @version 201711090317
+ * @param <T>
+ *            The type of the bounds.
+ */
+public class Interval<T extends Number<T>> {
+	private final T lowerBound;
+	private final T upperBound;
+	
+	/**
+	 * Creates an interval containing a single value.
+	 * 
+	 * @param value
+	 *            The value.
+	 */
+	public Interval (T value) {
+		this.lowerBound = value;
+		this.upperBound = value;
+	}
+	
+	/**
+	 * Creates an interval from two bounds in any order.
+	 * 
+	 * @param boundA
+	 *            One bound.
+	 * @param boundB
+	 *            The other bound.
+	 */
+	public Interval (T boundA, T boundB) {
+		this(min(boundA, boundB), max(boundA, boundB), true);
+	}
+	
+	/**
+	 * Creates an interval from bounds, that are known to be ordered, without comparing them.
+	 * 
+	 * @param lowerBound
+	 *            The lower bound.
+	 * @param upperBound
+	 *            The upper bound, not less than {@code lowerBound}.
+	 * @param ordered
+	 *            Marker to distinguish this constructor, always {@code true}.
+	 */
+	private Interval (T lowerBound, T upperBound, boolean ordered) {
+		this.lowerBound = lowerBound;
+		this.upperBound = upperBound;
+	}
+	
+	private static <T extends Number<T>> T min (T a, T b) {
+		return a.compareTo(b) <= 0 ? a : b;
+	}
+	
+	private static <T extends Number<T>> T max (T a, T b) {
+		return a.compareTo(b) >= 0 ? a : b;
+	}
+	
+	/**
+	 * Returns the lower bound of the interval.
+	 * 
+	 * @return The lower bound.
+	 */
+	public T getLowerBound () {
+		return this.lowerBound;
+	}
+	
+	/**
+	 * Returns the upper bound of the interval.
+	 * 
+	 * @return The upper bound.
+	 */
+	public T getUpperBound () {
+		return this.upperBound;
+	}
+	
+	/**
+	 * Adds two intervals.
+	 * 
+	 * @param interval
+	 *            The interval to add.
+	 * @return An interval enclosing all sums.
+	 */
+	public Interval<T> add (Interval<T> interval) {
+		return new Interval<>(this.lowerBound.addDown(interval.lowerBound), this.upperBound.addUp(interval.upperBound),
+				true);
+	}
+	
+	/**
+	 * Subtracts an interval from this one.
+	 * 
+	 * @param interval
+	 *            The interval to subtract.
+	 * @return An interval enclosing all differences.
+	 */
+	public Interval<T> subtract (Interval<T> interval) {
+		return new Interval<>(this.lowerBound.subtractDown(interval.upperBound),
+				this.upperBound.subtractUp(interval.lowerBound), true);
+	}
+	
+	/**
+	 * Multiplies two intervals. The bounds of the result are selected by the signs of the bounds, so only two products
+	 * are computed, unless both intervals contain zero.
+	 * 
+	 * @param interval
+	 *            The factor.
+	 * @return The product.
+	 */
+	public Interval<T> multiply (Interval<T> interval) {
+		T a = this.lowerBound;
+		T b = this.upperBound;
+		T c = interval.lowerBound;
+		T d = interval.upperBound;
+		if (a.intSign() >= 0) {
+			if (c.intSign() >= 0) {
+				return new Interval<>(a.multiplyDown(c), b.multiplyUp(d), true);
+			} else if (d.intSign() <= 0) {
+				return new Interval<>(b.multiplyDown(c), a.multiplyUp(d), true);
+			}
+			return new Interval<>(b.multiplyDown(c), b.multiplyUp(d), true);
+		} else if (b.intSign() <= 0) {
+			if (c.intSign() >= 0) {
+				return new Interval<>(a.multiplyDown(d), b.multiplyUp(c), true);
+			} else if (d.intSign() <= 0) {
+				return new Interval<>(b.multiplyDown(d), a.multiplyUp(c), true);
+			}
+			return new Interval<>(a.multiplyDown(d), a.multiplyUp(c), true);
+		} else if (c.intSign() >= 0) {
+			return new Interval<>(a.multiplyDown(d), b.multiplyUp(d), true);
+		} else if (d.intSign() <= 0) {
+			return new Interval<>(b.multiplyDown(c), a.multiplyUp(c), true);
+		}
+		return new Interval<>(min(a.multiplyDown(d), b.multiplyDown(c)), max(a.multiplyUp(c), b.multiplyUp(d)), true);
+	}
+	
+	/**
+	 * Divides two intervals. The bounds of the result are selected by the signs of the bounds, so only two quotients
+	 * are computed.
+	 * 
+	 * @param interval
+	 *            The divisor.
+	 * @return The quotient.
+	 * @throws ArithmeticException
+	 *             If the divisor contains zero.
+	 */
+	public Interval<T> divide (Interval<T> interval) {
+		T a = this.lowerBound;
+		T b = this.upperBound;
+		T c = interval.lowerBound;
+		T d = interval.upperBound;
+		if (c.intSign() > 0) {
+			if (a.intSign() >= 0) {
+				return new Interval<>(a.divideDown(d), b.divideUp(c), true);
+			} else if (b.intSign() <= 0) {
+				return new Interval<>(a.divideDown(c), b.divideUp(d), true);
+			}
+			return new Interval<>(a.divideDown(c), b.divideUp(c), true);
+		} else if (d.intSign() < 0) {
+			if (a.intSign() >= 0) {
+				return new Interval<>(b.divideDown(d), a.divideUp(c), true);
+			} else if (b.intSign() <= 0) {
+				return new Interval<>(b.divideDown(c), a.divideUp(d), true);
+			}
+			return new Interval<>(b.divideDown(d), a.divideUp(d), true);
+		}
+		throw new ArithmeticException("Division by interval containing zero: " + interval);
+	}
+	
+	/**
+	 * Returns the interval of additive inverses.
+	 * 
+	 * @return {@code [-upperBound, -lowerBound]}
+	 */
+	public Interval<T> negate () {
+		return new Interval<>(this.upperBound.negate(), this.lowerBound.negate(), true);
+	}
+	
+	/**
+	 * Returns the interval of absolute values.
+	 * 
+	 * @return An interval containing the absolute values of all values in this interval.
+	 */
+	public Interval<T> abs () {
+		if (this.lowerBound.intSign() >= 0) {
+			return this;
+		} else if (this.upperBound.intSign() <= 0) {
+			return this.negate();
+		}
+		return new Interval<>(this.lowerBound.getZeroElement(), max(this.lowerBound.negate(), this.upperBound), true);
+	}
+	
+	/**
+	 * Returns whether a value lies within the bounds.
+	 * 
+	 * @param value
+	 *            The value to check.
+	 * @return {@code true}, if {@code lowerBound <= value <= upperBound}, {@code false} otherwise.
+	 */
+	public boolean contains (T value) {
+		return this.lowerBound.compareTo(value) <= 0 && value.compareTo(this.upperBound) <= 0;
+	}
+	
+	/**
+	 * Returns {@code true} if both intervals have equal bounds.
+	 */
+	@Override
+	public boolean equals (Object o) {
+		if (o instanceof Interval) {
+			Interval<?> other = (Interval<?>) o;
+			return this.lowerBound.equals(other.lowerBound) && this.upperBound.equals(other.upperBound);
+		}
+		return false;
+	}
+	
+	@Override
+	public int hashCode () {
+		return 31 * this.lowerBound.hashCode() + this.upperBound.hashCode();
+	}
+	
+	/**
+	 * Returns the bounds in the form {@code [lowerBound, upperBound]}.
+	 */
+	@Override
+	public String toString () {
+		return "[" + this.lowerBound + ", " + this.upperBound + "]";
+	}
+}
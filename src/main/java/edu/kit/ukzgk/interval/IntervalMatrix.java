@@ -0,0 +1,194 @@
+package edu.kit.ukzgk.interval;
+
+/**
+ * The {@link IntervalMatrix} class is a matrix of intervals, stored in row-major order in an {@link IntervalVector},
+ * so it shares its backends and their array storage. A matrix-vector product is a dot product for every row, that
+ * runs over contiguous arrays. Instances are immutable.
+ * 
+ * @author Florian Gilges
+ * @version 201711090317
+ */
+public class IntervalMatrix {
+	private final int rows;
+	private final int columns;
+	/**
+	 * The intervals in row-major order.
+	 */
+	private final IntervalVector entries;
+	
+	/**
+	 * Creates a matrix of the floating backend. The arrays are copied.
+	 * 
+	 * @param rows
+	 *            The number of rows.
+	 * @param columns
+	 *            The number of columns.
+	 * @param lowerBounds
+	 *            The lower bounds in row-major order.
+	 * @param upperBounds
+	 *            The upper bounds in row-major order.
+	 * @throws IllegalArgumentException
+	 *             If the arrays do not have {@code rows * columns} elements or a lower bound is greater than its upper
+	 *             bound.
+	 */
+	public IntervalMatrix (int rows, int columns, double[] lowerBounds, double[] upperBounds) {
+		this(rows, columns, new IntervalVector(lowerBounds, upperBounds));
+	}
+	
+	/**
+	 * Creates a matrix from its intervals in row-major order.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If there are not {@code rows * columns} intervals.
+	 */
+	private IntervalMatrix (int rows, int columns, IntervalVector entries) {
+		if (rows < 0 || columns < 0 || (long) rows * columns != entries.getDimension()) {
+			throw new IllegalArgumentException("Cannot create " + rows + "x" + columns + " matrix from "
+					+ entries.getDimension() + " intervals");
+		}
+		this.rows = rows;
+		this.columns = columns;
+		this.entries = entries;
+	}
+	
+	/**
+	 * Creates a matrix of the exact backend, see {@link IntervalVector#valueOf(ExactInterval...)}.
+	 * 
+	 * @param rows
+	 *            The number of rows.
+	 * @param columns
+	 *            The number of columns.
+	 * @param intervals
+	 *            The intervals in row-major order.
+	 * @return The matrix.
+	 * @throws IllegalArgumentException
+	 *             If there are not {@code rows * columns} intervals.
+	 * @throws ArithmeticException
+	 *             If an interval cannot be converted to the exact backend.
+	 */
+	public static IntervalMatrix valueOf (int rows, int columns, ExactInterval... intervals) {
+		return new IntervalMatrix(rows, columns, IntervalVector.valueOf(intervals));
+	}
+	
+	/**
+	 * Returns the number of rows of the matrix.
+	 * 
+	 * @return The number of rows.
+	 */
+	public int getRows () {
+		return this.rows;
+	}
+	
+	/**
+	 * Returns the number of columns of the matrix.
+	 * 
+	 * @return The number of columns.
+	 */
+	public int getColumns () {
+		return this.columns;
+	}
+	
+	/**
+	 * Returns whether this matrix uses the exact backend.
+	 * 
+	 * @return {@code true} for the exact, {@code false} for the floating backend.
+	 */
+	public boolean isExact () {
+		return this.entries.isExact();
+	}
+	
+	/**
+	 * Returns an interval of the matrix.
+	 * 
+	 * @param row
+	 *            The row of the interval.
+	 * @param column
+	 *            The column of the interval.
+	 * @return The interval.
+	 */
+	public ExactInterval get (int row, int column) {
+		if (column < 0 || column >= this.columns) {
+			throw new IndexOutOfBoundsException("Column: " + column + ", Columns: " + this.columns);
+		}
+		return this.entries.get(row * this.columns + column);
+	}
+	
+	/**
+	 * Adds two matrices.
+	 * 
+	 * @param matrix
+	 *            The matrix to add.
+	 * @return An enclosure of the sum.
+	 * @throws IllegalArgumentException
+	 *             If the matrices differ in size or backend.
+	 */
+	public IntervalMatrix add (IntervalMatrix matrix) {
+		if (matrix.rows != this.rows || matrix.columns != this.columns) {
+			throw new IllegalArgumentException("Cannot add " + matrix.rows + "x" + matrix.columns + " matrix to "
+					+ this.rows + "x" + this.columns + " matrix");
+		}
+		return new IntervalMatrix(this.rows, this.columns, this.entries.add(matrix.entries));
+	}
+	
+	/**
+	 * Multiplies every interval with a factor, see {@link IntervalVector#scale(ExactInterval)}.
+	 * 
+	 * @param factor
+	 *            The factor.
+	 * @return An enclosure of the scaled matrix.
+	 */
+	public IntervalMatrix scale (ExactInterval factor) {
+		return new IntervalMatrix(this.rows, this.columns, this.entries.scale(factor));
+	}
+	
+	/**
+	 * Multiplies this matrix with a vector.
+	 * 
+	 * @param vector
+	 *            The vector, with one interval per column.
+	 * @return An enclosure of the product, with one interval per row.
+	 * @throws IllegalArgumentException
+	 *             If the dimension or backend of the vector does not match.
+	 */
+	public IntervalVector multiply (IntervalVector vector) {
+		this.entries.checkCompatible(vector, this.columns);
+		IntervalVector result = this.entries.like(this.rows);
+		for (int i = 0; i < this.rows; i++) {
+			this.entries.dot(i * this.columns, vector, result, i);
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns {@code true} if both matrices have the same size and equal entries.
+	 */
+	@Override
+	public boolean equals (Object o) {
+		if (o instanceof IntervalMatrix) {
+			IntervalMatrix other = (IntervalMatrix) o;
+			return this.rows == other.rows && this.columns == other.columns && this.entries.equals(other.entries);
+		}
+		return false;
+	}
+	
+	@Override
+	public int hashCode () {
+		return 31 * this.rows + this.entries.hashCode();
+	}
+	
+	/**
+	 * Returns the rows in the form {@code ([a, b], [c, d], ...)}, separated by line breaks.
+	 */
+	@Override
+	public String toString () {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < this.rows; i++) {
+			builder.append(i == 0 ? "(" : "\n(");
+			for (int j = 0; j < this.columns; j++) {
+				builder.append(j == 0 ? "" : ", ").append(this.get(i, j));
+			}
+			builder.append(')');
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,183 @@
+package edu.kit.ukzgk.interval;
+
+import java.math.BigInteger;
+
+import edu.kit.ukzgk.exactDecimal.DyadicDecimal;
+import edu.kit.ukzgk.exactDecimal.ExactDecimal;
+
+/**
+ * An {@link IntervalPrecision} is the policy, by which an {@link ExactInterval} rounds its bounds after every
+ * operation. The lower bound is rounded down and the upper bound up, so the interval still encloses the exact result,
+ * but the size of the bounds does not grow with the number of operations.<br>
+ * Infinite and NaN bounds are never rounded. Subclasses have to ensure, that {@link #roundDown(ExactDecimal)} never
+ * returns a greater and {@link #roundUp(ExactDecimal)} never a smaller value than its argument.
+ * 
+ * @author Florian Gilges
+ * @version 201711090317
+ */
+public abstract class IntervalPrecision {
+	/**
+	 * The policy keeping bounds exact. This is the default of every {@link ExactInterval}.
+	 */
+	public static final IntervalPrecision EXACT = new Exact();
+	
+	protected IntervalPrecision () {
+	}
+	
+	/**
+	 * Returns a policy limiting the denominators of the bounds. Bounds with larger denominators are replaced by their
+	 * best approximation from below or above, see {@link ExactDecimal#approximateDown(long)}.
+	 * 
+	 * @param bits
+	 *            The maximum bit length of denominators, from {@code 1} to {@code 63}.
+	 * @return The policy.
+	 * @throws IllegalArgumentException
+	 *             If {@code bits} is out of range.
+	 */
+	public static IntervalPrecision denominatorBits (int bits) {
+		if (bits < 1 || bits > 63) {
+			throw new IllegalArgumentException("Denominator bits must be in [1, 63]: " + bits);
+		}
+		return new DenominatorBits(bits);
+	}
+	
+	/**
+	 * Returns a policy limiting the bounds to a number of significant binary digits, like a floating point format with
+	 * unbounded exponent. Bounds with more digits are rounded to the next dyadic rational with that many digits, see
+	 * {@link DyadicDecimal#divideDown(DyadicDecimal, int)}.
+	 * 
+	 * @param bits
+	 *            The number of significant bits, at least {@code 1}.
+	 * @return The policy.
+	 * @throws IllegalArgumentException
+	 *             If {@code bits} is less than {@code 1}.
+	 */
+	public static IntervalPrecision significantBits (int bits) {
+		if (bits < 1) {
+			throw new IllegalArgumentException("Significant bits must be positive: " + bits);
+		}
+		return new SignificantBits(bits);
+	}
+	
+	/**
+	 * Rounds a lower bound.
+	 * 
+	 * @param value
+	 *            The exact bound.
+	 * @return A value not greater than {@code value}.
+	 */
+	public abstract ExactDecimal roundDown (ExactDecimal value);
+	
+	/**
+	 * Rounds an upper bound.
+	 * 
+	 * @param value
+	 *            The exact bound.
+	 * @return A value not less than {@code value}.
+	 */
+	public abstract ExactDecimal roundUp (ExactDecimal value);
+	
+	/**
+	 * See {@link IntervalPrecision#EXACT}.
+	 */
+	private static final class Exact extends IntervalPrecision {
+		@Override
+		public ExactDecimal roundDown (ExactDecimal value) {
+			return value;
+		}
+		
+		@Override
+		public ExactDecimal roundUp (ExactDecimal value) {
+			return value;
+		}
+		
+		@Override
+		public String toString () {
+			return "exact";
+		}
+	}
+	
+	/**
+	 * See {@link IntervalPrecision#denominatorBits(int)}.
+	 */
+	private static final class DenominatorBits extends IntervalPrecision {
+		private final int bits;
+		private final long maxDenominator;
+		
+		DenominatorBits (int bits) {
+			this.bits = bits;
+			this.maxDenominator = bits == 63 ? Long.MAX_VALUE : (1L << bits) - 1;
+		}
+		
+		@Override
+		public ExactDecimal roundDown (ExactDecimal value) {
+			if (!value.isFinite() || value.getDenominator().bitLength() <= this.bits) {
+				return value;
+			}
+			return value.approximateDown(this.maxDenominator);
+		}
+		
+		@Override
+		public ExactDecimal roundUp (ExactDecimal value) {
+			if (!value.isFinite() || value.getDenominator().bitLength() <= this.bits) {
+				return value;
+			}
+			return value.approximateUp(this.maxDenominator);
+		}
+		
+		@Override
+		public String toString () {
+			return this.bits + " denominator bits";
+		}
+	}
+	
+	/**
+	 * See {@link IntervalPrecision#significantBits(int)}.
+	 */
+	private static final class SignificantBits extends IntervalPrecision {
+		private final int bits;
+		
+		SignificantBits (int bits) {
+			this.bits = bits;
+		}
+		
+		@Override
+		public ExactDecimal roundDown (ExactDecimal value) {
+			if (this.isRepresentable(value)) {
+				return value;
+			}
+			return this.dividend(value).divideDown(this.divisor(value), this.bits).toExactDecimal();
+		}
+		
+		@Override
+		public ExactDecimal roundUp (ExactDecimal value) {
+			if (this.isRepresentable(value)) {
+				return value;
+			}
+			return this.dividend(value).divideUp(this.divisor(value), this.bits).toExactDecimal();
+		}
+		
+		private boolean isRepresentable (ExactDecimal value) {
+			if (!value.isFinite() || value.signum() == 0) {
+				return true;
+			}
+			BigInteger denominator = value.getDenominator();
+			BigInteger numerator = value.getNumerator().abs();
+			// a dyadic rational, whose odd part fits into the significant bits
+			return denominator.bitCount() == 1 && numerator.bitLength() - numerator.getLowestSetBit() <= this.bits;
+		}
+		
+		private DyadicDecimal dividend (ExactDecimal value) {
+			return new DyadicDecimal(value.getNumerator(), 0);
+		}
+		
+		private DyadicDecimal divisor (ExactDecimal value) {
+			return new DyadicDecimal(value.getDenominator(), 0);
+		}
+		
+		@Override
+		public String toString () {
+			return this.bits + " significant bits";
+		}
+	}
+}
@@ -0,0 +1,531 @@
+package edu.kit.ukzgk.interval;
+
+import edu.kit.ukzgk.exactDecimal.ExactDecimal;
+import edu.kit.ukzgk.interval.number.LongRational;
+
+/**
+ * The {@link IntervalVector} class is a vector of intervals, whose bounds are stored in separate contiguous arrays
+ * instead of an array of interval objects. Bulk operations therefore run over primitive arrays without following
+ * pointers to intervals and their bounds. There are two backends:
+ * <ul>
+ * <li>The floating backend stores the lower and upper bounds in two {@code double[]}s and rounds like
+ * {@link DoubleInterval}.</li>
+ * <li>The exact backend stores numerators and denominators of the bounds in four {@code long[]}s and computes like
+ * {@link Interval} with {@link LongRational} bounds: exact as long as the fractions fit into {@code long}s, rounded
+ * outward otherwise. Unbounded intervals and magnitudes beyond {@code long} throw an {@link ArithmeticException}.
+ * The bounds are computed directly on the arrays with overflow checked {@code long} arithmetic. Only if that
+ * overflows, the element is computed again with {@link LongRational} intervals, which round.</li>
+ * </ul>
+ * Single intervals are exchanged as {@link ExactInterval}s, which represent both backends exactly. Operations on two
+ * vectors require the same backend. Instances are immutable.
+ * 
+ * @author Florian Gilges
+ * @version 201711090317
+ */
+public class IntervalVector {
+	private final int dimension;
+	/**
+	 * The bounds of the floating backend, {@code null} for the exact backend.
+	 */
+	private final double[] lowerBounds;
+	private final double[] upperBounds;
+	/**
+	 * The bounds of the exact backend, {@code null} for the floating backend.
+	 */
+	private final long[] lowerNumerators;
+	private final long[] lowerDenominators;
+	private final long[] upperNumerators;
+	private final long[] upperDenominators;
+	
+	/**
+	 * Creates a vector of the floating backend. The arrays are copied.
+	 * 
+	 * @param lowerBounds
+	 *            The lower bounds.
+	 * @param upperBounds
+	 *            The upper bounds, not less than the lower bounds.
+	 * @throws IllegalArgumentException
+	 *             If the arrays differ in length or a lower bound is greater than its upper bound.
+	 */
+	public IntervalVector (double[] lowerBounds, double[] upperBounds) {
+		this(lowerBounds.length, false);
+		if (upperBounds.length != lowerBounds.length) {
+			throw new IllegalArgumentException("Bounds differ in length: " + lowerBounds.length + " and "
+					+ upperBounds.length);
+		}
+		for (int i = 0; i < this.dimension; i++) {
+			if (lowerBounds[i] > upperBounds[i]) {
+				throw new IllegalArgumentException("Lower bound greater than upper bound at index " + i);
+			}
+		}
+		System.arraycopy(lowerBounds, 0, this.lowerBounds, 0, this.dimension);
+		System.arraycopy(upperBounds, 0, this.upperBounds, 0, this.dimension);
+	}
+	
+	/**
+	 * Creates an empty vector of a backend.
+	 * 
+	 * @param dimension
+	 *            The number of intervals.
+	 * @param exact
+	 *            Whether to use the exact backend.
+	 */
+	IntervalVector (int dimension, boolean exact) {
+		this.dimension = dimension;
+		this.lowerBounds = exact ? null : new double[dimension];
+		this.upperBounds = exact ? null : new double[dimension];
+		this.lowerNumerators = exact ? new long[dimension] : null;
+		this.lowerDenominators = exact ? new long[dimension] : null;
+		this.upperNumerators = exact ? new long[dimension] : null;
+		this.upperDenominators = exact ? new long[dimension] : null;
+	}
+	
+	/**
+	 * Creates a vector of the exact backend. Bounds, whose fractions do not fit into {@code long}s, are rounded outward
+	 * by {@link ExactDecimal#approximateDown(long)} and {@link ExactDecimal#approximateUp(long)}.
+	 * 
+	 * @param intervals
+	 *            The intervals.
+	 * @return The vector.
+	 * @throws ArithmeticException
+	 *             If an interval is unbounded or NaN, or a bound does not fit into a {@code long} fraction.
+	 */
+	public static IntervalVector valueOf (ExactInterval... intervals) {
+		IntervalVector vector = new IntervalVector(intervals.length, true);
+		for (int i = 0; i < intervals.length; i++) {
+			ExactDecimal lowerBound = pack(intervals[i].getLowerBound(), false);
+			ExactDecimal upperBound = pack(intervals[i].getUpperBound(), true);
+			vector.lowerNumerators[i] = lowerBound.getNumerator().longValue();
+			vector.lowerDenominators[i] = lowerBound.getDenominator().longValue();
+			vector.upperNumerators[i] = upperBound.getNumerator().longValue();
+			vector.upperDenominators[i] = upperBound.getDenominator().longValue();
+		}
+		return vector;
+	}
+	
+	/**
+	 * Rounds a bound to a fraction of {@code long}s.
+	 */
+	private static ExactDecimal pack (ExactDecimal bound, boolean up) {
+		if (!bound.isFinite()) {
+			throw new ArithmeticException("Exact backend needs finite bounds: " + bound);
+		}
+		if (bound.getDenominator().bitLength() >= Long.SIZE) {
+			bound = up ? bound.approximateUp(Long.MAX_VALUE) : bound.approximateDown(Long.MAX_VALUE);
+		}
+		if (bound.getNumerator().bitLength() >= Long.SIZE) {
+			throw new ArithmeticException("long overflow: " + bound);
+		}
+		return bound;
+	}
+	
+	/**
+	 * Creates an empty vector of the same backend as this one.
+	 */
+	IntervalVector like (int dimension) {
+		return new IntervalVector(dimension, this.isExact());
+	}
+	
+	/**
+	 * Returns the number of intervals in the vector.
+	 * 
+	 * @return The dimension.
+	 */
+	public int getDimension () {
+		return this.dimension;
+	}
+	
+	/**
+	 * Returns whether this vector uses the exact backend.
+	 * 
+	 * @return {@code true} for the exact, {@code false} for the floating backend.
+	 */
+	public boolean isExact () {
+		return this.lowerBounds == null;
+	}
+	
+	/**
+	 * Returns an interval of the vector.
+	 * 
+	 * @param index
+	 *            The index of the interval.
+	 * @return The interval at {@code index}.
+	 */
+	public ExactInterval get (int index) {
+		if (this.isExact()) {
+			return new ExactInterval(new ExactDecimal(this.lowerNumerators[index], this.lowerDenominators[index]),
+					new ExactDecimal(this.upperNumerators[index], this.upperDenominators[index]));
+		}
+		return new DoubleInterval(this.lowerBounds[index], this.upperBounds[index]).toExactInterval();
+	}
+	
+	/**
+	 * Adds two vectors.
+	 * 
+	 * @param vector
+	 *            The vector to add.
+	 * @return An enclosure of the sum.
+	 * @throws IllegalArgumentException
+	 *             If the vectors differ in dimension or backend.
+	 */
+	public IntervalVector add (IntervalVector vector) {
+		this.checkCompatible(vector, this.dimension);
+		IntervalVector result = this.like(this.dimension);
+		if (this.isExact()) {
+			long[] sum = new long[4];
+			for (int i = 0; i < this.dimension; i++) {
+				try {
+					sum[0] = this.lowerNumerators[i];
+					sum[1] = this.lowerDenominators[i];
+					sum[2] = this.upperNumerators[i];
+					sum[3] = this.upperDenominators[i];
+					addTo(sum, 0, vector.lowerNumerators[i], vector.lowerDenominators[i]);
+					addTo(sum, 2, vector.upperNumerators[i], vector.upperDenominators[i]);
+					result.set(i, sum);
+				} catch (ArithmeticException e) {
+					// overflow: fall back to rounding
+					result.set(i, this.exact(i).add(vector.exact(i)));
+				}
+			}
+		} else {
+			for (int i = 0; i < this.dimension; i++) {
+				result.lowerBounds[i] = DoubleInterval.sumDown(this.lowerBounds[i], vector.lowerBounds[i]);
+				result.upperBounds[i] = DoubleInterval.sumUp(this.upperBounds[i], vector.upperBounds[i]);
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Multiplies every interval with a factor.
+	 * 
+	 * @param factor
+	 *            The factor, which is rounded outward for the floating backend.
+	 * @return An enclosure of the scaled vector.
+	 * @throws ArithmeticException
+	 *             If the factor cannot be converted to the exact backend, see {@link #valueOf(ExactInterval...)}.
+	 */
+	public IntervalVector scale (ExactInterval factor) {
+		IntervalVector result = this.like(this.dimension);
+		if (this.isExact()) {
+			IntervalVector exactFactor = valueOf(factor);
+			long[] product = new long[4];
+			for (int i = 0; i < this.dimension; i++) {
+				try {
+					clear(product);
+					this.addProduct(i, exactFactor, 0, product);
+					result.set(i, product);
+				} catch (ArithmeticException e) {
+					// overflow: fall back to rounding
+					result.set(i, this.exact(i).multiply(exactFactor.exact(0)));
+				}
+			}
+		} else {
+			DoubleInterval doubleFactor = DoubleInterval.valueOf(factor);
+			double c = doubleFactor.getLowerBound();
+			double d = doubleFactor.getUpperBound();
+			for (int i = 0; i < this.dimension; i++) {
+				double a = this.lowerBounds[i];
+				double b = this.upperBounds[i];
+				result.lowerBounds[i] = DoubleInterval.productDown(a, b, c, d);
+				result.upperBounds[i] = DoubleInterval.productUp(a, b, c, d);
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Computes the dot product of two vectors.
+	 * 
+	 * @param vector
+	 *            The second vector.
+	 * @return An enclosure of the dot product.
+	 * @throws IllegalArgumentException
+	 *             If the vectors differ in dimension or backend.
+	 */
+	public ExactInterval dot (IntervalVector vector) {
+		this.checkCompatible(vector, this.dimension);
+		IntervalVector result = this.like(1);
+		this.dot(0, vector, result, 0);
+		return result.get(0);
+	}
+	
+	/**
+	 * Computes the dot product of a vector with the intervals of this vector, that start at an offset. This is the
+	 * kernel of {@link IntervalMatrix#multiply(IntervalVector)}, where this vector holds the matrix in row-major order.
+	 * 
+	 * @param offset
+	 *            The index of the first interval of this vector.
+	 * @param vector
+	 *            The second vector, of the same backend.
+	 * @param result
+	 *            The vector to store the dot product in, of the same backend.
+	 * @param index
+	 *            The index to store the dot product at.
+	 */
+	void dot (int offset, IntervalVector vector, IntervalVector result, int index) {
+		if (this.isExact()) {
+			long[] sum = new long[4];
+			clear(sum);
+			try {
+				for (int j = 0; j < vector.dimension; j++) {
+					this.addProduct(offset + j, vector, j, sum);
+				}
+				result.set(index, sum);
+			} catch (ArithmeticException e) {
+				// overflow: start over with rounding
+				Interval<LongRational> rounded = new Interval<>(LongRational.ZERO);
+				for (int j = 0; j < vector.dimension; j++) {
+					rounded = rounded.add(this.exact(offset + j).multiply(vector.exact(j)));
+				}
+				result.set(index, rounded);
+			}
+		} else {
+			double lowerSum = 0.0;
+			double upperSum = 0.0;
+			for (int j = 0; j < vector.dimension; j++) {
+				double a = this.lowerBounds[offset + j];
+				double b = this.upperBounds[offset + j];
+				double c = vector.lowerBounds[j];
+				double d = vector.upperBounds[j];
+				lowerSum = DoubleInterval.sumDown(lowerSum, DoubleInterval.productDown(a, b, c, d));
+				upperSum = DoubleInterval.sumUp(upperSum, DoubleInterval.productUp(a, b, c, d));
+			}
+			result.lowerBounds[index] = lowerSum;
+			result.upperBounds[index] = upperSum;
+		}
+	}
+	
+	/**
+	 * Checks, that a vector has the same backend as this one and the given dimension.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the backends or dimensions differ.
+	 */
+	void checkCompatible (IntervalVector vector, int dimension) {
+		if (vector.isExact() != this.isExact()) {
+			throw new IllegalArgumentException("Vectors use different backends");
+		}
+		if (vector.dimension != dimension) {
+			throw new IllegalArgumentException("Dimension " + vector.dimension + " does not match " + dimension);
+		}
+	}
+	
+	/**
+	 * Adds the product of two intervals of the exact backend to an interval given by the numerators and denominators
+	 * of its bounds. The bounds of the product are selected by the signs of the bounds like in
+	 * {@link Interval#multiply(Interval)}, so only two products are computed, unless both intervals contain zero.
+	 * 
+	 * @param index
+	 *            The index of the first factor in this vector.
+	 * @param vector
+	 *            The vector of the second factor.
+	 * @param vectorIndex
+	 *            The index of the second factor in {@code vector}.
+	 * @param sum
+	 *            The lower and upper bound of the sum, as {@code {lowerNumerator, lowerDenominator, upperNumerator,
+	 *            upperDenominator}}.
+	 * @throws ArithmeticException
+	 *             If an intermediate result overflows a {@code long}.
+	 */
+	private void addProduct (int index, IntervalVector vector, int vectorIndex, long[] sum) {
+		long a = this.lowerNumerators[index];
+		long aDenominator = this.lowerDenominators[index];
+		long b = this.upperNumerators[index];
+		long bDenominator = this.upperDenominators[index];
+		long c = vector.lowerNumerators[vectorIndex];
+		long cDenominator = vector.lowerDenominators[vectorIndex];
+		long d = vector.upperNumerators[vectorIndex];
+		long dDenominator = vector.upperDenominators[vectorIndex];
+		// whether the lower (upper) bound of the product uses the upper bound of the first or the second factor
+		boolean lowerB;
+		boolean lowerD;
+		boolean upperB;
+		boolean upperD;
+		if (a >= 0) {
+			if (c >= 0) {
+				lowerB = false;
+				lowerD = false;
+				upperB = true;
+				upperD = true;
+			} else if (d <= 0) {
+				lowerB = true;
+				lowerD = false;
+				upperB = false;
+				upperD = true;
+			} else {
+				lowerB = true;
+				lowerD = false;
+				upperB = true;
+				upperD = true;
+			}
+		} else if (b <= 0) {
+			if (c >= 0) {
+				lowerB = false;
+				lowerD = true;
+				upperB = true;
+				upperD = false;
+			} else if (d <= 0) {
+				lowerB = true;
+				lowerD = true;
+				upperB = false;
+				upperD = false;
+			} else {
+				lowerB = false;
+				lowerD = true;
+				upperB = false;
+				upperD = false;
+			}
+		} else if (c >= 0) {
+			lowerB = false;
+			lowerD = true;
+			upperB = true;
+			upperD = true;
+		} else if (d <= 0) {
+			lowerB = true;
+			lowerD = false;
+			upperB = false;
+			upperD = false;
+		} else {
+			// both contain zero: compare a * d with b * c and a * c with b * d
+			lowerB = compareProducts(b, bDenominator, c, cDenominator, a, aDenominator, d, dDenominator) < 0;
+			lowerD = !lowerB;
+			upperB = compareProducts(b, bDenominator, d, dDenominator, a, aDenominator, c, cDenominator) > 0;
+			upperD = upperB;
+		}
+		addTo(sum, 0, Math.multiplyExact(lowerB ? b : a, lowerD ? d : c),
+				Math.multiplyExact(lowerB ? bDenominator : aDenominator, lowerD ? dDenominator : cDenominator));
+		addTo(sum, 2, Math.multiplyExact(upperB ? b : a, upperD ? d : c),
+				Math.multiplyExact(upperB ? bDenominator : aDenominator, upperD ? dDenominator : cDenominator));
+	}
+	
+	/**
+	 * Compares the products of two pairs of fractions.
+	 * 
+	 * @return A negative number, zero or a positive number, if {@code (p / q) * (r / s)} is less than, equal to or
+	 *         greater than {@code (t / u) * (v / w)}.
+	 * @throws ArithmeticException
+	 *             If an intermediate result overflows a {@code long}.
+	 */
+	private static int compareProducts (long p, long q, long r, long s, long t, long u, long v, long w) {
+		return Long.compare(Math.multiplyExact(Math.multiplyExact(p, r), Math.multiplyExact(u, w)),
+				Math.multiplyExact(Math.multiplyExact(t, v), Math.multiplyExact(q, s)));
+	}
+	
+	/**
+	 * Adds a fraction to the fraction at {@code sum[index]} and {@code sum[index + 1]} and reduces the result.
+	 * 
+	 * @throws ArithmeticException
+	 *             If an intermediate result overflows a {@code long}.
+	 */
+	private static void addTo (long[] sum, int index, long numerator, long denominator) {
+		long sumNumerator = sum[index];
+		long sumDenominator = sum[index + 1];
+		if (sumDenominator != denominator) {
+			sumNumerator = Math.multiplyExact(sumNumerator, denominator);
+			numerator = Math.multiplyExact(numerator, sumDenominator);
+			sumDenominator = Math.multiplyExact(sumDenominator, denominator);
+		}
+		sumNumerator = Math.addExact(sumNumerator, numerator);
+		if (sumNumerator == Long.MIN_VALUE) {
+			// its absolute value overflows
+			throw new ArithmeticException("long overflow");
+		}
+		long gcd = gcd(sumNumerator, sumDenominator);
+		sum[index] = sumNumerator / gcd;
+		sum[index + 1] = sumDenominator / gcd;
+	}
+	
+	/**
+	 * Returns the positive greatest common divisor of a {@code long} and a positive {@code long}.
+	 */
+	private static long gcd (long a, long b) {
+		a = Math.abs(a);
+		while (a != 0) {
+			long remainder = b % a;
+			b = a;
+			a = remainder;
+		}
+		return b;
+	}
+	
+	/**
+	 * Sets the interval {@code [0, 0]} in the layout of {@link #addProduct(int, IntervalVector, int, long[])}.
+	 */
+	private static void clear (long[] sum) {
+		sum[0] = 0;
+		sum[1] = 1;
+		sum[2] = 0;
+		sum[3] = 1;
+	}
+	
+	/**
+	 * Reads an interval of the exact backend.
+	 */
+	private Interval<LongRational> exact (int index) {
+		return new Interval<>(new LongRational(this.lowerNumerators[index], this.lowerDenominators[index]),
+				new LongRational(this.upperNumerators[index], this.upperDenominators[index]));
+	}
+	
+	/**
+	 * Writes an interval of the exact backend in the layout of
+	 * {@link #addProduct(int, IntervalVector, int, long[])}.
+	 */
+	private void set (int index, long[] interval) {
+		this.lowerNumerators[index] = interval[0];
+		this.lowerDenominators[index] = interval[1];
+		this.upperNumerators[index] = interval[2];
+		this.upperDenominators[index] = interval[3];
+	}
+	
+	/**
+	 * Writes an interval of the exact backend.
+	 */
+	private void set (int index, Interval<LongRational> interval) {
+		this.lowerNumerators[index] = interval.getLowerBound().getNumerator();
+		this.lowerDenominators[index] = interval.getLowerBound().getDenominator();
+		this.upperNumerators[index] = interval.getUpperBound().getNumerator();
+		this.upperDenominators[index] = interval.getUpperBound().getDenominator();
+	}
+	
+	/**
+	 * Returns {@code true} if both vectors use the same backend and have equal bounds.
+	 */
+	@Override
+	public boolean equals (Object o) {
+		if (o instanceof IntervalVector) {
+			IntervalVector other = (IntervalVector) o;
+			if (other.isExact() != this.isExact() || other.dimension != this.dimension) {
+				return false;
+			}
+			for (int i = 0; i < this.dimension; i++) {
+				if (!this.get(i).equals(other.get(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return false;
+	}
+	
+	@Override
+	public int hashCode () {
+		int hash = this.dimension;
+		for (int i = 0; i < this.dimension; i++) {
+			hash = 31 * hash + this.get(i).hashCode();
+		}
+		return hash;
+	}
+	
+	/**
+	 * Returns the intervals in the form {@code ([a, b], [c, d], ...)}.
+	 */
+	@Override
+	public String toString () {
+		StringBuilder builder = new StringBuilder("(");
+		for (int i = 0; i < this.dimension; i++) {
+			builder.append(i == 0 ? "" : ", ").append(this.get(i));
+		}
+		return builder.append(')').toString();
+	}
+}
@@ -0,0 +1,199 @@
+package edu.kit.ukzgk.interval.number;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * The {@link ContextDecimal} class is a {@link BigDecimal} with a {@link MathContext}, that rounds the results of all
+ * operations to a fixed number of decimal digits. The directed operations use the same precision, but round with
+ * {@link RoundingMode#FLOOR} and {@link RoundingMode#CEILING}.<br>
+ * Results of operations on two numbers use the context of the first. With {@link MathContext#UNLIMITED} operations are
+ * exact, but division throws an {@link ArithmeticException}, if the quotient has no terminating decimal expansion.
+ * 
+ * @author Florian Gilges
+ * @version 201711090317
+ */
+public class ContextDecimal implements Number<ContextDecimal> {
+	private final BigDecimal value;
+	private final MathContext context;
+	/**
+	 * The context rounding towards negative infinity.
+	 */
+	private final MathContext down;
+	/**
+	 * The context rounding towards positive infinity.
+	 */
+	private final MathContext up;
+	
+	/**
+	 * Creates a number rounded to a context.
+	 * 
+	 * @param value
+	 *            The value, which is rounded by {@code context}.
+	 * @param context
+	 *            The context of all operations on this number.
+	 */
+	public ContextDecimal (BigDecimal value, MathContext context) {
+		this(value.round(context), context, new MathContext(context.getPrecision(), RoundingMode.FLOOR),
+				new MathContext(context.getPrecision(), RoundingMode.CEILING));
+	}
+	
+	/**
+	 * Creates a number sharing the contexts of another one.
+	 */
+	private ContextDecimal (BigDecimal value, MathContext context, MathContext down, MathContext up) {
+		this.value = value;
+		this.context = context;
+		this.down = down;
+		this.up = up;
+	}
+	
+	private ContextDecimal with (BigDecimal value) {
+		return new ContextDecimal(value, this.context, this.down, this.up);
+	}
+	
+	/**
+	 * Returns the value of this number.
+	 * 
+	 * @return The value, rounded by the context.
+	 */
+	public BigDecimal getValue () {
+		return this.value;
+	}
+	
+	/**
+	 * Returns the context rounding the results of operations on this number.
+	 * 
+	 * @return The context.
+	 */
+	public MathContext getContext () {
+		return this.context;
+	}
+	
+	@Override
+	public ContextDecimal getZeroElement () {
+		return this.with(BigDecimal.ZERO);
+	}
+	
+	@Override
+	public ContextDecimal getOneElement () {
+		return this.with(BigDecimal.ONE);
+	}
+	
+	@Override
+	public ContextDecimal add (ContextDecimal number) {
+		return this.with(this.value.add(number.value, this.context));
+	}
+	
+	@Override
+	public ContextDecimal addDown (ContextDecimal number) {
+		return this.with(this.value.add(number.value, this.down));
+	}
+	
+	@Override
+	public ContextDecimal addUp (ContextDecimal number) {
+		return this.with(this.value.add(number.value, this.up));
+	}
+	
+	@Override
+	public ContextDecimal subtract (ContextDecimal number) {
+		return this.with(this.value.subtract(number.value, this.context));
+	}
+	
+	@Override
+	public ContextDecimal subtractDown (ContextDecimal number) {
+		return this.with(this.value.subtract(number.value, this.down));
+	}
+	
+	@Override
+	public ContextDecimal subtractUp (ContextDecimal number) {
+		return this.with(this.value.subtract(number.value, this.up));
+	}
+	
+	@Override
+	public ContextDecimal multiply (ContextDecimal number) {
+		return this.with(this.value.multiply(number.value, this.context));
+	}
+	
+	@Override
+	public ContextDecimal multiplyDown (ContextDecimal number) {
+		return this.with(this.value.multiply(number.value, this.down));
+	}
+	
+	@Override
+	public ContextDecimal multiplyUp (ContextDecimal number) {
+		return this.with(this.value.multiply(number.value, this.up));
+	}
+	
+	@Override
+	public ContextDecimal divide (ContextDecimal number) {
+		return this.with(this.value.divide(number.value, this.context));
+	}
+	
+	@Override
+	public ContextDecimal divideDown (ContextDecimal number) {
+		return this.with(this.value.divide(number.value, this.down));
+	}
+	
+	@Override
+	public ContextDecimal divideUp (ContextDecimal number) {
+		return this.with(this.value.divide(number.value, this.up));
+	}
+	
+	@Override
+	public ContextDecimal abs () {
+		return this.value.signum() < 0 ? this.negate() : this;
+	}
+	
+	@Override
+	public ContextDecimal negative () {
+		return this.value.signum() > 0 ? this.negate() : this;
+	}
+	
+	@Override
+	public int intSign () {
+		return this.value.signum();
+	}
+	
+	@Override
+	public ContextDecimal sign () {
+		return this.with(BigDecimal.valueOf(this.value.signum()));
+	}
+	
+	@Override
+	public ContextDecimal negate () {
+		return this.with(this.value.negate());
+	}
+	
+	@Override
+	public ContextDecimal reciprocate () {
+		return this.with(BigDecimal.ONE.divide(this.value, this.context));
+	}
+	
+	/**
+	 * Compares the values, ignoring their scales and contexts.
+	 */
+	@Override
+	public int compareTo (ContextDecimal number) {
+		return this.value.compareTo(number.value);
+	}
+	
+	/**
+	 * Returns {@code true} if both values are numerically equal, ignoring their scales and contexts.
+	 */
+	@Override
+	public boolean equals (Object o) {
+		return o instanceof ContextDecimal && this.value.compareTo(((ContextDecimal) o).value) == 0;
+	}
+	
+	@Override
+	public int hashCode () {
+		return this.value.signum() == 0 ? 0 : this.value.stripTrailingZeros().hashCode();
+	}
+	
+	@Override
+	public String toString () {
+		return this.value.toString();
+	}
+}
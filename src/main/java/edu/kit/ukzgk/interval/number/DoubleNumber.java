@@ -0,0 +1,170 @@
+package edu.kit.ukzgk.interval.number;
+
+/**
+ * The {@link DoubleNumber} class is a {@code double} as {@link Number}. The exact operations round to nearest like
+ * {@code double} arithmetic does. The directed operations move that result by one unit in the last place, which
+ * encloses the exact result, because rounding to nearest is off by at most half a unit. They are therefore one unit
+ * wider than necessary, even for exact results; {@link edu.kit.ukzgk.interval.DoubleInterval} is tighter.<br>
+ * Comparison follows {@link Double#compare(double, double)}, so {@code -0.0} is less than {@code 0.0} and
+ * {@code NaN} is greater than any other value.
+ * 
+ * @author Florian Gilges
+ * @version 201711090317
+ */
+public class DoubleNumber implements Number<DoubleNumber> {
+	/**
+	 * The value 0.
+	 */
+	public static final DoubleNumber ZERO = new DoubleNumber(0.0);
+	/**
+	 * The value 1.
+	 */
+	public static final DoubleNumber ONE = new DoubleNumber(1.0);
+	
+	private final double value;
+	
+	/**
+	 * Creates a number from a {@code double}.
+	 * 
+	 * @param value
+	 *            The value.
+	 */
+	public DoubleNumber (double value) {
+		this.value = value;
+	}
+	
+	/**
+	 * Returns the value of this number.
+	 * 
+	 * @return The value as {@code double}.
+	 */
+	public double doubleValue () {
+		return this.value;
+	}
+	
+	@Override
+	public DoubleNumber getZeroElement () {
+		return ZERO;
+	}
+	
+	@Override
+	public DoubleNumber getOneElement () {
+		return ONE;
+	}
+	
+	@Override
+	public DoubleNumber add (DoubleNumber number) {
+		return new DoubleNumber(this.value + number.value);
+	}
+	
+	@Override
+	public DoubleNumber addDown (DoubleNumber number) {
+		return new DoubleNumber(Math.nextDown(this.value + number.value));
+	}
+	
+	@Override
+	public DoubleNumber addUp (DoubleNumber number) {
+		return new DoubleNumber(Math.nextUp(this.value + number.value));
+	}
+	
+	@Override
+	public DoubleNumber subtract (DoubleNumber number) {
+		return new DoubleNumber(this.value - number.value);
+	}
+	
+	@Override
+	public DoubleNumber subtractDown (DoubleNumber number) {
+		return new DoubleNumber(Math.nextDown(this.value - number.value));
+	}
+	
+	@Override
+	public DoubleNumber subtractUp (DoubleNumber number) {
+		return new DoubleNumber(Math.nextUp(this.value - number.value));
+	}
+	
+	@Override
+	public DoubleNumber multiply (DoubleNumber number) {
+		return new DoubleNumber(this.value * number.value);
+	}
+	
+	@Override
+	public DoubleNumber multiplyDown (DoubleNumber number) {
+		return new DoubleNumber(Math.nextDown(this.value * number.value));
+	}
+	
+	@Override
+	public DoubleNumber multiplyUp (DoubleNumber number) {
+		return new DoubleNumber(Math.nextUp(this.value * number.value));
+	}
+	
+	@Override
+	public DoubleNumber divide (DoubleNumber number) {
+		return new DoubleNumber(this.value / number.value);
+	}
+	
+	@Override
+	public DoubleNumber divideDown (DoubleNumber number) {
+		return new DoubleNumber(Math.nextDown(this.value / number.value));
+	}
+	
+	@Override
+	public DoubleNumber divideUp (DoubleNumber number) {
+		return new DoubleNumber(Math.nextUp(this.value / number.value));
+	}
+	
+	@Override
+	public DoubleNumber abs () {
+		return new DoubleNumber(Math.abs(this.value));
+	}
+	
+	@Override
+	public DoubleNumber negative () {
+		return new DoubleNumber(-Math.abs(this.value));
+	}
+	
+	/**
+	 * Returns the sign as integer, which is {@code 0} for {@code NaN}.
+	 */
+	@Override
+	public int intSign () {
+		return (int) Math.signum(this.value);
+	}
+	
+	@Override
+	public DoubleNumber sign () {
+		return new DoubleNumber(Math.signum(this.value));
+	}
+	
+	@Override
+	public DoubleNumber negate () {
+		return new DoubleNumber(-this.value);
+	}
+	
+	@Override
+	public DoubleNumber reciprocate () {
+		return new DoubleNumber(1.0 / this.value);
+	}
+	
+	@Override
+	public int compareTo (DoubleNumber number) {
+		return Double.compare(this.value, number.value);
+	}
+	
+	/**
+	 * Returns {@code true} if both values are equal by {@link Double#compare(double, double)}.
+	 */
+	@Override
+	public boolean equals (Object o) {
+		return o instanceof DoubleNumber && Double.compare(this.value, ((DoubleNumber) o).value) == 0;
+	}
+	
+	@Override
+	public int hashCode () {
+		return Double.hashCode(this.value);
+	}
+	
+	@Override
+	public String toString () {
+		return Double.toString(this.value);
+	}
+}
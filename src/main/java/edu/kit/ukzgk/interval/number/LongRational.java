@@ -0,0 +1,396 @@
+package edu.kit.ukzgk.interval.number;
+
+import java.math.BigInteger;
+
+/**
+ * The {@link LongRational} class is a fraction of two {@code long}s. It is a cheap backend for intervals, whose bounds
+ * stay small. The fraction is always reduced and its denominator is positive. There are no special values, so division
+ * by zero throws an {@link ArithmeticException}.<br>
+ * The exact operations throw an {@link ArithmeticException}, if the result does not fit into a {@code long} fraction.
+ * The directed operations instead round such a result to a fraction with a denominator of at most
+ * <code>2<sup>62</sup></code>. Only results, whose magnitude does not fit into a {@code long}, throw an exception.<br>
+ * Operations whose intermediate products are known to fit into a {@code long} by their bit lengths are computed
+ * without {@link BigInteger}s and without checking for overflow.
+ * 
+ * @author Florian Gilges
+ * @version 201711090317
+ */
+public class LongRational implements Number<LongRational> {
+	/**
+	 * The value 0.
+	 */
+	public static final LongRational ZERO = new LongRational(0, 1);
+	/**
+	 * The value 1.
+	 */
+	public static final LongRational ONE = new LongRational(1, 1);
+	/**
+	 * The value -1.
+	 */
+	public static final LongRational MINUS_ONE = new LongRational(-1, 1);
+	
+	/**
+	 * Rounding direction of the exact operations, that fail instead of rounding.
+	 */
+	private static final int EXACT = 0;
+	/**
+	 * Rounding direction towards negative infinity.
+	 */
+	private static final int DOWN = -1;
+	/**
+	 * Rounding direction towards positive infinity.
+	 */
+	private static final int UP = 1;
+	/**
+	 * The exponent of the largest denominator used for rounding.
+	 */
+	private static final int MAX_SCALE = 62;
+	
+	private final long numerator;
+	private final long denominator;
+	
+	/**
+	 * Creates the fraction {@code numerator / denominator}, which is reduced.
+	 * 
+	 * @param numerator
+	 *            The numerator.
+	 * @param denominator
+	 *            The denominator, not {@code 0}.
+	 * @throws ArithmeticException
+	 *             If {@code denominator} is {@code 0}, or the reduced fraction cannot be represented with a positive
+	 *             denominator.
+	 */
+	public LongRational (long numerator, long denominator) {
+		if (denominator == 0) {
+			throw new ArithmeticException("Division by zero");
+		}
+		long gcd = gcd(numerator, denominator);
+		numerator /= gcd;
+		denominator /= gcd;
+		if (denominator < 0) {
+			numerator = Math.negateExact(numerator);
+			denominator = Math.negateExact(denominator);
+		}
+		this.numerator = numerator;
+		this.denominator = denominator;
+	}
+	
+	/**
+	 * Creates an integer.
+	 * 
+	 * @param value
+	 *            The value.
+	 */
+	public LongRational (long value) {
+		this.numerator = value;
+		this.denominator = 1;
+	}
+	
+	/**
+	 * Creates a fraction, that is known to be reduced with a positive denominator.
+	 */
+	private LongRational (long numerator, long denominator, boolean reduced) {
+		this.numerator = numerator;
+		this.denominator = denominator;
+	}
+	
+	/**
+	 * Returns the numerator of the reduced fraction.
+	 * 
+	 * @return The numerator, which carries the sign.
+	 */
+	public long getNumerator () {
+		return this.numerator;
+	}
+	
+	/**
+	 * Returns the denominator of the reduced fraction.
+	 * 
+	 * @return The denominator, always positive.
+	 */
+	public long getDenominator () {
+		return this.denominator;
+	}
+	
+	@Override
+	public LongRational getZeroElement () {
+		return ZERO;
+	}
+	
+	@Override
+	public LongRational getOneElement () {
+		return ONE;
+	}
+	
+	@Override
+	public LongRational add (LongRational number) {
+		return this.sum(number, false, EXACT);
+	}
+	
+	@Override
+	public LongRational addDown (LongRational number) {
+		return this.sum(number, false, DOWN);
+	}
+	
+	@Override
+	public LongRational addUp (LongRational number) {
+		return this.sum(number, false, UP);
+	}
+	
+	@Override
+	public LongRational subtract (LongRational number) {
+		return this.sum(number, true, EXACT);
+	}
+	
+	@Override
+	public LongRational subtractDown (LongRational number) {
+		return this.sum(number, true, DOWN);
+	}
+	
+	@Override
+	public LongRational subtractUp (LongRational number) {
+		return this.sum(number, true, UP);
+	}
+	
+	@Override
+	public LongRational multiply (LongRational number) {
+		return this.product(number, false, EXACT);
+	}
+	
+	@Override
+	public LongRational multiplyDown (LongRational number) {
+		return this.product(number, false, DOWN);
+	}
+	
+	@Override
+	public LongRational multiplyUp (LongRational number) {
+		return this.product(number, false, UP);
+	}
+	
+	@Override
+	public LongRational divide (LongRational number) {
+		return this.product(number, true, EXACT);
+	}
+	
+	@Override
+	public LongRational divideDown (LongRational number) {
+		return this.product(number, true, DOWN);
+	}
+	
+	@Override
+	public LongRational divideUp (LongRational number) {
+		return this.product(number, true, UP);
+	}
+	
+	/**
+	 * Adds or subtracts two fractions.
+	 * 
+	 * @param number
+	 *            The second operand.
+	 * @param subtract
+	 *            Whether to subtract {@code number} instead of adding it.
+	 * @param direction
+	 *            The rounding direction.
+	 * @return The rounded sum or difference.
+	 */
+	private LongRational sum (LongRational number, boolean subtract, int direction) {
+		int bitsA = bitLength(this.numerator);
+		int bitsB = bitLength(this.denominator);
+		int bitsC = bitLength(number.numerator);
+		int bitsD = bitLength(number.denominator);
+		if (bitsA + bitsD < 62 && bitsC + bitsB < 62 && bitsB + bitsD < 63) {
+			long product = number.numerator * this.denominator;
+			return of(this.numerator * number.denominator + (subtract ? -product : product),
+					this.denominator * number.denominator);
+		}
+		BigInteger product = BigInteger.valueOf(number.numerator).multiply(BigInteger.valueOf(this.denominator));
+		BigInteger numerator = BigInteger.valueOf(this.numerator).multiply(BigInteger.valueOf(number.denominator));
+		return round(subtract ? numerator.subtract(product) : numerator.add(product),
+				BigInteger.valueOf(this.denominator).multiply(BigInteger.valueOf(number.denominator)), direction);
+	}
+	
+	/**
+	 * Multiplies or divides two fractions.
+	 * 
+	 * @param number
+	 *            The second operand.
+	 * @param divide
+	 *            Whether to divide by {@code number} instead of multiplying with it.
+	 * @param direction
+	 *            The rounding direction.
+	 * @return The rounded product or quotient.
+	 * @throws ArithmeticException
+	 *             If dividing by zero.
+	 */
+	private LongRational product (LongRational number, boolean divide, int direction) {
+		if (divide && number.numerator == 0) {
+			throw new ArithmeticException("Division by zero");
+		}
+		long numeratorB = divide ? number.denominator : number.numerator;
+		long denominatorB = divide ? number.numerator : number.denominator;
+		if (bitLength(this.numerator) + bitLength(numeratorB) < 63
+				&& bitLength(this.denominator) + bitLength(denominatorB) < 63) {
+			return of(this.numerator * numeratorB, this.denominator * denominatorB);
+		}
+		return round(BigInteger.valueOf(this.numerator).multiply(BigInteger.valueOf(numeratorB)),
+				BigInteger.valueOf(this.denominator).multiply(BigInteger.valueOf(denominatorB)), direction);
+	}
+	
+	/**
+	 * Creates a reduced fraction from a numerator and a non-zero denominator, whose negations do not overflow.
+	 */
+	private static LongRational of (long numerator, long denominator) {
+		long gcd = gcd(numerator, denominator);
+		if (denominator < 0) {
+			gcd = -gcd;
+		}
+		return new LongRational(numerator / gcd, denominator / gcd, true);
+	}
+	
+	/**
+	 * Converts a fraction of {@link BigInteger}s to a {@link LongRational}. If it does not fit, it is rounded to a
+	 * fraction with the denominator <code>2<sup>k</sup></code>, where {@code k} is as large as possible, but at most
+	 * {@value #MAX_SCALE}.
+	 * 
+	 * @param numerator
+	 *            The numerator.
+	 * @param denominator
+	 *            The denominator, not {@code 0}.
+	 * @param direction
+	 *            The rounding direction.
+	 * @return The rounded fraction.
+	 * @throws ArithmeticException
+	 *             If the fraction does not fit and {@code direction} is {@link #EXACT}, or the magnitude does not fit
+	 *             into a {@code long}.
+	 */
+	private static LongRational round (BigInteger numerator, BigInteger denominator, int direction) {
+		if (denominator.signum() < 0) {
+			numerator = numerator.negate();
+			denominator = denominator.negate();
+		}
+		BigInteger gcd = numerator.gcd(denominator);
+		numerator = numerator.divide(gcd);
+		denominator = denominator.divide(gcd);
+		if (numerator.bitLength() < 64 && denominator.bitLength() < 64) {
+			return new LongRational(numerator.longValue(), denominator.longValue(), true);
+		}
+		if (direction == EXACT) {
+			throw new ArithmeticException("long overflow");
+		}
+		// |numerator / denominator| < 2^(numerator.bitLength() - denominator.bitLength() + 1)
+		int scale = Math.min(MAX_SCALE, 61 - numerator.bitLength() + denominator.bitLength());
+		if (scale < 0) {
+			throw new ArithmeticException("long overflow");
+		}
+		BigInteger[] division = numerator.shiftLeft(scale).divideAndRemainder(denominator);
+		long quotient = division[0].longValue();
+		if (division[1].signum() != 0 && numerator.signum() == direction) {
+			// the quotient was truncated towards zero
+			quotient += direction;
+		}
+		return of(quotient, 1L << scale);
+	}
+	
+	/**
+	 * Returns the number of bits of a {@code long} without its sign bit, like {@link BigInteger#bitLength()}.
+	 */
+	private static int bitLength (long value) {
+		return 64 - Long.numberOfLeadingZeros(value < 0 ? ~value : value);
+	}
+	
+	/**
+	 * Returns the positive greatest common divisor of two {@code long}s, or {@code 1} if both are {@code 0}. The
+	 * divisor <code>2<sup>63</sup></code> is returned as {@link Long#MIN_VALUE}, which divides both values, too.
+	 */
+	private static long gcd (long a, long b) {
+		// the non-positive magnitudes, which exist for Long.MIN_VALUE as well
+		a = a > 0 ? -a : a;
+		b = b > 0 ? -b : b;
+		while (b != 0) {
+			long remainder = a % b;
+			a = b;
+			b = remainder;
+		}
+		return a == 0 ? 1 : a == Long.MIN_VALUE ? a : -a;
+	}
+	
+	@Override
+	public LongRational abs () {
+		return this.numerator < 0 ? this.negate() : this;
+	}
+	
+	@Override
+	public LongRational negative () {
+		return this.numerator > 0 ? this.negate() : this;
+	}
+	
+	@Override
+	public int intSign () {
+		return Long.signum(this.numerator);
+	}
+	
+	@Override
+	public LongRational sign () {
+		return this.numerator > 0 ? ONE : this.numerator < 0 ? MINUS_ONE : ZERO;
+	}
+	
+	/**
+	 * Returns the additive inverse.
+	 * 
+	 * @throws ArithmeticException
+	 *             If the numerator is {@link Long#MIN_VALUE}.
+	 */
+	@Override
+	public LongRational negate () {
+		return new LongRational(Math.negateExact(this.numerator), this.denominator, true);
+	}
+	
+	@Override
+	public LongRational reciprocate () {
+		return ONE.divide(this);
+	}
+	
+	/**
+	 * Returns the nearest {@code double} value.
+	 * 
+	 * @return The value as {@code double}.
+	 */
+	public double doubleValue () {
+		return (double) this.numerator / this.denominator;
+	}
+	
+	@Override
+	public int compareTo (LongRational number) {
+		if (this.denominator == number.denominator) {
+			return Long.compare(this.numerator, number.numerator);
+		}
+		if (bitLength(this.numerator) + bitLength(number.denominator) < 63
+				&& bitLength(number.numerator) + bitLength(this.denominator) < 63) {
+			return Long.compare(this.numerator * number.denominator, number.numerator * this.denominator);
+		}
+		return BigInteger.valueOf(this.numerator).multiply(BigInteger.valueOf(number.denominator))
+				.compareTo(BigInteger.valueOf(number.numerator).multiply(BigInteger.valueOf(this.denominator)));
+	}
+	
+	@Override
+	public boolean equals (Object o) {
+		if (o instanceof LongRational) {
+			LongRational other = (LongRational) o;
+			return this.numerator == other.numerator && this.denominator == other.denominator;
+		}
+		return false;
+	}
+	
+	@Override
+	public int hashCode () {
+		return 31 * Long.hashCode(this.numerator) + Long.hashCode(this.denominator);
+	}
+	
+	/**
+	 * Returns the fraction in the form {@code numerator/denominator}, or only the numerator for integers.
+	 */
+	@Override
+	public String toString () {
+		return this.denominator == 1 ? Long.toString(this.numerator) : this.numerator + "/" + this.denominator;
+	}
+}
@@ -72,8 +72,13 @@ package edu.kit.ukzgk.interval.number;
  * </td>
  * </tr>
  * </table>
- * A field is a ring (&#120138;, +, &#9913;) with the property that (&#120138;\{0}, &#9913;) is an abelian group.
- *
+ * A field is a ring (&#120138;, +, &#9913;) with the property that (&#120138;\{0}, &#9913;) is an abelian group.<br>
+ * <br>
+ * Implementations with finite precision round the results of the field compositions. For interval arithmetic they
+ * provide directed rounding by overriding the {@code ...Down} and {@code ...Up} methods, whose results must not be
+ * greater or less than the exact result respectively. The default implementations delegate to the exact composition,
+ * which is correct for exact implementations.
+ * 
  * @param <T>
  *            The set type for the field.
  */
@@ -160,7 +165,7 @@ public interface Number<T> extends Comparable<T> {
 	 * 
 	 * @return The sign as <code>&#123;+1, 0, -1&#125;</code> in T.
 	 */
-	public T signum ();
+	public T sign ();
 	
 	/**
 	 * Returns the number's additive inverse.
@@ -175,4 +180,92 @@ public interface Number<T> extends Comparable<T> {
 	 * @return <code>this<sup>-1</sup></code>
 	 */
 	public T reciprocate ();
+	
+	/**
+	 * Performs add, rounding towards negative infinity.
+	 * 
+	 * @param number
+	 *            The number to add to this.
+	 * @return A value not greater than {@code this + number}.
+	 */
+	public default T addDown (T number) {
+		return this.add(number);
+	}
+	
+	/**
+	 * Performs add, rounding towards positive infinity.
+	 * 
+	 * @param number
+	 *            The number to add to this.
+	 * @return A value not less than {@code this + number}.
+	 */
+	public default T addUp (T number) {
+		return this.add(number);
+	}
+	
+	/**
+	 * Performs subtract, rounding towards negative infinity.
+	 * 
+	 * @param number
+	 *            The number to subtract from this.
+	 * @return A value not greater than {@code this - number}.
+	 */
+	public default T subtractDown (T number) {
+		return this.subtract(number);
+	}
+	
+	/**
+	 * Performs subtract, rounding towards positive infinity.
+	 * 
+	 * @param number
+	 *            The number to subtract from this.
+	 * @return A value not less than {@code this - number}.
+	 */
+	public default T subtractUp (T number) {
+		return this.subtract(number);
+	}
+	
+	/**
+	 * Performs multiply, rounding towards negative infinity.
+	 * 
+	 * @param number
+	 *            The number to multiply this with.
+	 * @return A value not greater than {@code this * number}.
+	 */
+	public default T multiplyDown (T number) {
+		return this.multiply(number);
+	}
+	
+	/**
+	 * Performs multiply, rounding towards positive infinity.
+	 * 
+	 * @param number
+	 *            The number to multiply this with.
+	 * @return A value not less than {@code this * number}.
+	 */
+	public default T multiplyUp (T number) {
+		return this.multiply(number);
+	}
+	
+	/**
+	 * Performs divide, rounding towards negative infinity.
+	 * 
+	 * @param number
+	 *            The number to divide this by.
+	 * @return A value not greater than <code>this * number<sup>-1</sup></code>.
+	 */
+	public default T divideDown (T number) {
+		return this.divide(number);
+	}
+	
+	/**
+	 * Performs divide, rounding towards positive infinity.
+	 * 
+	 * @param number
+	 *            The number to divide this by.
+	 * @return A value not less than <code>this * number<sup>-1</sup></code>.
+	 */
+	public default T divideUp (T number) {
+		return this.divide(number);
+	}
 }
@@ -0,0 +1,146 @@
+package edu.kit.ukzgk.exactDecimal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class DyadicDecimalTest {
+	private static void assertSame (ExactDecimal expected, DyadicDecimal actual) {
+		assertEquals(expected, actual.toExactDecimal());
+		assertEquals(DyadicDecimal.valueOf(expected), actual);
+		assertEquals(DyadicDecimal.valueOf(expected).hashCode(), actual.hashCode());
+	}
+	
+	@Test
+	public void dyadic0 () {
+		assertEquals(new DyadicDecimal(3, 2), new DyadicDecimal(12));
+		assertEquals(new DyadicDecimal(12, -2), new DyadicDecimal(3));
+		assertEquals(BigInteger.valueOf(3), new DyadicDecimal(48, -6).getMantissa());
+		assertEquals(-2, new DyadicDecimal(48, -6).getExponent());
+		assertEquals(new DyadicDecimal(BigInteger.ONE.shiftLeft(100), 0), new DyadicDecimal(1, 100));
+		assertEquals(new DyadicDecimal(Long.MIN_VALUE), new DyadicDecimal(-1, 63));
+		assertEquals(DyadicDecimal.ZERO, new DyadicDecimal(0, 12));
+		assertEquals(DyadicDecimal.ZERO, new DyadicDecimal(-0.0));
+		assertEquals(new DyadicDecimal(1, -1074), new DyadicDecimal(Double.MIN_VALUE));
+		assertEquals(new DyadicDecimal(-3, -3), new DyadicDecimal(-0.375));
+		assertTrue(new DyadicDecimal(Double.NaN).isNaN());
+		assertEquals(DyadicDecimal.NEGATIVE_INFINITY, new DyadicDecimal(Double.NEGATIVE_INFINITY));
+		assertSame(new ExactDecimal(0.1), new DyadicDecimal(0.1));
+		assertSame(new ExactDecimal(Double.MAX_VALUE), new DyadicDecimal(Double.MAX_VALUE));
+		assertSame(new ExactDecimal(-1e-310), new DyadicDecimal(-1e-310));
+	}
+	
+	@Test
+	public void dyadic1 () {
+		Random random = new Random(5);
+		for (int i = 0; i < 2000; i++) {
+			double x = random.nextGaussian() * Math.pow(2, random.nextInt(300) - 150);
+			double y = random.nextGaussian() * Math.pow(2, random.nextInt(300) - 150);
+			if (i % 10 == 0) {
+				y = -x;
+			}
+			DyadicDecimal a = new DyadicDecimal(x);
+			DyadicDecimal b = new DyadicDecimal(y);
+			ExactDecimal exactA = new ExactDecimal(x);
+			ExactDecimal exactB = new ExactDecimal(y);
+			assertSame(exactA.add(exactB), a.add(b));
+			assertSame(exactA.subtract(exactB), a.subtract(b));
+			assertSame(exactA.multiply(exactB), a.multiply(b));
+			assertEquals(exactA.divide(exactB), a.divide(b));
+			assertEquals(Integer.signum(exactA.compareTo(exactB)), Integer.signum(a.compareTo(b)));
+			assertEquals(x, a.doubleValue(), 0);
+		}
+	}
+	
+	@Test
+	public void dyadic2 () {
+		DyadicDecimal big = new DyadicDecimal(BigInteger.TEN.pow(30), -3);
+		DyadicDecimal small = new DyadicDecimal(Long.MAX_VALUE, -200);
+		ExactDecimal exactBig = big.toExactDecimal();
+		ExactDecimal exactSmall = small.toExactDecimal();
+		assertSame(exactBig.add(exactSmall), big.add(small));
+		assertSame(exactSmall.subtract(exactBig), small.subtract(big));
+		assertSame(exactBig.multiply(exactSmall), big.multiply(small));
+		assertSame(exactBig.subtract(exactBig), big.subtract(big));
+		assertSame(new ExactDecimal(Long.MAX_VALUE).add(ExactDecimal.ONE),
+				new DyadicDecimal(Long.MAX_VALUE).add(DyadicDecimal.ONE));
+		assertEquals(1, big.compareTo(small));
+		assertEquals(-1, big.negate().compareTo(small));
+		assertEquals(0, big.compareTo(DyadicDecimal.valueOf(exactBig)));
+		assertEquals(new DyadicDecimal(5, 1000), new DyadicDecimal(5, -1000).scaleByPowerOfTwo(2000));
+	}
+	
+	@Test
+	public void dyadic3 () {
+		Random random = new Random(8);
+		for (int i = 0; i < 500; i++) {
+			DyadicDecimal a = new DyadicDecimal(random.nextLong() >> random.nextInt(60), random.nextInt(200) - 100);
+			DyadicDecimal b = new DyadicDecimal(random.nextLong() >> random.nextInt(60), random.nextInt(200) - 100);
+			if (b.signum() == 0) {
+				continue;
+			}
+			int precision = random.nextInt(100) + 1;
+			ExactDecimal quotient = a.divide(b);
+			DyadicDecimal down = a.divideDown(b, precision);
+			DyadicDecimal up = a.divideUp(b, precision);
+			assertTrue(down.toExactDecimal().compareTo(quotient) <= 0);
+			assertTrue(up.toExactDecimal().compareTo(quotient) >= 0);
+			assertTrue(down.getMantissa().abs().bitLength() <= precision);
+			assertTrue(up.getMantissa().abs().bitLength() <= precision);
+			if (down.equals(up)) {
+				assertEquals(quotient, down.toExactDecimal());
+			} else {
+				// neighbours at the given precision
+				BigDecimal width = new BigDecimal(up.subtract(down).getMantissa())
+						.multiply(new BigDecimal(2).pow(up.subtract(down).getExponent(), MathContext.DECIMAL128));
+				BigDecimal bound = quotient.abs().toBigDecimal(MathContext.DECIMAL128)
+						.multiply(new BigDecimal(2).pow(2 - precision, MathContext.DECIMAL128));
+				assertTrue(width.compareTo(bound) <= 0);
+			}
+		}
+	}
+	
+	@Test
+	public void dyadic4 () {
+		DyadicDecimal three = new DyadicDecimal(3);
+		assertEquals(new DyadicDecimal(5, -4), DyadicDecimal.ONE.divideDown(three, 3));
+		assertEquals(new DyadicDecimal(3, -3), DyadicDecimal.ONE.divideUp(three, 3));
+		assertEquals(new DyadicDecimal(-3, -3), DyadicDecimal.ONE.negate().divideDown(three, 3));
+		assertEquals(new DyadicDecimal(-5, -4), DyadicDecimal.ONE.divideUp(three.negate(), 3));
+		assertEquals(DyadicDecimal.ONE, DyadicDecimal.SIXTEEN.divideDown(new DyadicDecimal(32, -1), 1));
+		assertEquals(DyadicDecimal.POSITIVE_INFINITY, DyadicDecimal.ONE.divideDown(DyadicDecimal.ZERO, 10));
+		assertEquals(new ExactDecimal(1, 3), DyadicDecimal.ONE.divide(three));
+	}
+	
+	@Test
+	public void dyadic5 () {
+		assertTrue(DyadicDecimal.POSITIVE_INFINITY.add(DyadicDecimal.NEGATIVE_INFINITY).isNaN());
+		assertTrue(DyadicDecimal.ZERO.multiply(DyadicDecimal.NEGATIVE_INFINITY).isNaN());
+		assertEquals(DyadicDecimal.NEGATIVE_INFINITY, DyadicDecimal.TEN.subtract(DyadicDecimal.POSITIVE_INFINITY));
+		assertEquals(DyadicDecimal.NEGATIVE_INFINITY,
+				DyadicDecimal.NEGATIVE_INFINITY.multiply(DyadicDecimal.TWO));
+		assertTrue(DyadicDecimal.NOT_A_NUMBER.add(DyadicDecimal.ONE).isNaN());
+		assertEquals(1, DyadicDecimal.NOT_A_NUMBER.compareTo(DyadicDecimal.POSITIVE_INFINITY));
+		assertEquals(-1, DyadicDecimal.NEGATIVE_INFINITY.compareTo(new DyadicDecimal(-1, 1000)));
+		assertEquals(DyadicDecimal.EIGHT, DyadicDecimal.max(DyadicDecimal.EIGHT, DyadicDecimal.TWO));
+		assertEquals(ExactDecimal.POSITIVE_INFINITY, DyadicDecimal.POSITIVE_INFINITY.toExactDecimal());
+		assertEquals(DyadicDecimal.NOT_A_NUMBER, DyadicDecimal.valueOf(ExactDecimal.NOT_A_NUMBER));
+		assertEquals("0.37", new DyadicDecimal(0.375).toString());
+	}
+	
+	@Test(expected = ArithmeticException.class)
+	public void dyadic6 () {
+		DyadicDecimal.valueOf(new ExactDecimal(1, 3));
+	}
+	
+	@Test(expected = ArithmeticException.class)
+	public void dyadic7 () {
+		new DyadicDecimal(1, Integer.MAX_VALUE - 1).multiply(DyadicDecimal.TWO);
+	}
+}
@@ -0,0 +1,96 @@
+package edu.kit.ukzgk.exactDecimal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class ExactDecimalAccumulatorTest {
+	@Test
+	public void accumulator0 () {
+		ExactDecimalAccumulator accumulator = new ExactDecimalAccumulator();
+		assertEquals(ExactDecimal.ZERO, accumulator.get());
+		for (int i = 1; i <= 1000; i++) {
+			accumulator.add(new ExactDecimal(i, 100));
+		}
+		assertEquals(new ExactDecimal(500500, 100), accumulator.get());
+		accumulator.subtract(new ExactDecimal(5005, 1));
+		assertEquals(ExactDecimal.ZERO, accumulator.get());
+		accumulator.add(7);
+		assertEquals(new ExactDecimal(7), accumulator.get());
+		accumulator.reset();
+		assertEquals(ExactDecimal.ZERO, accumulator.get());
+	}
+	
+	@Test
+	public void accumulator1 () {
+		Random random = new Random(3);
+		ExactDecimal expected = ExactDecimal.ZERO;
+		ExactDecimalAccumulator accumulator = new ExactDecimalAccumulator();
+		for (int i = 0; i < 500; i++) {
+			long numerator = random.nextLong() >> random.nextInt(64);
+			long denominator = (random.nextLong() >>> random.nextInt(64)) + 1;
+			ExactDecimal a = new ExactDecimal(numerator, denominator);
+			if (i % 3 == 0) {
+				expected = expected.subtract(a);
+				accumulator.subtract(a);
+			} else {
+				expected = expected.add(a);
+				accumulator.add(a);
+			}
+		}
+		assertEquals(expected, accumulator.get());
+	}
+	
+	@Test
+	public void accumulator2 () {
+		ExactDecimalAccumulator accumulator = new ExactDecimalAccumulator(new ExactDecimal(Long.MIN_VALUE));
+		accumulator.add(Long.MIN_VALUE);
+		accumulator.subtract(new ExactDecimal(Long.MIN_VALUE));
+		accumulator.add(new ExactDecimal(BigInteger.TEN.pow(40), BigInteger.valueOf(3)));
+		BigInteger expected = BigInteger.valueOf(Long.MIN_VALUE).multiply(BigInteger.valueOf(3))
+				.add(BigInteger.TEN.pow(40));
+		assertEquals(new ExactDecimal(expected, BigInteger.valueOf(3)), accumulator.get());
+		accumulator.subtract(new ExactDecimal(BigInteger.TEN.pow(40), BigInteger.valueOf(3)));
+		assertEquals(new ExactDecimal(Long.MIN_VALUE), accumulator.get());
+	}
+	
+	@Test
+	public void accumulator3 () {
+		ExactDecimalAccumulator accumulator = new ExactDecimalAccumulator();
+		accumulator.multiplyAdd(new ExactDecimal(3, 4), new ExactDecimal(2, 3));
+		accumulator.multiplyAdd(new ExactDecimal(Long.MAX_VALUE), new ExactDecimal(Long.MAX_VALUE, 2));
+		BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+		assertEquals(new ExactDecimal(max.multiply(max).add(BigInteger.ONE), BigInteger.valueOf(2)),
+				accumulator.get());
+	}
+	
+	@Test
+	public void accumulator4 () {
+		ExactDecimalAccumulator accumulator = new ExactDecimalAccumulator();
+		accumulator.add(ExactDecimal.ONE);
+		accumulator.add(ExactDecimal.POSITIVE_INFINITY);
+		accumulator.add(new ExactDecimal(5));
+		assertEquals(ExactDecimal.POSITIVE_INFINITY, accumulator.get());
+		accumulator.subtract(ExactDecimal.POSITIVE_INFINITY);
+		assertTrue(accumulator.get().isNaN());
+		accumulator.reset();
+		accumulator.multiplyAdd(ExactDecimal.ZERO, ExactDecimal.NEGATIVE_INFINITY);
+		assertTrue(accumulator.get().isNaN());
+	}
+	
+	@Test
+	public void accumulator5 () {
+		ExactDecimalAccumulator a = new ExactDecimalAccumulator(new ExactDecimal(1, 3));
+		ExactDecimalAccumulator b = new ExactDecimalAccumulator(new ExactDecimal(1, 6));
+		a.combine(b);
+		assertEquals(new ExactDecimal(1, 2), a.get());
+		assertEquals(new ExactDecimal(1, 6), b.get());
+		b.add(ExactDecimal.NEGATIVE_INFINITY);
+		a.combine(b);
+		assertEquals(ExactDecimal.NEGATIVE_INFINITY, a.get());
+	}
+}
@@ -0,0 +1,120 @@
+package edu.kit.ukzgk.exactDecimal;
+
+import java.util.Random;
+
+/**
+ * Simple timing benchmark for long chains of {@link ExactDecimal} operations. It is not run as part of the tests, but
+ * started by hand through its {@link #main(String[])} method.
+ */
+public class ExactDecimalBenchmark {
+	private static final int WARMUP_ROUNDS = 3;
+	private static final int MEASURED_ROUNDS = 5;
+	
+	public static void main (String[] args) {
+		ExactDecimal[] binomial = binomialRatios(3000);
+		ExactDecimal[] random = randomRatios(3000, new Random(42));
+		
+		report("binomial chain, cross-cancelled", () -> chain(binomial));
+		report("binomial chain, naive", () -> naiveChain(binomial));
+		report("random ratio chain, cross-cancelled", () -> chain(random));
+		report("random ratio chain, naive", () -> naiveChain(random));
+		report("random ratio product, balanced", () -> ExactDecimal.product(random));
+		
+		double[] doubles = randomDoubles(100000, new Random(42));
+		report("double dot product, ExactDecimal", () -> exactDot(doubles));
+		report("double dot product, DyadicDecimal", () -> dyadicDot(doubles));
+	}
+	
+	/**
+	 * Creates the ratios {@code (n - k + 1) / k}, whose running product are the binomial coefficients.
+	 */
+	private static ExactDecimal[] binomialRatios (int n) {
+		ExactDecimal[] ratios = new ExactDecimal[n];
+		for (int k = 1; k <= n; k++) {
+			ratios[k - 1] = new ExactDecimal(n - k + 1, k);
+		}
+		return ratios;
+	}
+	
+	/**
+	 * Creates ratios of random integers with a common factor, so some but not all factors cancel.
+	 */
+	private static ExactDecimal[] randomRatios (int n, Random random) {
+		ExactDecimal[] ratios = new ExactDecimal[n];
+		for (int i = 0; i < n; i++) {
+			long numerator = (random.nextInt(1 << 20) + 1) * 6L;
+			long denominator = (random.nextInt(1 << 20) + 1) * 10L;
+			ratios[i] = new ExactDecimal(numerator, denominator);
+		}
+		return ratios;
+	}
+	
+	private static double[] randomDoubles (int n, Random random) {
+		double[] values = new double[n];
+		for (int i = 0; i < n; i++) {
+			values[i] = random.nextGaussian() * Math.pow(2, random.nextInt(40) - 20);
+		}
+		return values;
+	}
+	
+	/**
+	 * Sums the products of neighbouring values.
+	 */
+	private static ExactDecimal exactDot (double[] values) {
+		ExactDecimal sum = ExactDecimal.ZERO;
+		for (int i = 1; i < values.length; i++) {
+			sum = sum.add(new ExactDecimal(values[i - 1]).multiply(new ExactDecimal(values[i])));
+		}
+		return sum;
+	}
+	
+	/**
+	 * Same as {@link #exactDot(double[])}, but in dyadic arithmetic.
+	 */
+	private static ExactDecimal dyadicDot (double[] values) {
+		DyadicDecimal sum = DyadicDecimal.ZERO;
+		for (int i = 1; i < values.length; i++) {
+			sum = sum.add(new DyadicDecimal(values[i - 1]).multiply(new DyadicDecimal(values[i])));
+		}
+		return sum.toExactDecimal();
+	}
+	
+	private static ExactDecimal chain (ExactDecimal[] ratios) {
+		ExactDecimal product = ExactDecimal.ONE;
+		for (ExactDecimal ratio : ratios) {
+			product = product.multiply(ratio);
+		}
+		return product;
+	}
+	
+	/**
+	 * Multiplies the full numerators and denominators and reduces the product afterwards, which is what
+	 * {@link ExactDecimal#multiply(ExactDecimal)} did before cross-cancellation.
+	 */
+	private static ExactDecimal naiveChain (ExactDecimal[] ratios) {
+		ExactDecimal product = ExactDecimal.ONE;
+		for (ExactDecimal ratio : ratios) {
+			product = new ExactDecimal(product.getNumerator().multiply(ratio.getNumerator()),
+					product.getDenominator().multiply(ratio.getDenominator()));
+		}
+		return product;
+	}
+	
+	private static void report (String name, Workload workload) {
+		ExactDecimal result = null;
+		for (int i = 0; i < WARMUP_ROUNDS; i++) {
+			result = workload.run();
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < MEASURED_ROUNDS; i++) {
+			result = workload.run();
+		}
+		long time = (System.nanoTime() - start) / MEASURED_ROUNDS;
+		int bits = result.getNumerator().bitLength();
+		System.out.printf("%-40s %10.3f ms  (%d bit numerator)%n", name, time / 1e6, bits);
+	}
+	
+	private interface Workload {
+		ExactDecimal run ();
+	}
+}
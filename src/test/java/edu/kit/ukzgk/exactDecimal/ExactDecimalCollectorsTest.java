@@ -0,0 +1,76 @@
+package edu.kit.ukzgk.exactDecimal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+public class ExactDecimalCollectorsTest {
+	private static List<ExactDecimal> values (int n) {
+		Random random = new Random(11);
+		List<ExactDecimal> values = new ArrayList<>();
+		for (int i = 0; i < n; i++) {
+			values.add(new ExactDecimal(random.nextInt(2000001) - 1000000, random.nextInt(1000) + 1));
+		}
+		return values;
+	}
+	
+	@Test
+	public void collectors0 () {
+		List<ExactDecimal> values = values(5000);
+		ExactDecimal sum = ExactDecimal.ZERO;
+		ExactDecimal squares = ExactDecimal.ZERO;
+		ExactDecimal min = values.get(0);
+		ExactDecimal max = values.get(0);
+		for (ExactDecimal value : values) {
+			sum = sum.add(value);
+			squares = squares.add(value.multiply(value));
+			min = min.compareTo(value) <= 0 ? min : value;
+			max = max.compareTo(value) >= 0 ? max : value;
+		}
+		assertEquals(sum, values.stream().collect(ExactDecimalCollectors.sum()));
+		assertEquals(sum, values.parallelStream().collect(ExactDecimalCollectors.sum()));
+		assertEquals(squares, values.parallelStream().collect(ExactDecimalCollectors.sumOfSquares()));
+		assertEquals(sum.divide(new ExactDecimal(values.size())),
+				values.parallelStream().collect(ExactDecimalCollectors.average()).get());
+		assertEquals(min, values.parallelStream().collect(ExactDecimalCollectors.min()).get());
+		assertEquals(max, values.parallelStream().collect(ExactDecimalCollectors.max()).get());
+	}
+	
+	@Test
+	public void collectors1 () {
+		List<ExactDecimal> values = values(300);
+		ExactDecimal product = ExactDecimal.ONE;
+		for (ExactDecimal value : values) {
+			product = product.multiply(value);
+		}
+		assertEquals(product, values.stream().collect(ExactDecimalCollectors.product()));
+		assertEquals(product, values.parallelStream().collect(ExactDecimalCollectors.product()));
+	}
+	
+	@Test
+	public void collectors2 () {
+		assertEquals(ExactDecimal.ZERO, Stream.<ExactDecimal> empty().collect(ExactDecimalCollectors.sum()));
+		assertEquals(ExactDecimal.ONE, Stream.<ExactDecimal> empty().collect(ExactDecimalCollectors.product()));
+		Optional<ExactDecimal> average = Stream.<ExactDecimal> empty().collect(ExactDecimalCollectors.average());
+		assertFalse(average.isPresent());
+		assertFalse(Stream.<ExactDecimal> empty().collect(ExactDecimalCollectors.min()).isPresent());
+	}
+	
+	@Test
+	public void collectors3 () {
+		ExactDecimal product = Stream.of(ExactDecimal.ZERO, ExactDecimal.TWO, ExactDecimal.POSITIVE_INFINITY)
+				.collect(ExactDecimalCollectors.product());
+		assertTrue(product.isNaN());
+		ExactDecimal sum = Stream.of(ExactDecimal.ONE, ExactDecimal.NEGATIVE_INFINITY, ExactDecimal.TEN).parallel()
+				.collect(ExactDecimalCollectors.sum());
+		assertEquals(ExactDecimal.NEGATIVE_INFINITY, sum);
+	}
+}
@@ -0,0 +1,82 @@
+package edu.kit.ukzgk.exactDecimal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ExactDecimalReaderTest {
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+	
+	private static ByteBuffer ascii (String s) {
+		return ByteBuffer.wrap(s.getBytes(StandardCharsets.US_ASCII));
+	}
+	
+	@Test
+	public void reader0 () {
+		ExactDecimalReader reader = new ExactDecimalReader(ascii(" 1.5, -2e3,,NaN\n+Infinity\r\n0.125 "));
+		ExactDecimal[] expected = { new ExactDecimal(3, 2), new ExactDecimal(-2000), ExactDecimal.NOT_A_NUMBER,
+				ExactDecimal.POSITIVE_INFINITY, new ExactDecimal(1, 8) };
+		assertArrayEquals(expected, reader.readAll());
+		assertFalse(reader.hasNext());
+	}
+	
+	@Test
+	public void reader1 () {
+		ByteBuffer buffer = ascii("xx1;2;3;4;5");
+		buffer.position(2);
+		ExactDecimalReader reader = new ExactDecimalReader(buffer, (byte) ';');
+		ExactDecimal[] column = new ExactDecimal[4];
+		assertEquals(3, reader.read(column, 1, 3));
+		assertEquals(null, column[0]);
+		assertEquals(new ExactDecimal(3), column[3]);
+		assertTrue(reader.hasNext());
+		assertEquals(new ExactDecimal(4), reader.next());
+		assertEquals(1, reader.read(column, 0, 4));
+		assertEquals(new ExactDecimal(5), column[0]);
+	}
+	
+	@Test
+	public void reader2 () {
+		ExactDecimalReader reader = new ExactDecimalReader(ascii("1,2x,3"));
+		assertEquals(ExactDecimal.ONE, reader.next());
+		boolean b = false;
+		try {
+			reader.next();
+		} catch (NumberFormatException e) {
+			b = true;
+		}
+		assertTrue(b);
+		assertEquals(new ExactDecimal(3), reader.next());
+	}
+	
+	@Test
+	public void reader3 () throws IOException {
+		StringBuilder builder = new StringBuilder();
+		ExactDecimal[] expected = new ExactDecimal[1000];
+		for (int i = 0; i < expected.length; i++) {
+			expected[i] = new ExactDecimal(i * 7 - 3000, 1000);
+			builder.append(expected[i].toStringAdvanced(3)).append('\n');
+		}
+		File file = this.folder.newFile();
+		Files.write(file.toPath(), builder.toString().getBytes(StandardCharsets.US_ASCII));
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			assertArrayEquals(expected, ExactDecimalReader.readAll(channel, (byte) ','));
+			assertArrayEquals(expected, ExactDecimalReader.readAll(channel, (byte) ',', 37));
+			assertArrayEquals(expected, ExactDecimalReader.map(channel, 0, channel.size(), (byte) ',').readAll());
+		}
+	}
+}
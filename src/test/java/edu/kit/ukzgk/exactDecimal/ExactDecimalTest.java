@@ -4,7 +4,16 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.Test;
 
@@ -1086,4 +1095,705 @@ public class ExactDecimalTest {
 		ExactDecimal a = ExactDecimal.ONE;
 		assertFalse(a.equals(new Object()));
 	}
+	
+	@Test
+	public void compactForm0 () {
+		ExactDecimal a = new ExactDecimal(Long.MAX_VALUE, 3);
+		ExactDecimal b = new ExactDecimal(Long.MAX_VALUE, 5);
+		BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+		ExactDecimal expected = new ExactDecimal(max.multiply(max), BigInteger.valueOf(15));
+		assertEquals(expected, a.multiply(b));
+	}
+	
+	@Test
+	public void compactForm1 () {
+		ExactDecimal a = new ExactDecimal(Long.MAX_VALUE);
+		ExactDecimal b = ExactDecimal.ONE;
+		ExactDecimal expected = new ExactDecimal(BigInteger.ONE.shiftLeft(63), BigInteger.ONE);
+		assertEquals(expected, a.add(b));
+		assertEquals(a, a.add(b).subtract(b));
+	}
+	
+	@Test
+	public void compactForm2 () {
+		ExactDecimal a = new ExactDecimal(Long.MIN_VALUE, -1);
+		ExactDecimal expected = new ExactDecimal(BigInteger.ONE.shiftLeft(63), BigInteger.ONE);
+		assertEquals(expected, a);
+		assertEquals(new ExactDecimal(Long.MIN_VALUE), a.negate());
+		assertEquals(a, new ExactDecimal(Long.MIN_VALUE).abs());
+	}
+	
+	@Test
+	public void compactForm3 () {
+		ExactDecimal a = new ExactDecimal(-6, 4);
+		ExactDecimal b = new ExactDecimal(BigInteger.valueOf(-3), BigInteger.valueOf(2));
+		assertEquals(a, b);
+		assertEquals(a.hashCode(), b.hashCode());
+		assertEquals(BigInteger.valueOf(-3).hashCode() ^ BigInteger.valueOf(2).hashCode(), a.hashCode());
+	}
+	
+	@Test
+	public void compactForm4 () {
+		ExactDecimal a = new ExactDecimal(Long.MAX_VALUE, Long.MAX_VALUE - 1);
+		ExactDecimal b = new ExactDecimal(Long.MAX_VALUE - 1, Long.MAX_VALUE - 2);
+		assertEquals(-1, a.compareTo(b));
+		assertEquals(1, b.compareTo(a));
+	}
+	
+	@Test
+	public void compactForm5 () {
+		BigInteger big = BigInteger.ONE.shiftLeft(100);
+		ExactDecimal a = new ExactDecimal(big.add(BigInteger.ONE), big);
+		ExactDecimal b = new ExactDecimal(big.negate(), big);
+		assertEquals(new ExactDecimal(1, 1), a.add(b).multiply(new ExactDecimal(big, BigInteger.ONE)));
+	}
+	
+	@Test
+	public void lazyMode0 () {
+		ExactDecimal eager = ExactDecimal.ZERO;
+		ExactDecimal lazy = ExactDecimal.ZERO.lazy();
+		for (int i = 1; i <= 60; i++) {
+			ExactDecimal term = new ExactDecimal(1, i);
+			eager = eager.add(term);
+			lazy = lazy.add(term);
+		}
+		assertTrue(lazy.isLazy());
+		assertFalse(eager.isLazy());
+		assertEquals(eager, lazy);
+		assertEquals(lazy, eager);
+		assertEquals(eager.hashCode(), lazy.hashCode());
+		assertEquals(eager.toStringAdvanced(20), lazy.toStringAdvanced(20));
+		assertEquals(0, eager.compareTo(lazy));
+	}
+	
+	@Test
+	public void lazyMode1 () {
+		ExactDecimal big = new ExactDecimal(BigInteger.ONE, BigInteger.ONE.shiftLeft(70)).lazy(100);
+		ExactDecimal a = big.multiply(new ExactDecimal(3)).divide(new ExactDecimal(3));
+		assertTrue(a.isLazy());
+		assertEquals(big, a);
+		assertFalse(a.eager().isLazy());
+		assertEquals(big.eager(), a.eager());
+	}
+	
+	@Test
+	public void lazyMode2 () {
+		ExactDecimal a = ExactDecimal.ONE.lazy(64);
+		ExactDecimal third = new ExactDecimal(1, 3);
+		for (int i = 0; i < 200; i++) {
+			a = a.multiply(third).multiply(new ExactDecimal(3));
+		}
+		assertEquals(ExactDecimal.ONE, a);
+		assertEquals(ExactDecimal.NOT_A_NUMBER, a.multiply(ExactDecimal.ZERO).divide(ExactDecimal.ZERO));
+	}
+	
+	@Test (expected = IllegalArgumentException.class)
+	public void lazyMode3 () {
+		ExactDecimal.ONE.lazy(0);
+	}
+	
+	@Test
+	public void crossCancellation0 () {
+		ExactDecimal a = new ExactDecimal(Long.MAX_VALUE - 1, 3);
+		ExactDecimal b = new ExactDecimal(9, Long.MAX_VALUE - 1);
+		assertEquals(new ExactDecimal(3), a.multiply(b));
+		assertEquals(new ExactDecimal(1, 9), b.divide(new ExactDecimal(27, 1)).multiply(a));
+	}
+	
+	@Test
+	public void crossCancellation1 () {
+		BigInteger big = BigInteger.valueOf(7).pow(50);
+		ExactDecimal a = new ExactDecimal(big.multiply(BigInteger.TEN), BigInteger.valueOf(11));
+		ExactDecimal b = new ExactDecimal(BigInteger.valueOf(-22), big.multiply(BigInteger.valueOf(5)));
+		assertEquals(new ExactDecimal(-4), a.multiply(b));
+		BigInteger expected = big.multiply(big).multiply(BigInteger.valueOf(-25));
+		assertEquals(new ExactDecimal(expected, BigInteger.valueOf(121)), a.divide(b));
+	}
+	
+	@Test
+	public void crossCancellation2 () {
+		ExactDecimal product = ExactDecimal.ONE;
+		for (int k = 1; k <= 100; k++) {
+			product = product.multiply(new ExactDecimal(101 - k, k));
+		}
+		assertEquals(new ExactDecimal(BigInteger.ONE, BigInteger.ONE), product);
+		assertEquals(BigInteger.ONE, product.getNumerator());
+		assertEquals(BigInteger.ONE, product.getDenominator());
+	}
+	
+	@Test
+	public void commonDenominator0 () {
+		ExactDecimal a = new ExactDecimal(7, 10);
+		ExactDecimal b = new ExactDecimal(3, 10);
+		assertEquals(ExactDecimal.ONE, a.add(b));
+		assertEquals(new ExactDecimal(2, 5), a.subtract(b));
+		assertEquals(ExactDecimal.ZERO, a.subtract(a));
+	}
+	
+	@Test
+	public void commonDenominator1 () {
+		ExactDecimal sum = ExactDecimal.ZERO;
+		for (int i = 1; i <= 1000; i++) {
+			sum = sum.add(ExactDecimal.stringToExactDecimal("0.0" + i));
+		}
+		assertEquals(new ExactDecimal(2741, 50), sum);
+	}
+	
+	@Test
+	public void commonDenominator2 () {
+		BigInteger big = BigInteger.TEN.pow(40);
+		ExactDecimal a = new ExactDecimal(BigInteger.valueOf(3), big);
+		ExactDecimal b = new ExactDecimal(BigInteger.valueOf(7), big.divide(BigInteger.TEN));
+		ExactDecimal c = new ExactDecimal(BigInteger.ONE, BigInteger.valueOf(3));
+		assertEquals(new ExactDecimal(BigInteger.valueOf(73), big), a.add(b));
+		assertEquals(new ExactDecimal(BigInteger.valueOf(-67), big), a.subtract(b));
+		assertEquals(new ExactDecimal(big.add(BigInteger.valueOf(9)), big.multiply(BigInteger.valueOf(3))), a.add(c));
+		assertEquals(ExactDecimal.ZERO, a.add(b).subtract(b).subtract(a));
+	}
+	
+	@Test
+	public void commonDenominator3 () {
+		ExactDecimal a = new ExactDecimal(Long.MAX_VALUE, 6);
+		ExactDecimal b = new ExactDecimal(Long.MAX_VALUE, 10);
+		BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+		assertEquals(new ExactDecimal(max.multiply(BigInteger.valueOf(8)), BigInteger.valueOf(30)), a.add(b));
+	}
+	
+	@Test
+	public void parser0 () {
+		String[] invalid = { "+", "-", ".5", "1.", "1.2.3", "1e", "1e+", "1E5x", "+NaN", "-NaN", "Infinit", "infinity",
+				" 1", "1 ", "1,5", "e5", "1e2147483648", "0.1e-2147483648" };
+		for (String s : invalid) {
+			boolean b = false;
+			try {
+				ExactDecimal.stringToExactDecimal(s);
+			} catch (NumberFormatException e) {
+				b = true;
+			}
+			assertTrue(s, b);
+		}
+	}
+	
+	@Test
+	public void parser1 () {
+		assertEquals(ExactDecimal.NEGATIVE_INFINITY, ExactDecimal.stringToExactDecimal("-Infinity"));
+		assertEquals(ExactDecimal.POSITIVE_INFINITY, ExactDecimal.stringToExactDecimal("+Infinity"));
+		assertTrue(ExactDecimal.stringToExactDecimal("NaN").isNaN());
+		assertEquals(new ExactDecimal(-5, 4), ExactDecimal.stringToExactDecimal("-1.25"));
+		assertEquals(new ExactDecimal(125000), ExactDecimal.stringToExactDecimal("+1.25E5"));
+		assertEquals(new ExactDecimal(1, 8), ExactDecimal.stringToExactDecimal("125e-3"));
+		assertEquals(ExactDecimal.ZERO, ExactDecimal.stringToExactDecimal("-000.000e+7"));
+	}
+	
+	@Test
+	public void parser2 () {
+		String digits = "123456789012345678901234567890123456789012345";
+		BigInteger value = new BigInteger(digits);
+		assertEquals(new ExactDecimal(value, BigInteger.ONE), ExactDecimal.stringToExactDecimal(digits));
+		assertEquals(new ExactDecimal(value.negate(), BigInteger.TEN.pow(20)),
+				ExactDecimal.stringToExactDecimal("-" + digits.substring(0, 25) + "." + digits.substring(25)));
+		assertEquals(new ExactDecimal(value.multiply(BigInteger.TEN.pow(200)), BigInteger.ONE),
+				ExactDecimal.stringToExactDecimal(digits + "e200"));
+		assertEquals(new ExactDecimal(BigInteger.ONE, BigInteger.TEN.pow(300)),
+				ExactDecimal.stringToExactDecimal("1e-300"));
+		assertEquals(new ExactDecimal(BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.TEN), BigInteger.ONE),
+				ExactDecimal.stringToExactDecimal(Long.MAX_VALUE + "0"));
+		assertEquals(new ExactDecimal(BigInteger.valueOf(922337203685477581L), BigInteger.ONE),
+				ExactDecimal.stringToExactDecimal("9.22337203685477581e17"));
+		assertEquals(new ExactDecimal(BigInteger.valueOf(922337203685477581L).multiply(BigInteger.TEN), BigInteger.ONE),
+				ExactDecimal.stringToExactDecimal("922337203685477581e1"));
+	}
+	
+	@Test
+	public void parser3 () {
+		char[] chars = "x-2.5e1y".toCharArray();
+		assertEquals(new ExactDecimal(-25), ExactDecimal.stringToExactDecimal(chars, 1, 6));
+		byte[] bytes = "x-2.5e1y".getBytes(StandardCharsets.US_ASCII);
+		assertEquals(new ExactDecimal(-25), ExactDecimal.stringToExactDecimal(bytes, 1, 6));
+		assertEquals(new ExactDecimal(-2), ExactDecimal.stringToExactDecimal(bytes, 1, 2));
+		assertEquals(new ExactDecimal(7, 2), ExactDecimal.stringToExactDecimal(new StringBuilder("3.5")));
+		boolean b = false;
+		try {
+			ExactDecimal.stringToExactDecimal(bytes, 0, 6);
+		} catch (NumberFormatException e) {
+			b = true;
+		}
+		assertTrue(b);
+	}
+	
+	/**
+	 * Binaries compiled against the String signature of the first versions must still link.
+	 */
+	@Test
+	public void parser4 () throws NoSuchMethodException {
+		assertEquals(ExactDecimal.class,
+				ExactDecimal.class.getMethod("stringToExactDecimal", String.class).getReturnType());
+	}
+	
+	@Test
+	public void format0 () {
+		StringBuilder builder = new StringBuilder("x=");
+		new ExactDecimal(-1, 3).appendTo(builder, 5).append(';');
+		ExactDecimal.POSITIVE_INFINITY.appendTo(builder, 5).append(';');
+		new ExactDecimal(1, 1000).appendTo(builder, 2);
+		assertEquals("x=-0.33333;Infinity;0.00", builder.toString());
+	}
+	
+	@Test
+	public void format1 () throws IOException {
+		StringWriter writer = new StringWriter();
+		new ExactDecimal(22, 7).appendTo((Appendable) writer, 30);
+		assertEquals("3.142857142857142857142857142857", writer.toString());
+	}
+	
+	@Test
+	public void format2 () {
+		long[][] fractions = { { Long.MAX_VALUE, Long.MAX_VALUE - 1 }, { 1, Long.MAX_VALUE }, { -7, 1L << 40 },
+				{ Long.MAX_VALUE - 2, 999999999999L }, { 1, 3 }, { -123456789, 10 } };
+		for (long[] fraction : fractions) {
+			ExactDecimal a = new ExactDecimal(fraction[0], fraction[1]);
+			BigDecimal reference = new BigDecimal(fraction[0]).divide(new BigDecimal(fraction[1]), 45,
+					RoundingMode.DOWN);
+			assertEquals(reference.toPlainString(), a.toStringAdvanced(45));
+		}
+	}
+	
+	@Test
+	public void format3 () {
+		BigInteger big = BigInteger.valueOf(3).pow(90);
+		ExactDecimal a = new ExactDecimal(big.negate(), BigInteger.valueOf(7).pow(50));
+		BigDecimal reference = new BigDecimal(big.negate()).divide(new BigDecimal(BigInteger.valueOf(7).pow(50)), 150,
+				RoundingMode.DOWN);
+		assertEquals(reference.toPlainString(), a.toStringAdvanced(150));
+		assertEquals(reference.setScale(20, RoundingMode.DOWN).toPlainString(), a.lazy().toStringAdvanced(20));
+	}
+	
+	private static int referenceCompare (BigInteger n1, BigInteger d1, BigInteger n2, BigInteger d2) {
+		return Integer.signum(n1.multiply(d2).compareTo(n2.multiply(d1)));
+	}
+	
+	@Test
+	public void compare0 () {
+		long[] values = { Long.MIN_VALUE, Long.MIN_VALUE + 1, -3, -1, 0, 1, 2, 3, Long.MAX_VALUE - 1, Long.MAX_VALUE };
+		for (long n1 : values) {
+			for (long d1 : values) {
+				for (long n2 : values) {
+					for (long d2 : values) {
+						if (d1 <= 0 || d2 <= 0) {
+							continue;
+						}
+						ExactDecimal a = new ExactDecimal(n1, d1);
+						ExactDecimal b = new ExactDecimal(n2, d2);
+						int expected = referenceCompare(BigInteger.valueOf(n1), BigInteger.valueOf(d1),
+								BigInteger.valueOf(n2), BigInteger.valueOf(d2));
+						assertEquals(expected, Integer.signum(a.compareTo(b)));
+					}
+				}
+			}
+		}
+	}
+	
+	@Test
+	public void compare1 () {
+		Random random = new Random(7);
+		for (int i = 0; i < 2000; i++) {
+			BigInteger n1 = new BigInteger(random.nextInt(1200) + 1, random).subtract(BigInteger.ONE.shiftLeft(10));
+			BigInteger d1 = new BigInteger(random.nextInt(1200) + 1, random).add(BigInteger.ONE);
+			BigInteger n2;
+			BigInteger d2;
+			switch (i % 3) {
+				case 0:
+					// neighbours, too close for the approximation
+					n2 = n1.multiply(BigInteger.valueOf(1000)).add(BigInteger.valueOf(random.nextInt(3) - 1));
+					d2 = d1.multiply(BigInteger.valueOf(1000));
+					break;
+				case 1:
+					// similar magnitude
+					n2 = n1.add(BigInteger.valueOf(random.nextInt(1 << 20) - (1 << 19)).shiftLeft(n1.bitLength() / 2));
+					d2 = d1;
+					break;
+				default:
+					n2 = new BigInteger(random.nextInt(70) + 1, random).negate();
+					d2 = new BigInteger(random.nextInt(70) + 1, random).add(BigInteger.ONE);
+					break;
+			}
+			ExactDecimal a = new ExactDecimal(n1, d1);
+			ExactDecimal b = new ExactDecimal(n2, d2);
+			int expected = referenceCompare(n1, d1, n2, d2);
+			assertEquals(expected, Integer.signum(a.compareTo(b)));
+			assertEquals(-expected, Integer.signum(b.compareTo(a)));
+			assertEquals(expected, Integer.signum(a.lazy().compareTo(b.lazy())));
+		}
+	}
+	
+	@Test
+	public void compare2 () {
+		BigInteger power = BigInteger.ONE.shiftLeft(100);
+		ExactDecimal a = new ExactDecimal(power.negate(), BigInteger.ONE);
+		ExactDecimal b = new ExactDecimal(power.negate().add(BigInteger.ONE), BigInteger.ONE);
+		ExactDecimal c = new ExactDecimal(power.negate(), BigInteger.valueOf(3));
+		assertEquals(-1, Integer.signum(a.compareTo(b)));
+		assertEquals(-1, Integer.signum(a.compareTo(c)));
+		assertEquals(1, Integer.signum(c.compareTo(a)));
+		assertEquals(0, a.compareTo(new ExactDecimal(power.negate().shiftLeft(1), BigInteger.valueOf(2)).lazy()));
+	}
+	
+	@Test
+	public void valueOf0 () {
+		assertTrue(ExactDecimal.valueOf(5) == ExactDecimal.valueOf(5));
+		assertTrue(ExactDecimal.valueOf(-128) == ExactDecimal.valueOf(-256, 2));
+		assertTrue(ExactDecimal.valueOf(1, 2) == ExactDecimal.valueOf(-3, -6));
+		assertTrue(ExactDecimal.valueOf(-1, 10) == new ExactDecimal(1, 20).subtract(new ExactDecimal(3, 20)));
+		assertTrue(ExactDecimal.valueOf(0, 7) == ExactDecimal.valueOf(0));
+		assertFalse(ExactDecimal.valueOf(1000) == ExactDecimal.valueOf(1000));
+		assertFalse(ExactDecimal.valueOf(1, 1000) == ExactDecimal.valueOf(1, 1000));
+		// the public constants are the shared instances
+		assertTrue(ExactDecimal.valueOf(0) == ExactDecimal.ZERO);
+		assertTrue(ExactDecimal.valueOf(1) == ExactDecimal.ONE);
+		assertTrue(ExactDecimal.valueOf(2, 1) == ExactDecimal.TWO);
+		assertTrue(ExactDecimal.valueOf(8) == ExactDecimal.EIGHT);
+		assertTrue(new ExactDecimal(5).add(new ExactDecimal(5)) == ExactDecimal.TEN);
+		assertTrue(ExactDecimal.valueOf(16) == ExactDecimal.SIXTEEN);
+	}
+	
+	@Test
+	public void valueOf1 () {
+		long[] values = { 0, 1, -1, 2, 3, 10, 15, 16, 17, 128, 129, -129, Long.MAX_VALUE, Long.MIN_VALUE };
+		for (long n : values) {
+			for (long d : values) {
+				assertEquals(new ExactDecimal(n, d), ExactDecimal.valueOf(n, d));
+				assertEquals(new ExactDecimal(n, d).hashCode(), ExactDecimal.valueOf(n, d).hashCode());
+			}
+			assertEquals(new ExactDecimal(n), ExactDecimal.valueOf(n));
+		}
+		assertTrue(ExactDecimal.valueOf(3, 0).isInfinite());
+		assertTrue(ExactDecimal.valueOf(0, 0).isNaN());
+	}
+	
+	@Test
+	public void hashCode0 () {
+		BigInteger big = BigInteger.TEN.pow(30);
+		ExactDecimal a = new ExactDecimal(big.multiply(BigInteger.valueOf(6)), big.multiply(BigInteger.valueOf(4)));
+		ExactDecimal b = new ExactDecimal(big, big.shiftLeft(1)).lazy().add(new ExactDecimal(1));
+		int hash = a.hashCode();
+		assertEquals(hash, a.hashCode());
+		assertEquals(hash, b.hashCode());
+		assertEquals(hash, ExactDecimal.valueOf(3, 2).hashCode());
+	}
+	
+	@Test
+	public void balanced0 () {
+		assertEquals(ExactDecimal.ONE, ExactDecimal.product());
+		assertEquals(ExactDecimal.ZERO, ExactDecimal.sum(new ArrayList<ExactDecimal>()));
+		assertEquals(new ExactDecimal(6), ExactDecimal.product(ExactDecimal.TWO, new ExactDecimal(3)));
+		assertEquals(new ExactDecimal(5, 6), ExactDecimal.sum(new ExactDecimal(1, 2), new ExactDecimal(1, 3)));
+		assertTrue(ExactDecimal.product(ExactDecimal.ZERO, ExactDecimal.POSITIVE_INFINITY).isNaN());
+		assertEquals(ExactDecimal.NEGATIVE_INFINITY, ExactDecimal.sum(ExactDecimal.ONE, ExactDecimal.NEGATIVE_INFINITY));
+	}
+	
+	@Test
+	public void balanced1 () {
+		// large enough to be reduced in parallel
+		List<ExactDecimal> values = new ArrayList<>();
+		ExactDecimal product = ExactDecimal.ONE;
+		ExactDecimal sum = ExactDecimal.ZERO;
+		for (int i = 1; i <= 3000; i++) {
+			ExactDecimal value = new ExactDecimal(i + 1, i % 97 + 1);
+			values.add(value);
+			product = product.multiply(value);
+			sum = sum.add(value);
+		}
+		assertEquals(product, ExactDecimal.product(values));
+		assertEquals(product, ExactDecimal.product(values.toArray(new ExactDecimal[0])));
+		assertEquals(sum, ExactDecimal.sum(values));
+		assertEquals(sum, ExactDecimal.sum((Iterable<ExactDecimal>) () -> values.iterator()));
+	}
+	
+	@Test
+	public void pow0 () {
+		ExactDecimal a = new ExactDecimal(-2, 3);
+		assertEquals(new ExactDecimal(-8, 27), a.pow(3));
+		assertEquals(new ExactDecimal(81, 16), a.pow(-4));
+		assertEquals(ExactDecimal.ONE, a.pow(0));
+		assertEquals(ExactDecimal.ONE, ExactDecimal.NOT_A_NUMBER.pow(0));
+		assertEquals(a, a.pow(1));
+		BigInteger two = BigInteger.valueOf(2);
+		BigInteger three = BigInteger.valueOf(3);
+		assertEquals(new ExactDecimal(two.pow(101).negate(), three.pow(101)), a.pow(101));
+		assertEquals(new ExactDecimal(three.pow(100), two.pow(100)), a.pow(-100).lazy());
+		assertEquals(ExactDecimal.ONE, ExactDecimal.ONE.negate().pow(Integer.MIN_VALUE));
+	}
+	
+	@Test
+	public void pow1 () {
+		assertTrue(ExactDecimal.NOT_A_NUMBER.pow(3).isNaN());
+		assertEquals(ExactDecimal.NEGATIVE_INFINITY, ExactDecimal.NEGATIVE_INFINITY.pow(3));
+		assertEquals(ExactDecimal.POSITIVE_INFINITY, ExactDecimal.NEGATIVE_INFINITY.pow(2));
+		assertEquals(ExactDecimal.ZERO, ExactDecimal.POSITIVE_INFINITY.pow(-1));
+		assertEquals(ExactDecimal.POSITIVE_INFINITY, ExactDecimal.ZERO.pow(-2));
+		assertEquals(ExactDecimal.ZERO, ExactDecimal.ZERO.pow(5));
+		ExactDecimal b = new ExactDecimal(Long.MIN_VALUE, 3);
+		assertEquals(b.multiply(b), b.pow(2));
+	}
+	
+	@Test
+	public void root0 () {
+		assertEquals(new ExactDecimal(-2, 3), new ExactDecimal(-8, 27).rootExact(3));
+		assertEquals(new ExactDecimal(9, 4), new ExactDecimal(81, 16).rootExact(2));
+		assertTrue(new ExactDecimal(81, 16).isPerfectPower(4));
+		assertFalse(new ExactDecimal(81, 16).isPerfectPower(3));
+		assertFalse(new ExactDecimal(-4).isPerfectPower(2));
+		assertFalse(ExactDecimal.POSITIVE_INFINITY.isPerfectPower(2));
+		assertEquals(ExactDecimal.ZERO, ExactDecimal.ZERO.rootExact(7));
+		assertEquals(ExactDecimal.POSITIVE_INFINITY, ExactDecimal.POSITIVE_INFINITY.rootExact(2));
+		BigInteger big = BigInteger.valueOf(12345678901L).pow(7);
+		ExactDecimal c = new ExactDecimal(big, BigInteger.valueOf(7).pow(14));
+		assertEquals(new ExactDecimal(BigInteger.valueOf(12345678901L), BigInteger.valueOf(49)), c.rootExact(7));
+		assertFalse(new ExactDecimal(big.add(BigInteger.ONE), BigInteger.ONE).isPerfectPower(7));
+	}
+	
+	@Test
+	public void root1 () {
+		String[] failures = { "2", "-4" };
+		for (String s : failures) {
+			boolean b = false;
+			try {
+				ExactDecimal.stringToExactDecimal(s).rootExact(2);
+			} catch (ArithmeticException e) {
+				b = true;
+			}
+			assertTrue(s, b);
+		}
+		boolean b = false;
+		try {
+			ExactDecimal.ONE.rootExact(0);
+		} catch (IllegalArgumentException e) {
+			b = true;
+		}
+		assertTrue(b);
+		for (long i = 0; i < 2000; i++) {
+			BigInteger value = BigInteger.valueOf(i * i * i + i % 3);
+			BigInteger root = ExactDecimal.integerRoot(value, 3);
+			assertTrue(root.pow(3).compareTo(value) <= 0);
+			assertTrue(root.add(BigInteger.ONE).pow(3).compareTo(value) > 0);
+		}
+	}
+	
+	@Test
+	public void approximate0 () {
+		ExactDecimal pi = ExactDecimal.stringToExactDecimal("3.14159265358979");
+		assertEquals(new ExactDecimal(3), pi.approximate(1));
+		assertEquals(new ExactDecimal(22, 7), pi.approximate(7));
+		assertEquals(new ExactDecimal(179, 57), pi.approximate(57));
+		assertEquals(new ExactDecimal(311, 99), pi.approximate(100));
+		assertEquals(new ExactDecimal(355, 113), pi.approximate(1000));
+		assertEquals(new ExactDecimal(-311, 99), pi.negate().approximate(100));
+		assertEquals(new ExactDecimal(311, 99), pi.approximateDown(100));
+		assertEquals(new ExactDecimal(22, 7), pi.approximateUp(100));
+		assertEquals(new ExactDecimal(-22, 7), pi.negate().approximateDown(100));
+		assertEquals(new ExactDecimal(2), new ExactDecimal(5, 2).approximate(1));
+		assertEquals(new ExactDecimal(-2), new ExactDecimal(-5, 2).approximate(1));
+		assertEquals(new ExactDecimal(7, 3), new ExactDecimal(7, 3).approximateUp(3));
+		assertTrue(ExactDecimal.NOT_A_NUMBER.approximate(5).isNaN());
+	}
+	
+	@Test
+	public void approximate1 () {
+		Random random = new Random(5);
+		for (int i = 0; i < 200; i++) {
+			ExactDecimal x = new ExactDecimal(random.nextInt(20001) - 10000, random.nextInt(5000) + 1);
+			int max = random.nextInt(60) + 1;
+			ExactDecimal down = null;
+			ExactDecimal up = null;
+			for (long q = 1; q <= max; q++) {
+				ExactDecimal scaled = x.multiply(new ExactDecimal(q));
+				BigInteger[] division = scaled.getNumerator().divideAndRemainder(scaled.getDenominator());
+				BigInteger floor = division[0].subtract(division[1].signum() < 0 ? BigInteger.ONE : BigInteger.ZERO);
+				BigInteger ceil = floor.add(division[1].signum() != 0 ? BigInteger.ONE : BigInteger.ZERO);
+				ExactDecimal below = new ExactDecimal(floor, BigInteger.valueOf(q));
+				ExactDecimal above = new ExactDecimal(ceil, BigInteger.valueOf(q));
+				down = down == null || below.compareTo(down) > 0 ? below : down;
+				up = up == null || above.compareTo(up) < 0 ? above : up;
+			}
+			assertEquals(down, x.approximateDown(max));
+			assertEquals(up, x.approximateUp(max));
+			ExactDecimal best = x.approximate(max);
+			assertTrue(best.equals(down) || best.equals(up));
+			assertTrue(x.subtract(best).abs().compareTo(x.subtract(down).abs()) <= 0);
+			assertTrue(x.subtract(best).abs().compareTo(x.subtract(up).abs()) <= 0);
+		}
+	}
+	
+	@Test
+	public void approximate2 () {
+		ExactDecimal pi = ExactDecimal.stringToExactDecimal("3.14159265358979");
+		assertEquals(new ExactDecimal(201, 64), pi.approximateWithin(new ExactDecimal(1, 1000)));
+		assertEquals(new ExactDecimal(-201, 64), pi.negate().approximateWithin(new ExactDecimal(1, 1000)));
+		assertEquals(new ExactDecimal(75948, 24175), pi.approximateWithin(new ExactDecimal(1, 10000000)));
+		assertEquals(new ExactDecimal(3), pi.approximateWithin(ExactDecimal.ONE));
+		assertEquals(ExactDecimal.ZERO, pi.approximateWithin(new ExactDecimal(4)));
+		assertEquals(pi, pi.approximateWithin(ExactDecimal.ZERO));
+		assertEquals(new ExactDecimal(1, 3), new ExactDecimal(3, 10).approximateWithin(new ExactDecimal(1, 30)));
+		ExactDecimal huge = new ExactDecimal(BigInteger.valueOf(7).pow(300), BigInteger.valueOf(3).pow(500));
+		ExactDecimal small = huge.approximateWithin(new ExactDecimal(BigInteger.ONE, BigInteger.TEN.pow(20)));
+		assertTrue(huge.subtract(small).abs().compareTo(new ExactDecimal(BigInteger.ONE, BigInteger.TEN.pow(20))) <= 0);
+		assertTrue(small.getDenominator().bitLength() < 80);
+		boolean b = false;
+		try {
+			pi.approximateWithin(new ExactDecimal(-1));
+		} catch (IllegalArgumentException e) {
+			b = true;
+		}
+		assertTrue(b);
+	}
+	
+	private static ExactDecimal exact (double value) {
+		BigDecimal decimal = new BigDecimal(value);
+		if (decimal.scale() < 0) {
+			return new ExactDecimal(decimal.unscaledValue().multiply(BigInteger.TEN.pow(-decimal.scale())), BigInteger.ONE);
+		}
+		return new ExactDecimal(decimal.unscaledValue(), BigInteger.TEN.pow(decimal.scale()));
+	}
+	
+	@Test
+	public void conversion0 () {
+		Random random = new Random(17);
+		for (int i = 0; i < 2000; i++) {
+			BigInteger n = new BigInteger(random.nextInt(300) + 1, random).subtract(BigInteger.ONE.shiftLeft(20));
+			BigInteger d = new BigInteger(random.nextInt(300) + 1, random).add(BigInteger.ONE);
+			ExactDecimal a = new ExactDecimal(n, d);
+			BigDecimal exact = new BigDecimal(n).divide(new BigDecimal(d), MathContext.DECIMAL128);
+			double value = a.doubleValue();
+			// the reference is rounded twice, so compare up to one ulp and check the bounds
+			assertEquals(exact.doubleValue(), value, Math.ulp(value));
+			assertTrue(a.compareTo(exact(a.doubleValueDown())) >= 0);
+			assertTrue(a.compareTo(exact(a.doubleValueUp())) <= 0);
+			assertTrue(Math.nextUp(a.doubleValueDown()) >= a.doubleValueUp());
+			assertEquals(exact.floatValue(), a.floatValue(), Math.ulp(a.floatValue()));
+		}
+	}
+	
+	@Test
+	public void conversion1 () {
+		double[] values = { 0.1, -0.1, 1.0 / 3, Double.MIN_VALUE, Double.MIN_NORMAL, Math.nextDown(Double.MAX_VALUE), -1e-310, 1e300,
+				12345.678, Math.PI };
+		for (double value : values) {
+			ExactDecimal a = exact(value);
+			assertEquals(value, a.doubleValue(), 0);
+			assertEquals(value, a.doubleValueDown(), 0);
+			assertEquals(value, a.doubleValueUp(), 0);
+			assertEquals((float) value, a.floatValue(), 0);
+			// halfway between value and its successor rounds to the even one
+			ExactDecimal next = exact(Math.nextUp(value));
+			ExactDecimal middle = a.add(next).divide(ExactDecimal.TWO);
+			double even = (Double.doubleToLongBits(value) & 1) == 0 ? value : Math.nextUp(value);
+			assertEquals(even, middle.doubleValue(), 0);
+			assertEquals(value, middle.doubleValueDown(), 0);
+			assertEquals(Math.nextUp(value), middle.doubleValueUp(), 0);
+		}
+	}
+	
+	@Test
+	public void conversion2 () {
+		ExactDecimal huge = new ExactDecimal(BigInteger.TEN.pow(400), BigInteger.ONE);
+		assertEquals(Double.POSITIVE_INFINITY, huge.doubleValue(), 0);
+		assertEquals(Double.MAX_VALUE, huge.doubleValueDown(), 0);
+		assertEquals(Double.NEGATIVE_INFINITY, huge.negate().doubleValueDown(), 0);
+		assertEquals(-Double.MAX_VALUE, huge.negate().doubleValueUp(), 0);
+		ExactDecimal tiny = new ExactDecimal(BigInteger.ONE, BigInteger.TEN.pow(400));
+		assertEquals(0.0, tiny.doubleValue(), 0);
+		assertEquals(Double.MIN_VALUE, tiny.doubleValueUp(), 0);
+		assertEquals(0.0, tiny.doubleValueDown(), 0);
+		assertEquals(Float.POSITIVE_INFINITY, huge.floatValue(), 0);
+		assertEquals(Float.MIN_VALUE, exact(Float.MIN_VALUE).floatValue(), 0);
+		assertEquals(0.0f, exact(Float.MIN_VALUE).divide(ExactDecimal.TWO).floatValue(), 0);
+		assertTrue(Double.isNaN(ExactDecimal.NOT_A_NUMBER.doubleValue()));
+		assertTrue(Double.isNaN(ExactDecimal.NOT_A_NUMBER.doubleValueUp()));
+		assertEquals(Double.NEGATIVE_INFINITY, ExactDecimal.NEGATIVE_INFINITY.doubleValueUp(), 0);
+		assertEquals(Float.POSITIVE_INFINITY, ExactDecimal.POSITIVE_INFINITY.floatValue(), 0);
+	}
+	
+	@Test
+	public void conversion3 () {
+		assertEquals(-2, new ExactDecimal(-7, 3).longValue());
+		assertEquals(Long.MAX_VALUE, new ExactDecimal(BigInteger.TEN.pow(30), BigInteger.ONE).longValue());
+		assertEquals(Long.MIN_VALUE, ExactDecimal.NEGATIVE_INFINITY.longValue());
+		assertEquals(0, ExactDecimal.NOT_A_NUMBER.longValue());
+		assertEquals(new BigDecimal("0.3333"), new ExactDecimal(1, 3).toBigDecimal(new MathContext(4)));
+		assertEquals(new BigDecimal("-0.6667"), new ExactDecimal(-2, 3).toBigDecimal(new MathContext(4)));
+		assertEquals(new BigDecimal("0.125"), new ExactDecimal(1, 8).toBigDecimal(MathContext.UNLIMITED));
+		boolean b = false;
+		try {
+			new ExactDecimal(1, 3).toBigDecimal(MathContext.UNLIMITED);
+		} catch (ArithmeticException e) {
+			b = true;
+		}
+		assertTrue(b);
+	}
+	
+	@Test
+	public void conversion4 () {
+		ExactDecimal a = new ExactDecimal(-5, 2);
+		assertEquals(new ExactDecimal(-3), a.floor());
+		assertEquals(new ExactDecimal(-2), a.ceil());
+		assertEquals(new ExactDecimal(-2), a.round(RoundingMode.HALF_EVEN));
+		assertEquals(new ExactDecimal(-3), a.round(RoundingMode.HALF_UP));
+		assertEquals(new ExactDecimal(-2), a.round(RoundingMode.DOWN));
+		assertEquals(new ExactDecimal(3), new ExactDecimal(7, 3).ceil());
+		assertEquals(new ExactDecimal(Long.MIN_VALUE / 3 - 1), new ExactDecimal(Long.MIN_VALUE, 3).floor());
+		ExactDecimal big = new ExactDecimal(BigInteger.TEN.pow(30).add(BigInteger.ONE), BigInteger.valueOf(2));
+		assertEquals(new ExactDecimal(BigInteger.TEN.pow(30).divide(BigInteger.valueOf(2)), BigInteger.ONE),
+				big.floor());
+		assertEquals(ExactDecimal.POSITIVE_INFINITY, ExactDecimal.POSITIVE_INFINITY.floor());
+		assertEquals(new ExactDecimal(4), new ExactDecimal(4).round(RoundingMode.UNNECESSARY));
+		boolean b = false;
+		try {
+			a.round(RoundingMode.UNNECESSARY);
+		} catch (ArithmeticException e) {
+			b = true;
+		}
+		assertTrue(b);
+	}
+	
+	@Test
+	public void fromDouble0 () {
+		assertEquals(new ExactDecimal(1, 2), new ExactDecimal(0.5));
+		assertEquals(new ExactDecimal(1, 2).hashCode(), new ExactDecimal(0.5).hashCode());
+		assertEquals(new ExactDecimal(-3, 8), new ExactDecimal(-0.375f));
+		assertEquals(new ExactDecimal(BigInteger.ONE.shiftLeft(100), BigInteger.ONE), new ExactDecimal(0x1p100));
+		assertEquals(ExactDecimal.ZERO, new ExactDecimal(0.0));
+		assertEquals(ExactDecimal.ZERO, new ExactDecimal(-0.0));
+		assertEquals(new ExactDecimal(BigInteger.ONE, BigInteger.ONE.shiftLeft(1074)), new ExactDecimal(Double.MIN_VALUE));
+		assertEquals(new ExactDecimal(BigInteger.ONE, BigInteger.ONE.shiftLeft(149)), new ExactDecimal(Float.MIN_VALUE));
+		assertEquals(new ExactDecimal(BigInteger.valueOf(-3), BigInteger.ONE.shiftLeft(1074)),
+				new ExactDecimal(-3 * Double.MIN_VALUE));
+		assertTrue(new ExactDecimal(Double.NaN).isNaN());
+		assertEquals(ExactDecimal.NEGATIVE_INFINITY, new ExactDecimal(Float.NEGATIVE_INFINITY));
+		double[] values = { 0.1, -1e-310, Double.MAX_VALUE, Math.E, 1e22, -7.0, 3.0e-5 };
+		for (double value : values) {
+			assertEquals(exact(value), new ExactDecimal(value));
+			assertEquals(value, new ExactDecimal(value).doubleValue(), 0);
+		}
+	}
+	
+	@Test
+	public void dyadicSum0 () {
+		Random random = new Random(23);
+		for (int i = 0; i < 1000; i++) {
+			double x = random.nextGaussian() * Math.pow(2, random.nextInt(200) - 100);
+			double y = random.nextGaussian() * Math.pow(2, random.nextInt(200) - 100);
+			BigDecimal sum = new BigDecimal(x).add(new BigDecimal(y));
+			BigDecimal difference = new BigDecimal(x).subtract(new BigDecimal(y));
+			ExactDecimal a = new ExactDecimal(x);
+			ExactDecimal b = new ExactDecimal(y);
+			assertEquals(0, a.add(b).toBigDecimal(MathContext.UNLIMITED).compareTo(sum));
+			assertEquals(0, a.subtract(b).toBigDecimal(MathContext.UNLIMITED).compareTo(difference));
+			assertEquals(a.add(b), new ExactDecimal(a.getNumerator().multiply(b.getDenominator())
+					.add(b.getNumerator().multiply(a.getDenominator())), a.getDenominator().multiply(b.getDenominator())));
+		}
+		assertEquals(ExactDecimal.ONE, new ExactDecimal(0.75).add(new ExactDecimal(0.25)));
+		assertEquals(ExactDecimal.ZERO, new ExactDecimal(0.75).subtract(new ExactDecimal(0.75)));
+		assertEquals(new ExactDecimal(BigInteger.ONE.shiftLeft(65).negate().add(BigInteger.ONE), BigInteger.valueOf(2)),
+				new ExactDecimal(Long.MIN_VALUE).add(new ExactDecimal(Long.MIN_VALUE)).add(new ExactDecimal(0.5)));
+	}
 }
@@ -0,0 +1,104 @@
+package edu.kit.ukzgk.exactDecimal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+
+public class FactoredDecimalTest {
+	@Test
+	public void mathMultiply0 () {
+		FactoredDecimal a = new FactoredDecimal(12, 35);
+		FactoredDecimal b = new FactoredDecimal(-49, 18);
+		assertEquals(new ExactDecimal(-14, 15), a.multiply(b).toExactDecimal());
+	}
+	
+	@Test
+	public void mathMultiply1 () {
+		FactoredDecimal a = new FactoredDecimal(3, 7);
+		FactoredDecimal b = FactoredDecimal.ZERO;
+		assertEquals(ExactDecimal.ZERO, a.multiply(b).toExactDecimal());
+	}
+	
+	@Test
+	public void mathMultiply2 () {
+		BigInteger big = BigInteger.valueOf(1031).pow(20);
+		FactoredDecimal a = new FactoredDecimal(
+				new ExactDecimal(big.multiply(BigInteger.valueOf(6)), big.add(BigInteger.ONE)));
+		FactoredDecimal b = new FactoredDecimal(new ExactDecimal(big.add(BigInteger.ONE), big));
+		assertEquals(new ExactDecimal(6), a.multiply(b).toExactDecimal());
+	}
+	
+	@Test
+	public void mathDivide0 () {
+		FactoredDecimal a = new FactoredDecimal(10, 21);
+		FactoredDecimal b = new FactoredDecimal(-15, 14);
+		assertEquals(new ExactDecimal(-4, 9), a.divide(b).toExactDecimal());
+	}
+	
+	@Test
+	public void mathDivide1 () {
+		FactoredDecimal a = new FactoredDecimal(10, 21);
+		FactoredDecimal b = FactoredDecimal.ZERO;
+		assertEquals(ExactDecimal.POSITIVE_INFINITY, a.divide(b).toExactDecimal());
+		assertEquals(ExactDecimal.NOT_A_NUMBER, b.divide(b).toExactDecimal());
+	}
+	
+	@Test
+	public void mathPow0 () {
+		FactoredDecimal a = new FactoredDecimal(-6, 5);
+		assertEquals(new ExactDecimal(-216, 125), a.pow(3).toExactDecimal());
+		assertEquals(new ExactDecimal(25, 36), a.pow(-2).toExactDecimal());
+		assertEquals(ExactDecimal.ONE, a.pow(0).toExactDecimal());
+	}
+	
+	@Test
+	public void mathAdd0 () {
+		FactoredDecimal a = new FactoredDecimal(3, 8);
+		FactoredDecimal b = new FactoredDecimal(5, 12);
+		assertEquals(new ExactDecimal(19, 24), a.add(b).toExactDecimal());
+		assertEquals(new ExactDecimal(-1, 24), a.subtract(b).toExactDecimal());
+	}
+	
+	@Test
+	public void mathAdd1 () {
+		FactoredDecimal a = new FactoredDecimal(3, 8);
+		FactoredDecimal b = new FactoredDecimal(-3, 8);
+		assertEquals(ExactDecimal.ZERO, a.add(b).toExactDecimal());
+		FactoredDecimal c = new FactoredDecimal(ExactDecimal.POSITIVE_INFINITY);
+		FactoredDecimal d = new FactoredDecimal(ExactDecimal.NEGATIVE_INFINITY);
+		assertEquals(ExactDecimal.NOT_A_NUMBER, c.add(d).toExactDecimal());
+	}
+	
+	@Test
+	public void productChain0 () {
+		FactoredDecimal product = FactoredDecimal.ONE;
+		ExactDecimal expected = ExactDecimal.ONE;
+		for (int i = 1; i <= 200; i++) {
+			FactoredDecimal ratio = new FactoredDecimal(i * 7 + 3, i * 11 + 1);
+			product = product.multiply(ratio);
+			expected = expected.multiply(ratio.toExactDecimal());
+		}
+		assertEquals(expected, product.toExactDecimal());
+		assertEquals(expected.hashCode(), product.hashCode());
+	}
+	
+	@Test
+	public void compareTo0 () {
+		FactoredDecimal a = new FactoredDecimal(1, 3).pow(40);
+		FactoredDecimal b = new FactoredDecimal(1, 2).pow(63);
+		assertEquals(-1, a.compareTo(b));
+		assertEquals(1, b.compareTo(a));
+		assertEquals(0, a.compareTo(new FactoredDecimal(3).pow(-40)));
+	}
+	
+	@Test
+	public void equals0 () {
+		FactoredDecimal a = new FactoredDecimal(4, 6);
+		FactoredDecimal b = new FactoredDecimal(2, 3);
+		assertTrue(a.equals(b));
+		assertEquals("0.66", a.toString());
+	}
+}
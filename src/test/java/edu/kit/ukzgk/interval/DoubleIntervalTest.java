@@ -0,0 +1,107 @@
+package edu.kit.ukzgk.interval;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.kit.ukzgk.exactDecimal.ExactDecimal;
+
+public class DoubleIntervalTest {
+	private static double randomBound (Random random) {
+		switch (random.nextInt(8)) {
+			case 0:
+				return 0;
+			case 1:
+				return random.nextInt(9) - 4;
+			default:
+				return random.nextGaussian() * Math.pow(2, random.nextInt(80) - 40);
+		}
+	}
+	
+	/**
+	 * Asserts, that the enclosure is the tightest one of the exact interval.
+	 */
+	private static void assertEncloses (ExactInterval exact, DoubleInterval enclosure) {
+		assertEquals(exact.toString(), DoubleInterval.valueOf(exact), enclosure);
+	}
+	
+	@Test
+	public void arithmetic0 () {
+		Random random = new Random(29);
+		for (int i = 0; i < 3000; i++) {
+			DoubleInterval x = new DoubleInterval(randomBound(random), randomBound(random));
+			DoubleInterval y = new DoubleInterval(randomBound(random), randomBound(random));
+			ExactInterval exactX = x.toExactInterval();
+			ExactInterval exactY = y.toExactInterval();
+			assertEncloses(exactX.add(exactY), x.add(y));
+			assertEncloses(exactX.multiply(exactY), x.multiply(y));
+			assertEncloses(exactX.divide(exactY), x.divide(y));
+			assertEncloses(exactX.subtract(exactY), x.subtract(y));
+			assertEquals(DoubleInterval.valueOf(exactX), x);
+		}
+	}
+	
+	@Test
+	public void arithmetic1 () {
+		// exact sums are not widened
+		assertEquals(new DoubleInterval(1.5, 3.25), new DoubleInterval(1, 2).add(new DoubleInterval(0.5, 1.25)));
+		DoubleInterval tenth = new DoubleInterval(0.1).add(new DoubleInterval(0.2));
+		assertTrue(tenth.toExactInterval().contains(new ExactDecimal(3, 10)));
+		assertEquals(Math.nextUp(tenth.getLowerBound()), tenth.getUpperBound(), 0);
+		DoubleInterval third = new DoubleInterval(1).divide(new DoubleInterval(3));
+		assertTrue(third.toExactInterval().contains(new ExactDecimal(1, 3)));
+		DoubleInterval max = new DoubleInterval(Double.MAX_VALUE);
+		assertEquals(new DoubleInterval(Double.MAX_VALUE, Double.POSITIVE_INFINITY), max.add(max));
+		DoubleInterval tiny = new DoubleInterval(Double.MIN_VALUE).multiply(new DoubleInterval(0.5));
+		assertEquals(new DoubleInterval(0, Double.MIN_VALUE), tiny);
+	}
+	
+	@Test
+	public void special0 () {
+		DoubleInterval positive = new DoubleInterval(0, Double.POSITIVE_INFINITY);
+		assertEquals(positive, positive.multiply(new DoubleInterval(1, 2)));
+		assertEquals(new DoubleInterval(0), new DoubleInterval(0).multiply(DoubleInterval.ENTIRE));
+		assertEquals(new DoubleInterval(0.25, Double.POSITIVE_INFINITY),
+				new DoubleInterval(1, 2).divide(new DoubleInterval(0, 4)));
+		assertEquals(DoubleInterval.ENTIRE, new DoubleInterval(1, 2).divide(new DoubleInterval(-1, 1)));
+		assertTrue(new DoubleInterval(1, 2).divide(new DoubleInterval(0)).isNaN());
+		assertTrue(new DoubleInterval(1, Double.NaN).isNaN());
+		assertTrue(DoubleInterval.NOT_A_NUMBER.add(new DoubleInterval(1)).isNaN());
+	}
+	
+	@Test
+	public void abs0 () {
+		assertEquals(new DoubleInterval(1, 2), new DoubleInterval(-2, -1).abs());
+		assertEquals(new DoubleInterval(0, 3), new DoubleInterval(-2, 3).abs());
+		assertEquals(new DoubleInterval(1, 2), new DoubleInterval(1, 2).abs());
+	}
+	
+	@Test
+	public void sqrt0 () {
+		DoubleInterval root = new DoubleInterval(2, 4).sqrt();
+		assertTrue(root.contains(Math.sqrt(2)));
+		assertTrue(root.getLowerBound() < Math.sqrt(2));
+		assertEquals(2, root.getUpperBound(), 0);
+		ExactDecimal lower = new ExactDecimal(root.getLowerBound());
+		ExactDecimal upper = new ExactDecimal(Math.nextUp(root.getLowerBound()));
+		assertTrue(lower.multiply(lower).compareTo(ExactDecimal.TWO) < 0);
+		assertTrue(upper.multiply(upper).compareTo(ExactDecimal.TWO) > 0);
+		assertEquals(0, new DoubleInterval(-1, 4).sqrt().getLowerBound(), 0);
+		assertTrue(new DoubleInterval(-2, -1).sqrt().isNaN());
+		assertEquals(Double.POSITIVE_INFINITY, new DoubleInterval(1, Double.POSITIVE_INFINITY).sqrt().getUpperBound(), 0);
+	}
+	
+	@Test
+	public void convert0 () {
+		ExactInterval third = new ExactInterval(new ExactDecimal(1, 3), new ExactDecimal(2, 3));
+		DoubleInterval enclosure = DoubleInterval.valueOf(third);
+		assertEquals(1.0 / 3, enclosure.getLowerBound(), 0);
+		assertEquals(Math.nextUp(2.0 / 3), enclosure.getUpperBound(), 0);
+		assertTrue(enclosure.toExactInterval().contains(new ExactDecimal(1, 3)));
+		assertEquals(ExactInterval.ENTIRE, DoubleInterval.ENTIRE.toExactInterval());
+		assertTrue(DoubleInterval.valueOf(ExactInterval.NOT_A_NUMBER).isNaN());
+	}
+}
@@ -0,0 +1,157 @@
+package edu.kit.ukzgk.interval;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.kit.ukzgk.exactDecimal.ExactDecimal;
+
+public class ExactIntervalTest {
+	private static ExactInterval interval (long lower, long upper) {
+		return new ExactInterval(new ExactDecimal(lower), new ExactDecimal(upper));
+	}
+	
+	private static ExactDecimal randomValue (Random random) {
+		return new ExactDecimal(random.nextInt(21) - 10, random.nextInt(4) + 1);
+	}
+	
+	/**
+	 * Returns the hull of all four products or quotients of the bounds.
+	 */
+	private static ExactInterval hull (ExactInterval x, ExactInterval y, boolean divide) {
+		ExactDecimal[] values = new ExactDecimal[4];
+		int i = 0;
+		for (ExactDecimal p : new ExactDecimal[] { x.getLowerBound(), x.getUpperBound() }) {
+			for (ExactDecimal q : new ExactDecimal[] { y.getLowerBound(), y.getUpperBound() }) {
+				values[i++] = divide ? p.divide(q) : p.multiply(q);
+			}
+		}
+		ExactDecimal min = values[0];
+		ExactDecimal max = values[0];
+		for (ExactDecimal value : values) {
+			min = ExactDecimal.min(min, value);
+			max = ExactDecimal.max(max, value);
+		}
+		return new ExactInterval(min, max);
+	}
+	
+	@Test
+	public void multiply0 () {
+		Random random = new Random(17);
+		for (int i = 0; i < 2000; i++) {
+			ExactInterval x = new ExactInterval(randomValue(random), randomValue(random));
+			ExactInterval y = new ExactInterval(randomValue(random), randomValue(random));
+			assertEquals(hull(x, y, false), x.multiply(y));
+			if (y.getLowerBound().signum() > 0 || y.getUpperBound().signum() < 0) {
+				assertEquals(hull(x, y, true), x.divide(y));
+			}
+		}
+	}
+	
+	@Test
+	public void multiply1 () {
+		ExactDecimal infinity = ExactDecimal.POSITIVE_INFINITY;
+		ExactDecimal negativeInfinity = ExactDecimal.NEGATIVE_INFINITY;
+		assertEquals(new ExactInterval(ExactDecimal.ZERO, infinity),
+				new ExactInterval(ExactDecimal.ZERO, infinity).multiply(interval(1, 2)));
+		assertEquals(new ExactInterval(negativeInfinity, new ExactDecimal(2)),
+				interval(0, 2).multiply(new ExactInterval(negativeInfinity, ExactDecimal.ONE)));
+		assertEquals(interval(0, 0), interval(0, 0).multiply(ExactInterval.ENTIRE));
+		assertEquals(ExactInterval.ENTIRE, interval(-1, 1).multiply(ExactInterval.ENTIRE));
+		assertEquals(new ExactInterval(ExactDecimal.ZERO, infinity),
+				interval(-1, 0).multiply(new ExactInterval(negativeInfinity, new ExactDecimal(-1))));
+		assertTrue(interval(1, 2).multiply(ExactInterval.NOT_A_NUMBER).isNaN());
+	}
+	
+	@Test
+	public void divide0 () {
+		ExactDecimal infinity = ExactDecimal.POSITIVE_INFINITY;
+		ExactDecimal negativeInfinity = ExactDecimal.NEGATIVE_INFINITY;
+		assertEquals(new ExactInterval(new ExactDecimal(1, 4), infinity), interval(1, 2).divide(interval(0, 4)));
+		assertEquals(new ExactInterval(negativeInfinity, new ExactDecimal(-1, 4)),
+				interval(1, 2).divide(interval(-4, 0)));
+		assertEquals(new ExactInterval(negativeInfinity, new ExactDecimal(-1, 4)),
+				interval(-2, -1).divide(interval(0, 4)));
+		assertEquals(new ExactInterval(new ExactDecimal(1, 4), infinity), interval(-2, -1).divide(interval(-4, 0)));
+		assertEquals(ExactInterval.ENTIRE, interval(1, 2).divide(interval(-1, 1)));
+		assertEquals(ExactInterval.ENTIRE, interval(-1, 2).divide(interval(0, 1)));
+		assertEquals(interval(0, 0), interval(0, 0).divide(interval(-1, 1)));
+		assertTrue(interval(1, 2).divide(interval(0, 0)).isNaN());
+		assertEquals(new ExactInterval(ExactDecimal.ZERO, new ExactDecimal(2)),
+				interval(1, 2).divide(new ExactInterval(ExactDecimal.ONE, infinity)));
+		assertEquals(new ExactInterval(ExactDecimal.ZERO, infinity),
+				new ExactInterval(ExactDecimal.ZERO, infinity).divide(interval(1, 2)));
+	}
+	
+	@Test
+	public void divide1 () {
+		ExactDecimal infinity = ExactDecimal.POSITIVE_INFINITY;
+		ExactDecimal negativeInfinity = ExactDecimal.NEGATIVE_INFINITY;
+		ExactDecimal third = new ExactDecimal(1, 3);
+		assertEquals(new ExactInterval(negativeInfinity, third.negate()),
+				new ExactInterval(ExactDecimal.ONE, infinity).divide(interval(-3, -2)));
+		assertEquals(new ExactInterval(third, infinity),
+				new ExactInterval(negativeInfinity, new ExactDecimal(-1)).divide(interval(-3, -2)));
+		assertEquals(new ExactInterval(negativeInfinity, new ExactDecimal(1, 2)),
+				new ExactInterval(new ExactDecimal(-1), infinity).divide(interval(-3, -2)));
+		assertEquals(ExactInterval.ENTIRE, ExactInterval.ENTIRE.divide(interval(-3, -2)));
+		assertEquals(new ExactInterval(negativeInfinity, ExactDecimal.ZERO),
+				new ExactInterval(ExactDecimal.ZERO, infinity).divide(interval(-3, -2)));
+		// divisors containing zero
+		assertEquals(ExactInterval.ENTIRE, new ExactInterval(ExactDecimal.ONE, infinity).divide(interval(-3, 2)));
+		assertEquals(new ExactInterval(negativeInfinity, new ExactDecimal(-1, 2)),
+				new ExactInterval(ExactDecimal.ONE, infinity).divide(interval(-2, 0)));
+		assertEquals(new ExactInterval(new ExactDecimal(1, 2), infinity),
+				new ExactInterval(negativeInfinity, new ExactDecimal(-1)).divide(interval(-2, 0)));
+	}
+	
+	@Test
+	public void subtract0 () {
+		assertEquals(interval(-2, 2), interval(1, 2).subtract(interval(0, 3)));
+		assertEquals(interval(0, 3), interval(-2, 3).abs());
+		assertEquals(interval(2, 3), interval(-3, -2).abs());
+		assertEquals(interval(1, 2), interval(1, 2).abs());
+	}
+	
+	@Test
+	public void precision0 () {
+		IntervalPrecision precision = IntervalPrecision.denominatorBits(2);
+		ExactInterval third = new ExactInterval(new ExactDecimal(1, 3)).withPrecision(precision);
+		assertEquals(new ExactInterval(new ExactDecimal(1, 3)), third);
+		ExactInterval sum = third.add(new ExactInterval(new ExactDecimal(1, 5)));
+		assertEquals(new ExactInterval(new ExactDecimal(1, 2), new ExactDecimal(2, 3)), sum);
+		
+		ExactInterval dyadic = new ExactInterval(new ExactDecimal(1, 3))
+				.withPrecision(IntervalPrecision.significantBits(4));
+		assertEquals(new ExactInterval(new ExactDecimal(10, 32), new ExactDecimal(11, 32)), dyadic);
+		// [41/32, 75/32] is rounded to [5/4, 5/2], then [29/32, 35/16] to [7/8, 9/4]
+		assertEquals(new ExactInterval(new ExactDecimal(7, 8), new ExactDecimal(9, 4)),
+				dyadic.add(interval(1, 2)).subtract(dyadic));
+		assertEquals(IntervalPrecision.EXACT, interval(1, 2).getPrecision());
+	}
+	
+	/**
+	 * Iterates the map x -> x^2 / 4 + 1 / 3, whose exact bounds double in size with every step.
+	 */
+	@Test
+	public void precision1 () {
+		ExactInterval quarter = new ExactInterval(new ExactDecimal(1, 4));
+		ExactInterval third = new ExactInterval(new ExactDecimal(1, 3));
+		ExactInterval exact = new ExactInterval(new ExactDecimal(1, 5), new ExactDecimal(2, 5));
+		ExactInterval rounded = exact.withPrecision(IntervalPrecision.significantBits(64));
+		for (int i = 0; i < 8; i++) {
+			exact = exact.multiply(exact).multiply(quarter).add(third);
+			rounded = rounded.multiply(rounded).multiply(quarter).add(third);
+			assertTrue(rounded.contains(exact.getLowerBound()));
+			assertTrue(rounded.contains(exact.getUpperBound()));
+		}
+		for (int i = 0; i < 200; i++) {
+			rounded = rounded.multiply(rounded).multiply(quarter).add(third);
+			assertTrue(rounded.getLowerBound().getDenominator().bitLength() <= 200);
+			assertTrue(rounded.getUpperBound().getDenominator().bitLength() <= 200);
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package edu.kit.ukzgk.interval;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import edu.kit.ukzgk.exactDecimal.ExactDecimal;
+
+public class ExactIntervalUnionTest {
+	private static final ExactDecimal INFINITY = ExactDecimal.POSITIVE_INFINITY;
+	private static final ExactDecimal NEGATIVE_INFINITY = ExactDecimal.NEGATIVE_INFINITY;
+	
+	private static ExactInterval interval (long lower, long upper) {
+		return new ExactInterval(new ExactDecimal(lower), new ExactDecimal(upper));
+	}
+	
+	@Test
+	public void extendedDivide0 () {
+		ExactIntervalUnion union = interval(1, 2).extendedDivide(interval(-4, 2));
+		assertEquals(2, union.size());
+		assertEquals(new ExactInterval(NEGATIVE_INFINITY, new ExactDecimal(-1, 4)), union.get(0));
+		assertEquals(new ExactInterval(new ExactDecimal(1, 2), INFINITY), union.get(1));
+		assertFalse(union.contains(ExactDecimal.ZERO));
+		assertTrue(union.contains(new ExactDecimal(-1, 4)));
+		assertEquals(ExactInterval.ENTIRE, union.hull());
+		
+		union = interval(-2, -1).extendedDivide(interval(-4, 2));
+		assertEquals(new ExactInterval(NEGATIVE_INFINITY, new ExactDecimal(-1, 2)), union.get(0));
+		assertEquals(new ExactInterval(new ExactDecimal(1, 4), INFINITY), union.get(1));
+	}
+	
+	@Test
+	public void extendedDivide1 () {
+		assertEquals(new ExactIntervalUnion(new ExactInterval(new ExactDecimal(1, 4), INFINITY)),
+				interval(1, 2).extendedDivide(interval(0, 4)));
+		assertEquals(new ExactIntervalUnion(new ExactInterval(new ExactDecimal(1, 4), INFINITY)),
+				interval(-2, -1).extendedDivide(interval(-4, 0)));
+		assertEquals(new ExactIntervalUnion(ExactInterval.ENTIRE), interval(-1, 2).extendedDivide(interval(-1, 1)));
+		assertEquals(new ExactIntervalUnion(ExactInterval.ENTIRE), interval(0, 0).extendedDivide(interval(0, 0)));
+		assertTrue(interval(1, 2).extendedDivide(interval(0, 0)).isEmpty());
+		assertEquals(new ExactIntervalUnion(interval(1, 2).divide(interval(4, 8))),
+				interval(1, 2).extendedDivide(interval(4, 8)));
+		assertEquals(new ExactIntervalUnion(new ExactInterval(NEGATIVE_INFINITY, new ExactDecimal(-1, 3))),
+				new ExactInterval(ExactDecimal.ONE, INFINITY).extendedDivide(interval(-3, -2)));
+		ExactIntervalUnion union = interval(1, 2).extendedDivide(new ExactInterval(NEGATIVE_INFINITY, INFINITY));
+		assertEquals(new ExactInterval(NEGATIVE_INFINITY, ExactDecimal.ZERO), union.get(0));
+		assertEquals(new ExactInterval(ExactDecimal.ZERO, INFINITY), union.get(1));
+	}
+	
+	@Test
+	public void intersect0 () {
+		// one Newton step for x^2 - 2 on [1, 2], where the derivative [2, 4] is widened to contain zero
+		ExactIntervalUnion union = interval(1, 2).extendedDivide(interval(-1, 4));
+		ExactIntervalUnion pruned = union.intersect(interval(-3, 3));
+		assertEquals(2, pruned.size());
+		assertEquals(interval(-3, -1), pruned.get(0));
+		assertEquals(new ExactInterval(new ExactDecimal(1, 4), new ExactDecimal(3)), pruned.get(1));
+		assertEquals(new ExactIntervalUnion(interval(-3, -1)), union.intersect(interval(-3, 0)));
+		assertTrue(union.intersect(new ExactInterval(new ExactDecimal(-1, 2), new ExactDecimal(1, 8))).isEmpty());
+		assertEquals(0, ExactIntervalUnion.EMPTY.size());
+		assertEquals("[]", ExactIntervalUnion.EMPTY.toString());
+	}
+	
+	@Test
+	public void precision0 () {
+		IntervalPrecision precision = IntervalPrecision.denominatorBits(2);
+		ExactInterval dividend = interval(1, 2).withPrecision(precision);
+		ExactIntervalUnion union = dividend.extendedDivide(interval(-3, 4));
+		assertEquals(precision, union.get(0).getPrecision());
+		assertEquals(precision, union.hull().getPrecision());
+		// the quotient 1/4 needs three denominator bits and is rounded down to zero
+		ExactIntervalUnion pruned = union.intersect(new ExactInterval(new ExactDecimal(-3), new ExactDecimal(3, 2)));
+		assertEquals(new ExactInterval(new ExactDecimal(-3), new ExactDecimal(-1, 3)), pruned.get(0));
+		assertEquals(new ExactInterval(ExactDecimal.ZERO, new ExactDecimal(3, 2)), pruned.get(1));
+		assertEquals(precision, pruned.get(1).getPrecision());
+		assertEquals(precision, pruned.hull().getPrecision());
+		
+		union = interval(-1, 2).extendedDivide(interval(-1, 1).withPrecision(precision));
+		assertEquals(precision, union.get(0).getPrecision());
+		assertEquals(precision, union.intersect(interval(-1, 1)).get(0).getPrecision());
+	}
+	
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void get0 () {
+		new ExactIntervalUnion(interval(1, 2)).get(1);
+	}
+}
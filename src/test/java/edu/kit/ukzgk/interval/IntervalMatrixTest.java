@@ -0,0 +1,52 @@
+package edu.kit.ukzgk.interval;
+
+import static edu.kit.ukzgk.interval.IntervalVectorTest.assertEncloses;
+import static edu.kit.ukzgk.interval.IntervalVectorTest.floating;
+import static edu.kit.ukzgk.interval.IntervalVectorTest.randomIntervals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.kit.ukzgk.exactDecimal.ExactDecimal;
+
+public class IntervalMatrixTest {
+	@Test
+	public void multiply0 () {
+		Random random = new Random(41);
+		int rows = 9;
+		int columns = 40;
+		ExactInterval[] entries = randomIntervals(random, rows * columns);
+		ExactInterval[] x = randomIntervals(random, columns);
+		IntervalMatrix exact = IntervalMatrix.valueOf(rows, columns, entries);
+		IntervalVector floatingEntries = floating(entries);
+		double[] lowerBounds = new double[entries.length];
+		double[] upperBounds = new double[entries.length];
+		for (int k = 0; k < entries.length; k++) {
+			ExactInterval entry = floatingEntries.get(k);
+			lowerBounds[k] = entry.getLowerBound().doubleValue();
+			upperBounds[k] = entry.getUpperBound().doubleValue();
+		}
+		IntervalMatrix floatingMatrix = new IntervalMatrix(rows, columns, lowerBounds, upperBounds);
+		IntervalVector product = exact.multiply(IntervalVector.valueOf(x));
+		IntervalVector floatingProduct = floatingMatrix.multiply(floating(x));
+		assertEquals(rows, product.getDimension());
+		for (int i = 0; i < rows; i++) {
+			ExactInterval sum = new ExactInterval(ExactDecimal.ZERO);
+			for (int j = 0; j < columns; j++) {
+				assertEquals(entries[i * columns + j], exact.get(i, j));
+				sum = sum.add(entries[i * columns + j].multiply(x[j]));
+			}
+			assertEquals(sum, product.get(i));
+			assertEncloses(sum, floatingProduct.get(i));
+		}
+		assertEquals(exact.scale(new ExactInterval(ExactDecimal.TWO)), exact.add(exact));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void multiply1 () {
+		new IntervalMatrix(2, 2, new double[4], new double[4]).multiply(new IntervalVector(new double[3],
+				new double[3]));
+	}
+}
@@ -0,0 +1,93 @@
+package edu.kit.ukzgk.interval;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+import org.junit.Test;
+
+import edu.kit.ukzgk.exactDecimal.ExactDecimal;
+import edu.kit.ukzgk.interval.number.ContextDecimal;
+import edu.kit.ukzgk.interval.number.DoubleNumber;
+import edu.kit.ukzgk.interval.number.LongRational;
+import edu.kit.ukzgk.interval.number.Number;
+
+public class IntervalTest {
+	private static final MathContext CONTEXT = new MathContext(5);
+	
+	private static ExactDecimal exact (ContextDecimal value) {
+		BigDecimal decimal = value.getValue();
+		if (decimal.scale() < 0) {
+			return new ExactDecimal(decimal.unscaledValue().multiply(BigInteger.TEN.pow(-decimal.scale())),
+					BigInteger.ONE);
+		}
+		return new ExactDecimal(decimal.unscaledValue(), BigInteger.TEN.pow(decimal.scale()));
+	}
+	
+	/**
+	 * Checks, that every operation on random intervals of a backend encloses the exact result.
+	 */
+	private static <T extends Number<T>> void encloses (LongFunction<T> of, Function<T, ExactDecimal> exact) {
+		Random random = new Random(23);
+		for (int i = 0; i < 2000; i++) {
+			long[] values = new long[4];
+			for (int j = 0; j < values.length; j++) {
+				values[j] = random.nextInt(2001) - 1000;
+			}
+			Interval<T> x = new Interval<>(of.apply(values[0]), of.apply(values[1]));
+			Interval<T> y = new Interval<>(of.apply(values[2]), of.apply(values[3]));
+			// thirds are inexact for most backends
+			Interval<T> third = new Interval<>(of.apply(1)).divide(new Interval<>(of.apply(3)));
+			x = x.multiply(third);
+			ExactInterval exactX = new ExactInterval(exact.apply(x.getLowerBound()), exact.apply(x.getUpperBound()));
+			ExactInterval exactY = new ExactInterval(exact.apply(y.getLowerBound()), exact.apply(y.getUpperBound()));
+			assertEncloses(exactX.add(exactY), x.add(y), exact);
+			assertEncloses(exactX.subtract(exactY), x.subtract(y), exact);
+			assertEncloses(exactX.multiply(exactY), x.multiply(y), exact);
+			assertEncloses(exactX.abs(), x.abs(), exact);
+			if (y.getLowerBound().intSign() > 0 || y.getUpperBound().intSign() < 0) {
+				assertEncloses(exactX.divide(exactY), x.divide(y), exact);
+			}
+		}
+	}
+	
+	private static <T extends Number<T>> void assertEncloses (ExactInterval expected, Interval<T> actual,
+			Function<T, ExactDecimal> exact) {
+		assertTrue(actual + " does not enclose " + expected,
+				exact.apply(actual.getLowerBound()).compareTo(expected.getLowerBound()) <= 0
+						&& expected.getUpperBound().compareTo(exact.apply(actual.getUpperBound())) <= 0);
+	}
+	
+	@Test
+	public void interval0 () {
+		encloses(ExactDecimal::new, value -> value);
+		encloses(LongRational::new, value -> new ExactDecimal(value.getNumerator(), value.getDenominator()));
+		encloses(value -> new ContextDecimal(BigDecimal.valueOf(value), CONTEXT), IntervalTest::exact);
+		encloses(value -> new DoubleNumber(value), value -> new ExactDecimal(value.doubleValue()));
+	}
+	
+	@Test
+	public void interval1 () {
+		Interval<ExactDecimal> x = new Interval<>(new ExactDecimal(2), new ExactDecimal(-1));
+		Interval<ExactDecimal> y = new Interval<>(new ExactDecimal(3), new ExactDecimal(4));
+		assertEquals(new Interval<>(new ExactDecimal(-1), new ExactDecimal(2)), x);
+		assertEquals(new Interval<>(new ExactDecimal(-10), new ExactDecimal(0)), x.subtract(y).multiply(x.abs()));
+		assertEquals(new Interval<>(new ExactDecimal(-1, 6), new ExactDecimal(1, 3)), x.divide(y.add(y)));
+		
+		Interval<ContextDecimal> third = new Interval<>(new ContextDecimal(BigDecimal.ONE, CONTEXT))
+				.divide(new Interval<>(new ContextDecimal(BigDecimal.valueOf(3), CONTEXT)));
+		assertEquals(new BigDecimal("0.33333"), third.getLowerBound().getValue());
+		assertEquals(new BigDecimal("0.33334"), third.getUpperBound().getValue());
+	}
+	
+	@Test(expected = ArithmeticException.class)
+	public void interval2 () {
+		new Interval<>(LongRational.ONE).divide(new Interval<>(LongRational.MINUS_ONE, LongRational.ONE));
+	}
+}
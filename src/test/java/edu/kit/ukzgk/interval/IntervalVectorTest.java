@@ -0,0 +1,107 @@
+package edu.kit.ukzgk.interval;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.kit.ukzgk.exactDecimal.ExactDecimal;
+
+public class IntervalVectorTest {
+	static ExactInterval[] randomIntervals (Random random, int length) {
+		ExactInterval[] intervals = new ExactInterval[length];
+		for (int i = 0; i < length; i++) {
+			intervals[i] = new ExactInterval(new ExactDecimal(random.nextInt(201) - 100, random.nextInt(7) + 1),
+					new ExactDecimal(random.nextInt(201) - 100, random.nextInt(7) + 1));
+		}
+		return intervals;
+	}
+	
+	/**
+	 * Converts intervals to the floating backend, rounding outward.
+	 */
+	static IntervalVector floating (ExactInterval[] intervals) {
+		double[] lowerBounds = new double[intervals.length];
+		double[] upperBounds = new double[intervals.length];
+		for (int i = 0; i < intervals.length; i++) {
+			lowerBounds[i] = intervals[i].getLowerBound().doubleValueDown();
+			upperBounds[i] = intervals[i].getUpperBound().doubleValueUp();
+		}
+		return new IntervalVector(lowerBounds, upperBounds);
+	}
+	
+	static void assertEncloses (ExactInterval expected, ExactInterval actual) {
+		assertTrue(actual + " does not enclose " + expected,
+				actual.contains(expected.getLowerBound()) && actual.contains(expected.getUpperBound()));
+	}
+	
+	@Test
+	public void vector0 () {
+		Random random = new Random(37);
+		ExactInterval[] x = randomIntervals(random, 100);
+		ExactInterval[] y = randomIntervals(random, 100);
+		ExactInterval factor = randomIntervals(random, 1)[0];
+		IntervalVector exactX = IntervalVector.valueOf(x);
+		IntervalVector exactY = IntervalVector.valueOf(y);
+		IntervalVector floatingX = floating(x);
+		IntervalVector floatingY = floating(y);
+		IntervalVector sum = exactX.add(exactY);
+		IntervalVector scaled = exactX.scale(factor);
+		IntervalVector floatingSum = floatingX.add(floatingY);
+		IntervalVector floatingScaled = floatingX.scale(factor);
+		ExactInterval dot = new ExactInterval(ExactDecimal.ZERO);
+		for (int i = 0; i < x.length; i++) {
+			assertEquals(x[i], exactX.get(i));
+			assertEquals(x[i].add(y[i]), sum.get(i));
+			assertEquals(x[i].multiply(factor), scaled.get(i));
+			assertEncloses(x[i].add(y[i]), floatingSum.get(i));
+			assertEncloses(x[i].multiply(factor), floatingScaled.get(i));
+			dot = dot.add(x[i].multiply(y[i]));
+		}
+		assertEquals(dot, exactX.dot(exactY));
+		assertEncloses(dot, floatingX.dot(floatingY));
+		assertTrue(exactX.isExact());
+		assertTrue(!floatingX.isExact());
+	}
+	
+	@Test
+	public void vector1 () {
+		// bounds, that do not fit into long fractions, are rounded outward
+		ExactDecimal tiny = new ExactDecimal(1, Long.MAX_VALUE).multiply(new ExactDecimal(1, 3));
+		IntervalVector vector = IntervalVector.valueOf(new ExactInterval(tiny.negate(), tiny));
+		assertEncloses(new ExactInterval(tiny.negate(), tiny), vector.get(0));
+		IntervalVector product = vector.scale(new ExactInterval(tiny));
+		assertEncloses(new ExactInterval(tiny.multiply(tiny).negate(), tiny.multiply(tiny)), product.get(0));
+		assertEquals("([1.00, 2.00], [-0.50, 0.50])", new IntervalVector(new double[] { 1, -0.5 },
+				new double[] { 2, 0.5 }).toString());
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void vector2 () {
+		IntervalVector.valueOf(new ExactInterval(ExactDecimal.ONE)).add(new IntervalVector(new double[] { 1 },
+				new double[] { 1 }));
+	}
+	
+	@Test(expected = ArithmeticException.class)
+	public void vector3 () {
+		IntervalVector.valueOf(ExactInterval.ENTIRE);
+	}
+	
+	@Test
+	public void vector4 () {
+		// the denominators of the sum do not fit into a long, so the dot product is rounded outward
+		ExactInterval[] x = new ExactInterval[4];
+		ExactInterval[] y = new ExactInterval[4];
+		ExactInterval dot = new ExactInterval(ExactDecimal.ZERO);
+		for (int i = 0; i < x.length; i++) {
+			long denominator = (1L << 20) + 2 * i + 1;
+			x[i] = new ExactInterval(new ExactDecimal(-1, denominator), new ExactDecimal(2, denominator));
+			y[i] = new ExactInterval(new ExactDecimal(1, denominator + 2), new ExactDecimal(3, denominator + 4));
+			dot = dot.add(x[i].multiply(y[i]));
+		}
+		assertEncloses(dot, IntervalVector.valueOf(x).dot(IntervalVector.valueOf(y)));
+		assertEquals(x[0].multiply(y[0]), IntervalVector.valueOf(x[0]).dot(IntervalVector.valueOf(y[0])));
+	}
+}
@@ -0,0 +1,102 @@
+package edu.kit.ukzgk.interval;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.kit.ukzgk.exactDecimal.ExactDecimal;
+
+public class MidRadIntervalTest {
+	private static void assertEncloses (ExactInterval expected, MidRadInterval actual) {
+		ExactInterval enclosure = actual.toExactInterval();
+		assertTrue(actual + " does not enclose " + expected, enclosure.contains(expected.getLowerBound())
+				&& enclosure.contains(expected.getUpperBound()));
+	}
+	
+	private static MidRadInterval randomInterval (Random random) {
+		double midpoint = random.nextGaussian() * Math.scalb(1.0, random.nextInt(40) - 20);
+		return new MidRadInterval(midpoint, Math.abs(midpoint) * Math.scalb(random.nextDouble(), -30));
+	}
+	
+	@Test
+	public void midRad0 () {
+		Random random = new Random(29);
+		for (int i = 0; i < 2000; i++) {
+			MidRadInterval x = randomInterval(random);
+			MidRadInterval y = randomInterval(random);
+			ExactInterval exactX = x.toExactInterval();
+			ExactInterval exactY = y.toExactInterval();
+			assertEncloses(exactX.add(exactY), x.add(y));
+			assertEncloses(exactX.subtract(exactY), x.subtract(y));
+			assertEncloses(exactX.multiply(exactY), x.multiply(y));
+			assertEncloses(exactX, MidRadInterval.valueOf(exactX));
+		}
+	}
+	
+	@Test
+	public void midRad1 () {
+		ExactInterval third = new ExactInterval(new ExactDecimal(1, 3));
+		MidRadInterval x = MidRadInterval.valueOf(third);
+		assertEquals(1.0 / 3, x.getMidpoint(), 0.0);
+		assertTrue(x.getRadius() > 0 && x.getRadius() <= Math.ulp(1.0 / 3));
+		assertEncloses(third, x);
+		assertEquals(new MidRadInterval(3, 0), new MidRadInterval(1).add(new MidRadInterval(2)));
+		assertEquals(new MidRadInterval(0.5, 1.5), MidRadInterval.valueOf(new ExactInterval(new ExactDecimal(-1),
+				new ExactDecimal(2))));
+		assertEquals(MidRadInterval.ENTIRE, MidRadInterval.valueOf(ExactInterval.ENTIRE));
+		// zero times the entire line is zero, widened only by the underflow bound
+		assertTrue(MidRadInterval.ENTIRE.multiply(new MidRadInterval(0.0)).getRadius() < 0x1p-1000);
+		assertTrue(MidRadInterval.NOT_A_NUMBER.toExactInterval().isNaN());
+		// overflowing midpoints result in the entire line, which contains zero times anything
+		MidRadInterval huge = new MidRadInterval(1e200);
+		assertEquals(MidRadInterval.ENTIRE, huge.multiply(huge));
+		assertTrue(huge.multiply(huge).multiply(new MidRadInterval(0.0)).getRadius() < 0x1p-1000);
+	}
+	
+	@Test
+	public void multiply0 () {
+		Random random = new Random(31);
+		int rows = 7;
+		int columns = 50;
+		double[] matrixMidpoints = new double[rows * columns];
+		double[] matrixRadii = new double[rows * columns];
+		double[] vectorMidpoints = new double[columns];
+		double[] vectorRadii = new double[columns];
+		MidRadInterval[] matrix = new MidRadInterval[rows * columns];
+		MidRadInterval[] vector = new MidRadInterval[columns];
+		for (int k = 0; k < matrix.length; k++) {
+			matrix[k] = randomInterval(random);
+			matrixMidpoints[k] = matrix[k].getMidpoint();
+			matrixRadii[k] = matrix[k].getRadius();
+		}
+		for (int j = 0; j < columns; j++) {
+			vector[j] = randomInterval(random);
+			vectorMidpoints[j] = vector[j].getMidpoint();
+			vectorRadii[j] = vector[j].getRadius();
+		}
+		double[] resultMidpoints = new double[rows];
+		double[] resultRadii = new double[rows];
+		MidRadInterval.multiply(matrixMidpoints, matrixRadii, rows, columns, vectorMidpoints, vectorRadii,
+				resultMidpoints, resultRadii);
+		for (int i = 0; i < rows; i++) {
+			ExactInterval sum = new ExactInterval(ExactDecimal.ZERO);
+			for (int j = 0; j < columns; j++) {
+				sum = sum.add(matrix[i * columns + j].toExactInterval().multiply(vector[j].toExactInterval()));
+			}
+			assertEncloses(sum, new MidRadInterval(resultMidpoints[i], resultRadii[i]));
+			// the radius is not much wider than the exact one
+			ExactDecimal width = sum.getUpperBound().subtract(sum.getLowerBound());
+			assertTrue(resultRadii[i] <= 1.01 * width.doubleValue() / 2 + 1e-10 * Math.abs(resultMidpoints[i]));
+		}
+	}
+	
+	@Test (expected = IllegalArgumentException.class)
+	public void multiply1 () {
+		double[] vector = { 1.0, 2.0 };
+		double[] radii = new double[2];
+		MidRadInterval.multiply(new double[4], new double[4], 2, 2, vector, radii, vector, new double[2]);
+	}
+}
@@ -0,0 +1,81 @@
+package edu.kit.ukzgk.interval.number;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+
+public class LongRationalTest {
+	private static BigInteger big (long value) {
+		return BigInteger.valueOf(value);
+	}
+	
+	/**
+	 * Compares a {@link LongRational} to the fraction {@code numerator / denominator} with positive denominator.
+	 */
+	private static int compare (LongRational value, BigInteger numerator, BigInteger denominator) {
+		return big(value.getNumerator()).multiply(denominator)
+				.compareTo(numerator.multiply(big(value.getDenominator())));
+	}
+	
+	@Test
+	public void longRational0 () {
+		assertEquals(new LongRational(-3, 2), new LongRational(6, -4));
+		assertEquals(LongRational.ONE, new LongRational(1, 3).add(new LongRational(2, 3)));
+		assertEquals(new LongRational(1, 6), new LongRational(1, 2).subtract(new LongRational(1, 3)));
+		assertEquals(new LongRational(-2, 9), new LongRational(1, 3).multiply(new LongRational(-2, 3)));
+		assertEquals(new LongRational(-1, 2), new LongRational(1, 3).divide(new LongRational(-2, 3)));
+		assertEquals(new LongRational(3, 1), new LongRational(1, 3).reciprocate());
+		assertEquals(-1, new LongRational(1, 3).compareTo(new LongRational(1, 2)));
+		assertEquals("-3/2", new LongRational(-3, 2).toString());
+		assertEquals("7", new LongRational(7).toString());
+	}
+	
+	@Test
+	public void longRational1 () {
+		long large = (1L << 40) + 1;
+		LongRational x = new LongRational(1, large);
+		LongRational y = new LongRational(-3, large - 2);
+		for (LongRational[] operands : new LongRational[][] { { x, x }, { x, y }, { y, x } }) {
+			LongRational a = operands[0];
+			LongRational b = operands[1];
+			BigInteger numerator = big(a.getNumerator()).multiply(big(b.getNumerator()));
+			BigInteger denominator = big(a.getDenominator()).multiply(big(b.getDenominator()));
+			assertTrue(compare(a.multiplyDown(b), numerator, denominator) <= 0);
+			assertTrue(compare(a.multiplyUp(b), numerator, denominator) >= 0);
+			// the rounded bounds are at most 2^-62 apart
+			LongRational width = a.multiplyUp(b).subtract(a.multiplyDown(b));
+			assertTrue(width.compareTo(new LongRational(1, 1L << 62)) <= 0);
+			
+			numerator = big(a.getNumerator()).multiply(big(b.getDenominator()))
+					.add(big(b.getNumerator()).multiply(big(a.getDenominator())));
+			assertTrue(compare(a.addDown(b), numerator, denominator) <= 0);
+			assertTrue(compare(a.addUp(b), numerator, denominator) >= 0);
+		}
+	}
+	
+	@Test(expected = ArithmeticException.class)
+	public void longRational2 () {
+		LongRational x = new LongRational(1, (1L << 40) + 1);
+		x.multiply(x);
+	}
+	
+	@Test(expected = ArithmeticException.class)
+	public void longRational3 () {
+		new LongRational(Long.MAX_VALUE).addUp(LongRational.ONE);
+	}
+	
+	@Test
+	public void longRational4 () {
+		LongRational x = new LongRational(Long.MIN_VALUE, 6);
+		assertEquals(new LongRational(Long.MIN_VALUE / 2, 3), x);
+		assertEquals(new LongRational(Long.MIN_VALUE / 2, 3).hashCode(), x.hashCode());
+		assertEquals(Long.MIN_VALUE / 2, x.getNumerator());
+		assertEquals(3, x.getDenominator());
+		assertEquals(new LongRational(1L << 62), new LongRational(Long.MIN_VALUE, -2));
+		assertEquals(LongRational.ONE, new LongRational(Long.MIN_VALUE, Long.MIN_VALUE));
+		assertEquals(LongRational.ZERO, new LongRational(0, Long.MIN_VALUE));
+	}
+}